@@ -0,0 +1,134 @@
+package com.challenge.movies;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.challenge.movies.application.service.AsyncMoviesService;
+import com.challenge.movies.application.service.CatalogService;
+import com.challenge.movies.application.service.DirectorService;
+import com.challenge.movies.domain.model.Movie;
+import com.challenge.movies.domain.model.MoviesResponse;
+import com.challenge.movies.domain.port.CachePort;
+import com.challenge.movies.domain.port.MoviesPort;
+import com.challenge.movies.domain.port.UpstreamRateLimitPort;
+
+// Deterministic in-memory catalog for benchmarks; director popularity is skewed like the real API
+public final class SyntheticCatalog {
+
+  private static final String[] GENRES = {"Drama", "Comedy", "Crime", "Action", "Horror"};
+
+  private SyntheticCatalog() {}
+
+  public static List<Movie> movies(int count, int directors) {
+    SplittableRandom random = new SplittableRandom(42);
+    List<Movie> movies = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int director = (int) Math.floor(directors * Math.pow(random.nextDouble(), 3));
+      int year = 1950 + random.nextInt(75);
+      movies.add(
+          new Movie(
+              "Movie " + i,
+              year,
+              "PG-13",
+              "01 Jan " + year,
+              (80 + random.nextInt(100)) + " min",
+              GENRES[random.nextInt(GENRES.length)],
+              "Director " + director,
+              "Writer " + random.nextInt(directors * 2),
+              "Actor " + random.nextInt(directors * 4) + ", Actor " + random.nextInt(directors * 4)));
+    }
+    return movies;
+  }
+
+  // A CatalogService whose snapshot is already warm, so benchmarks measure only request handling
+  public static CatalogService warmCatalogService(List<Movie> movies) {
+    MoviesPort moviesPort = page -> new MoviesResponse(1, movies.size(), movies.size(), 1, movies);
+    CachePort cachePort = new NoOpCachePort();
+    UpstreamRateLimitPort upstreamRateLimitPort = () -> {};
+    AsyncMoviesService asyncMoviesService =
+        new AsyncMoviesService(moviesPort, cachePort, upstreamRateLimitPort);
+    CatalogService catalogService =
+        new CatalogService(moviesPort, asyncMoviesService, cachePort, upstreamRateLimitPort);
+    ReflectionTestUtils.setField(catalogService, "cacheKeyPrefix", "movies:page:");
+    ReflectionTestUtils.setField(catalogService, "snapshotTtlSeconds", Long.MAX_VALUE / 2_000);
+    ReflectionTestUtils.setField(catalogService, "partialLatencyBudgetMs", 2_000L);
+    catalogService.getSnapshot();
+    return catalogService;
+  }
+
+  // Wired like the application: indexes are built on the pool only above parallelThresholdRows
+  public static DirectorService directorService(
+      CatalogService catalogService, ForkJoinPool aggregationPool, int parallelThresholdRows) {
+    DirectorService directorService = new DirectorService(catalogService, aggregationPool);
+    ReflectionTestUtils.setField(directorService, "parallelThresholdRows", parallelThresholdRows);
+    return directorService;
+  }
+
+  public static DirectorService directorService(CatalogService catalogService) {
+    return directorService(catalogService, ForkJoinPool.commonPool(), 250_000);
+  }
+
+  // A cold CatalogService over a paged upstream that takes upstreamLatencyMs per page; page
+  // fetches run on fetchExecutor the way @Async runs them on moviesTaskExecutor
+  public static CatalogService slowUpstreamCatalogService(
+      List<Movie> movies, int pages, long upstreamLatencyMs, Executor fetchExecutor) {
+    int perPage = (movies.size() + pages - 1) / pages;
+    MoviesPort moviesPort =
+        page -> {
+          sleep(upstreamLatencyMs);
+          List<Movie> data =
+              movies.subList((page - 1) * perPage, Math.min(movies.size(), page * perPage));
+          return new MoviesResponse(page, perPage, movies.size(), pages, data);
+        };
+    CachePort cachePort = new NoOpCachePort();
+    UpstreamRateLimitPort upstreamRateLimitPort = () -> {};
+    AsyncMoviesService asyncMoviesService =
+        new AsyncMoviesService(moviesPort, cachePort, upstreamRateLimitPort) {
+          @Override
+          public CompletableFuture<MoviesResponse> getMoviesByPageAsync(Integer page) {
+            return CompletableFuture.supplyAsync(
+                    () -> super.getMoviesByPageAsync(page), fetchExecutor)
+                .thenCompose(response -> response);
+          }
+        };
+    CatalogService catalogService =
+        new CatalogService(moviesPort, asyncMoviesService, cachePort, upstreamRateLimitPort);
+    ReflectionTestUtils.setField(catalogService, "cacheKeyPrefix", "movies:page:");
+    ReflectionTestUtils.setField(catalogService, "snapshotTtlSeconds", Long.MAX_VALUE / 2_000);
+    ReflectionTestUtils.setField(catalogService, "partialLatencyBudgetMs", 2_000L);
+    return catalogService;
+  }
+
+  private static void sleep(long millis) {
+    try {
+      TimeUnit.MILLISECONDS.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class NoOpCachePort implements CachePort {
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> type) {
+      return Optional.empty();
+    }
+
+    @Override
+    public <T> void put(String key, T value) {}
+
+    @Override
+    public void evict(String key) {}
+
+    @Override
+    public void clear() {}
+  }
+}
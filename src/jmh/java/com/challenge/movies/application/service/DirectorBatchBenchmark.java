@@ -0,0 +1,73 @@
+package com.challenge.movies.application.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.challenge.movies.SyntheticCatalog;
+import com.challenge.movies.domain.model.Movie;
+
+// A reporting job asking for N thresholds: N independent catalog passes vs one batch pass
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DirectorBatchBenchmark {
+
+  @Param({"100000"})
+  private int movies;
+
+  @Param({"20"})
+  private int thresholds;
+
+  private List<Movie> catalog;
+  private DirectorService directorService;
+  private SortedSet<Integer> requested;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    catalog = SyntheticCatalog.movies(movies, movies / 20);
+    directorService = SyntheticCatalog.directorService(SyntheticCatalog.warmCatalogService(catalog));
+    requested = IntStream.range(0, thresholds).boxed().collect(Collectors.toCollection(TreeSet::new));
+  }
+
+  // The per-request work every single-threshold call used to do
+  @Benchmark
+  public void separateCatalogPasses(Blackhole blackhole) {
+    for (int threshold : requested) {
+      Map<String, Long> counts =
+          catalog.stream().collect(Collectors.groupingBy(Movie::director, Collectors.counting()));
+      blackhole.consume(
+          counts.entrySet().stream()
+              .filter(entry -> entry.getValue() > threshold)
+              .map(Map.Entry::getKey)
+              .sorted()
+              .toList());
+    }
+  }
+
+  @Benchmark
+  public Map<Integer, List<String>> batch() {
+    return directorService.getDirectorsByThresholds(requested).join();
+  }
+}
@@ -0,0 +1,71 @@
+package com.challenge.movies.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.challenge.movies.SyntheticCatalog;
+
+// Top-10 type-ahead on a 1M-movie catalog (50K directors, 1M titles), sampled so the report has
+// p99. Names are "Director N" and "Movie N", so "1" matches the word starts of 1 in 9 of each, "123"
+// about 1 in 800 and "zz" none. The baseline is what a client does today: fetch every director
+// (threshold 0) and filter the list itself.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AutocompleteBenchmark {
+
+  @Param({"1000000"})
+  private int movies;
+
+  @Param({"1", "123", "zz"})
+  private String prefix;
+
+  private DirectorIndex directorIndex;
+  private PrefixIndex directors;
+  private PrefixIndex titles;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    ColumnarCatalog catalog =
+        ColumnarCatalog.of(SyntheticCatalog.movies(movies, Math.max(1, movies / 20)));
+    directorIndex = DirectorIndex.of(new CatalogSnapshot(1L, Instant.now(), 1, catalog));
+    directors = PrefixIndex.directors(catalog);
+    titles = PrefixIndex.titles(catalog);
+  }
+
+  @Benchmark
+  public List<Suggestion> prefixIndexDirectors() {
+    return directors.complete(prefix, 10);
+  }
+
+  @Benchmark
+  public List<Suggestion> prefixIndexTitles() {
+    return titles.complete(prefix, 10);
+  }
+
+  @Benchmark
+  public List<String> thresholdZeroThenFilter() {
+    String folded = TextFolding.fold(prefix);
+    return directorIndex.directorsAbove(0).stream()
+        .filter(name -> (" " + TextFolding.fold(name)).contains(" " + folded))
+        .limit(10)
+        .toList();
+  }
+}
@@ -0,0 +1,113 @@
+package com.challenge.movies.domain.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.challenge.movies.SyntheticCatalog;
+
+// One query per shape: a single-valued group, a comma-split group, a numeric group behind a string
+// filter and a split group behind two filters. The engine compiles filters to code predicates and
+// counts into int arrays; the baseline is the equivalent stream filter/flatMap/groupingBy.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CatalogQueryBenchmark {
+
+  @Param({"100000", "1000000"})
+  private int movies;
+
+  @Param({"director", "actors", "yearByGenre", "writerByGenreAndYear"})
+  private String shape;
+
+  private List<Movie> rows;
+  private ColumnarCatalog catalog;
+  private CatalogQuery query;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    rows = SyntheticCatalog.movies(movies, Math.max(1, movies / 20));
+    catalog = ColumnarCatalog.of(rows);
+    QueryFilter drama = new QueryFilter(CatalogField.GENRE, QueryFilter.Operator.EQ, "Drama");
+    QueryFilter recent = new QueryFilter(CatalogField.YEAR, QueryFilter.Operator.GTE, "2000");
+    query =
+        switch (shape) {
+          case "director" -> query(CatalogField.DIRECTOR, 4);
+          case "actors" -> query(CatalogField.ACTORS, 1);
+          case "yearByGenre" -> query(CatalogField.YEAR, 0, drama);
+          default -> query(CatalogField.WRITER, 1, drama, recent);
+        };
+    // Tokenized columns are built once per catalog, so keep that out of the measurement
+    CatalogQueryEngine.run(catalog, query);
+  }
+
+  @Benchmark
+  public QueryResult engine() {
+    return CatalogQueryEngine.run(catalog, query);
+  }
+
+  @Benchmark
+  public Map<String, Long> streamGroupingBy() {
+    Predicate<Movie> filter = movie -> true;
+    for (QueryFilter queryFilter : query.filters()) {
+      filter = filter.and(predicate(queryFilter));
+    }
+    Function<Movie, Stream<String>> keys = keys(query.groupBy());
+    Map<String, Long> counts =
+        rows.stream()
+            .filter(filter)
+            .flatMap(keys)
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    counts.values().removeIf(count -> count <= query.threshold());
+    return counts;
+  }
+
+  private static CatalogQuery query(CatalogField groupBy, int threshold, QueryFilter... filters) {
+    return new CatalogQuery(groupBy, threshold, List.of(filters), QuerySort.COUNT, 100);
+  }
+
+  private static Predicate<Movie> predicate(QueryFilter filter) {
+    if (filter.field().numeric()) {
+      int bound = Integer.parseInt(filter.value());
+      return movie -> movie.year() != null && movie.year() >= bound;
+    }
+    Function<Movie, Stream<String>> keys = keys(filter.field());
+    return movie -> keys.apply(movie).anyMatch(filter.value()::equals);
+  }
+
+  private static Function<Movie, Stream<String>> keys(CatalogField field) {
+    return switch (field) {
+      case DIRECTOR -> movie -> Stream.ofNullable(movie.director());
+      case RATED -> movie -> Stream.ofNullable(movie.rated());
+      case YEAR -> movie -> Stream.ofNullable(movie.year()).map(String::valueOf);
+      case GENRE -> movie -> split(movie.genre());
+      case WRITER -> movie -> split(movie.writer());
+      case ACTORS -> movie -> split(movie.actors());
+    };
+  }
+
+  private static Stream<String> split(String value) {
+    return value == null ? Stream.empty() : Arrays.stream(value.split(",")).map(String::trim);
+  }
+}
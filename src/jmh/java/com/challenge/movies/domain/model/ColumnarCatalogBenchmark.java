@@ -0,0 +1,72 @@
+package com.challenge.movies.domain.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.challenge.movies.SyntheticCatalog;
+
+// Row-oriented List<Movie> vs dictionary-encoded columns: retained heap (printed in setup)
+// and the per-director aggregation that backs every threshold query
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx3g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ColumnarCatalogBenchmark {
+
+  @Param({"1000000"})
+  private int movies;
+
+  private List<Movie> rows;
+  private CatalogSnapshot snapshot;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    long baseline = usedHeap();
+    rows = SyntheticCatalog.movies(movies, movies / 2);
+    long rowBytes = usedHeap() - baseline;
+    snapshot = CatalogSnapshot.of(1, rows);
+    long columnBytes = usedHeap() - baseline - rowBytes;
+    System.out.printf(
+        "%nretained heap: List<Movie> %d MB, ColumnarCatalog %d MB%n",
+        rowBytes >> 20, columnBytes >> 20);
+  }
+
+  @Benchmark
+  public Map<String, Integer> rowHashMap() {
+    Map<String, Integer> counts = new HashMap<>();
+    for (Movie movie : rows) {
+      counts.merge(movie.director(), 1, Integer::sum);
+    }
+    return counts;
+  }
+
+  @Benchmark
+  public DirectorIndex columnarIndex() {
+    return DirectorIndex.of(snapshot);
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,75 @@
+package com.challenge.movies.domain.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.challenge.movies.SyntheticCatalog;
+
+// Boxed groupingBy/counting over records vs primitive counting over director codes, sequential and
+// fork/join. Run with -prof gc for allocation; the 10M rows need about 6 GB of heap.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx6g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DirectorCountingBenchmark {
+
+  @Param({"1000", "100000", "1000000", "10000000"})
+  private int movies;
+
+  private List<Movie> rows;
+  private ColumnarCatalog catalog;
+  private ForkJoinPool pool;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    rows = SyntheticCatalog.movies(movies, Math.max(1, movies / 20));
+    catalog = ColumnarCatalog.of(rows);
+    pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public Map<String, Long> streamGroupingBy() {
+    return rows.stream()
+        .collect(Collectors.groupingBy(Movie::director, Collectors.counting()));
+  }
+
+  @Benchmark
+  public Map<String, Long> parallelStreamGroupingBy() {
+    return rows.parallelStream()
+        .collect(Collectors.groupingByConcurrent(Movie::director, Collectors.counting()));
+  }
+
+  @Benchmark
+  public DirectorAggregation primitiveSequential() {
+    return DirectorAggregation.sequential(catalog);
+  }
+
+  @Benchmark
+  public DirectorAggregation primitiveForkJoin() {
+    return DirectorAggregation.parallel(catalog, pool);
+  }
+}
@@ -0,0 +1,61 @@
+package com.challenge.movies.domain.model;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.challenge.movies.SyntheticCatalog;
+
+// Index build (aggregation) plus the by-count order (sort) on a dedicated pool of 1..N workers,
+// against the sequential build on the calling thread. Speedup is bounded by the machine's cores.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx3g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DirectorParallelScalingBenchmark {
+
+  @Param({"1000000"})
+  private int movies;
+
+  @Param({"1", "2", "4", "8"})
+  private int parallelism;
+
+  private CatalogSnapshot snapshot;
+  private ForkJoinPool pool;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    snapshot = CatalogSnapshot.of(1, SyntheticCatalog.movies(movies, movies / 2));
+    pool = new ForkJoinPool(parallelism);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public DirectorStatsPage sequential() {
+    return DirectorIndex.of(snapshot).statsPage(DirectorSort.MOVIE_COUNT, true, 0, 20);
+  }
+
+  @Benchmark
+  public DirectorStatsPage forkJoin() {
+    return DirectorIndex.of(snapshot, pool).statsPage(DirectorSort.MOVIE_COUNT, true, 0, 20);
+  }
+}
@@ -0,0 +1,61 @@
+package com.challenge.movies.domain.model;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.challenge.movies.SyntheticCatalog;
+
+// Top-k over a 1M-movie catalog: bounded heap vs sorting every director (what clients did)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DirectorTopKBenchmark {
+
+  @Param({"1000000"})
+  private int movies;
+
+  @Param({"20", "1000"})
+  private int k;
+
+  private DirectorIndex index;
+  private List<DirectorStats> allDirectors;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    index = DirectorIndex.of(SyntheticCatalog.movies(movies, movies / 20));
+    allDirectors = index.statsPage(DirectorSort.NAME, false, 0, index.size()).directors();
+  }
+
+  @Benchmark
+  public List<DirectorStats> boundedHeap() {
+    return index.topByMovieCount(k);
+  }
+
+  @Benchmark
+  public List<DirectorStats> fullSort() {
+    return allDirectors.stream()
+        .sorted(
+            Comparator.comparingInt(DirectorStats::movieCount)
+                .reversed()
+                .thenComparing(DirectorStats::name))
+        .limit(k)
+        .toList();
+  }
+}
@@ -0,0 +1,106 @@
+package com.challenge.movies.domain.model;
+
+import java.nio.IntBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.challenge.movies.SyntheticCatalog;
+
+// Genre, director and decade facets on a synthetic 1M-movie catalog: bitmap ANDs and popcounts vs
+// one pass over the code columns that tests the filter and counts every facet per row.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FacetBenchmark {
+
+  @Param({"1000000"})
+  private int movies;
+
+  @Param({"none", "genre", "genreRatedDecade"})
+  private String filter;
+
+  private CatalogSnapshot snapshot;
+  private FacetIndex index;
+  private FacetFilter facetFilter;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    List<Movie> rows = SyntheticCatalog.movies(movies, Math.max(1, movies / 20));
+    snapshot = new CatalogSnapshot(1L, Instant.now(), 1, ColumnarCatalog.of(rows));
+    index = FacetIndex.of(snapshot);
+    facetFilter =
+        switch (filter) {
+          case "none" -> new FacetFilter(List.of(), null, null, null);
+          case "genre" -> new FacetFilter(List.of("Drama"), null, null, null);
+          default -> new FacetFilter(List.of("Drama"), "PG-13", 1990, 1999);
+        };
+  }
+
+  @Benchmark
+  public FacetCounts bitmaps() {
+    return index.facets(facetFilter, 10);
+  }
+
+  @Benchmark
+  public void rowScan(Blackhole blackhole) {
+    ColumnarCatalog catalog = snapshot.catalog();
+    TokenizedColumn genres = catalog.tokenized(CatalogField.GENRE);
+    IntBuffer genreCodes = catalog.column(CatalogField.GENRE).codes();
+    int genre =
+        facetFilter.genres().isEmpty() ? -1 : genres.tokens().code(facetFilter.genres().get(0));
+    int rated = facetFilter.rated() == null ? -1 : catalog.ratings().code(facetFilter.rated());
+    int from = facetFilter.yearFrom() == null ? Integer.MIN_VALUE : facetFilter.yearFrom();
+    int to = facetFilter.yearTo() == null ? Integer.MAX_VALUE : facetFilter.yearTo();
+
+    int[] genreCounts = new int[genres.tokens().size()];
+    int[] directorCounts = new int[catalog.directors().size()];
+    int[] decadeCounts = new int[1000];
+    rows:
+    for (int row = 0; row < catalog.size(); row++) {
+      int[] movieGenres = genres.tokens(genreCodes.get(row));
+      if (genre >= 0) {
+        boolean found = false;
+        for (int g : movieGenres) {
+          found |= g == genre;
+        }
+        if (!found) {
+          continue rows;
+        }
+      }
+      int year = catalog.year(row);
+      if ((rated >= 0 && catalog.ratedCode(row) != rated)
+          || (from != Integer.MIN_VALUE || to != Integer.MAX_VALUE)
+              && (year == ColumnarCatalog.NO_VALUE || year < from || year > to)) {
+        continue;
+      }
+      for (int g : movieGenres) {
+        genreCounts[g]++;
+      }
+      directorCounts[catalog.directorCode(row)]++;
+      if (year != ColumnarCatalog.NO_VALUE) {
+        decadeCounts[year / 10 % 1000]++;
+      }
+    }
+    blackhole.consume(genreCounts);
+    blackhole.consume(directorCounts);
+    blackhole.consume(decadeCounts);
+  }
+}
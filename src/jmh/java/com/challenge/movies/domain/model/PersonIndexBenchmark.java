@@ -0,0 +1,87 @@
+package com.challenge.movies.domain.model;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.challenge.movies.SyntheticCatalog;
+
+// "Movies with actor X" and "actors with more than N movies" from the inverted index vs splitting
+// every row's actors string per request; build() is the per-snapshot cost the index pays once.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PersonIndexBenchmark {
+
+  private static final String ACTOR = "Actor 1234";
+  private static final int THRESHOLD = 20;
+
+  @Param({"100000", "1000000"})
+  private int movies;
+
+  private List<Movie> rows;
+  private CatalogSnapshot snapshot;
+  private PersonIndex index;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    rows = SyntheticCatalog.movies(movies, Math.max(1, movies / 20));
+    snapshot = new CatalogSnapshot(1L, Instant.now(), 1, ColumnarCatalog.of(rows));
+    index = PersonIndex.of(snapshot, CatalogField.ACTORS);
+  }
+
+  @Benchmark
+  public List<Movie> indexMoviesWithActor() {
+    return index.moviesWithAll(List.of(ACTOR));
+  }
+
+  @Benchmark
+  public List<Movie> scanMoviesWithActor() {
+    return rows.stream()
+        .filter(movie -> Arrays.stream(movie.actors().split(",")).map(String::trim).anyMatch(ACTOR::equals))
+        .toList();
+  }
+
+  @Benchmark
+  public List<String> indexActorsAboveThreshold() {
+    return index.peopleAbove(THRESHOLD);
+  }
+
+  @Benchmark
+  public List<String> scanActorsAboveThreshold() {
+    Map<String, Long> counts =
+        rows.stream()
+            .flatMap(movie -> Arrays.stream(movie.actors().split(",")).map(String::trim))
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    return counts.entrySet().stream()
+        .filter(entry -> entry.getValue() > THRESHOLD)
+        .map(Map.Entry::getKey)
+        .sorted()
+        .toList();
+  }
+
+  @Benchmark
+  public PersonIndex build() {
+    return PersonIndex.of(snapshot, CatalogField.ACTORS);
+  }
+}
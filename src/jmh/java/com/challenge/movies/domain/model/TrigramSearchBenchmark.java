@@ -0,0 +1,64 @@
+package com.challenge.movies.domain.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.challenge.movies.SyntheticCatalog;
+
+// Misspelled queries against the trigram indexes of a 1M-movie catalog (1M titles, 50K directors,
+// 200K actors); setup prints each index's size. Synthetic names all share their "Movie",
+// "Director" or "Actor" trigrams, so every query also walks those long posting lists.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TrigramSearchBenchmark {
+
+  @Param({"1000000"})
+  private int movies;
+
+  @Param({"TITLE", "DIRECTOR", "ACTOR"})
+  private SearchTarget target;
+
+  private TrigramIndex index;
+  private String query;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    ColumnarCatalog catalog =
+        ColumnarCatalog.of(SyntheticCatalog.movies(movies, Math.max(1, movies / 20)));
+    long start = System.nanoTime();
+    index = TrigramIndex.of(catalog, target);
+    System.out.printf(
+        "%n%s trigram index: %d MB, built in %d ms%n",
+        target,
+        index.sizeInBytes() >> 20,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    query =
+        switch (target) {
+          case TITLE -> "movei 123456";
+          case DIRECTOR -> "diretor 12345";
+          case ACTOR -> "actr 123456";
+        };
+  }
+
+  @Benchmark
+  public List<SearchHit> search() {
+    return index.search(query, 2, 10);
+  }
+}
@@ -0,0 +1,76 @@
+package com.challenge.movies.infrastructure.adapter.snapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.challenge.movies.SyntheticCatalog;
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.model.DirectorIndex;
+import com.challenge.movies.domain.model.Movie;
+
+// Time to the first answered threshold query after boot: mapping the persisted snapshot vs
+// rebuilding the catalog from already-fetched movies (the upstream fan-out is not even counted)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx3g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SnapshotWarmStartBenchmark {
+
+  @Param({"100000", "1000000"})
+  private int movies;
+
+  private Path directory;
+  private FileSnapshotStoreAdapter store;
+  private List<Movie> fetched;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("snapshot-bench");
+    Path file = directory.resolve("catalog.snapshot");
+    store = new FileSnapshotStoreAdapter(true, file.toString());
+    fetched = SyntheticCatalog.movies(movies, movies / 20);
+    store.save(CatalogSnapshot.of(1, fetched));
+    System.out.printf("%nsnapshot file: %d MB%n", Files.size(file) >> 20);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    try (var files = Files.list(directory)) {
+      for (Path file : files.toList()) {
+        Files.delete(file);
+      }
+    }
+    Files.delete(directory);
+  }
+
+  @Benchmark
+  public int restoreMappedSnapshot() {
+    CatalogSnapshot restored = store.load().orElseThrow();
+    return DirectorIndex.of(restored).directorsAbove(4).size();
+  }
+
+  @Benchmark
+  public int rebuildFromFetchedMovies() {
+    CatalogSnapshot built = CatalogSnapshot.of(1, fetched);
+    return DirectorIndex.of(built).directorsAbove(4).size();
+  }
+}
@@ -0,0 +1,125 @@
+package com.challenge.movies.infrastructure.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.challenge.movies.SyntheticCatalog;
+import com.challenge.movies.application.service.CatalogService;
+import com.challenge.movies.application.service.DirectorService;
+
+// Load test for a cold catalog: `inFlight` director requests land on a fixed pool of servlet
+// threads while the upstream fan-out runs, then one unrelated request (a health check) is timed.
+// Blocking handlers pin a servlet thread per request for the whole fetch, so once inFlight reaches
+// the pool size the probe queues behind them; async handlers hand the thread straight back.
+// Read p0.99 from the sample-time histogram: the largest inFlight that keeps it flat is the
+// maximum concurrency each mode sustains at that p99.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DirectorAsyncLoadBenchmark {
+
+  private static final int SERVLET_THREADS = 8;
+  private static final int FETCH_THREADS = 10;
+  private static final int THRESHOLD = 3;
+
+  @Param({"blocking", "async"})
+  private String handler;
+
+  @Param({"4", "8", "64", "512"})
+  private int inFlight;
+
+  @Param({"20"})
+  private long upstreamLatencyMs;
+
+  private ExecutorService servletThreads;
+  private ExecutorService fetchThreads;
+  private CatalogService catalogService;
+  private DirectorService directorService;
+  private List<CompletableFuture<List<String>>> responses;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    servletThreads = Executors.newFixedThreadPool(SERVLET_THREADS);
+    fetchThreads = Executors.newFixedThreadPool(FETCH_THREADS);
+    catalogService =
+        SyntheticCatalog.slowUpstreamCatalogService(
+            SyntheticCatalog.movies(10_000, 2_000), FETCH_THREADS, upstreamLatencyMs, fetchThreads);
+    directorService = SyntheticCatalog.directorService(catalogService);
+  }
+
+  @Setup(Level.Invocation)
+  public void startColdBurst() throws InterruptedException {
+    catalogService.invalidate();
+    responses = new ArrayList<>(inFlight);
+    for (int i = 0; i < inFlight; i++) {
+      responses.add(submitDirectorsRequest());
+    }
+    // Let the servlet threads pick the burst up before the probe arrives
+    TimeUnit.MILLISECONDS.sleep(1);
+  }
+
+  @Benchmark
+  public void unrelatedRequestDuringRefresh() {
+    CompletableFuture.runAsync(() -> {}, servletThreads).join();
+  }
+
+  @TearDown(Level.Invocation)
+  public void awaitBurst() {
+    CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    servletThreads.shutdownNow();
+    fetchThreads.shutdownNow();
+  }
+
+  private CompletableFuture<List<String>> submitDirectorsRequest() {
+    CompletableFuture<List<String>> response = new CompletableFuture<>();
+    servletThreads.execute(
+        () -> {
+          if ("async".equals(handler)) {
+            // What DirectorController does now: the servlet thread returns at once
+            directorService
+                .getDirectorsByThreshold(THRESHOLD)
+                .whenComplete(
+                    (directors, error) -> {
+                      if (error == null) {
+                        response.complete(directors);
+                      } else {
+                        response.completeExceptionally(error);
+                      }
+                    });
+          } else {
+            // The previous handler: the servlet thread waits out the whole fan-out
+            try {
+              response.complete(directorService.getDirectorsByThreshold(THRESHOLD).join());
+            } catch (RuntimeException e) {
+              response.completeExceptionally(e);
+            }
+          }
+        });
+    return response;
+  }
+}
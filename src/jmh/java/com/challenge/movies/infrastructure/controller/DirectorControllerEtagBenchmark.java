@@ -0,0 +1,110 @@
+package com.challenge.movies.infrastructure.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.challenge.movies.SyntheticCatalog;
+import com.challenge.movies.application.service.DirectorService;
+import com.challenge.movies.infrastructure.controller.cache.DirectorsResponseCache;
+import com.challenge.movies.infrastructure.controller.dto.DirectorsResponseDto;
+import com.challenge.movies.infrastructure.controller.mapper.DirectorMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Repeat poll against a warm catalog: full 200 (cached encoded bytes), gzip 200, conditional 304,
+// and the original aggregate + serialize path. Each invocation returns the body bytes sent.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DirectorControllerEtagBenchmark {
+
+  @Param({"10000", "100000"})
+  private int movies;
+
+  @Param({"0", "4"})
+  private int threshold;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private DirectorService directorService;
+  private DirectorController controller;
+  private String etag;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    DirectorService directorService =
+        SyntheticCatalog.directorService(
+            SyntheticCatalog.warmCatalogService(SyntheticCatalog.movies(movies, movies / 20)));
+    this.directorService = directorService;
+    controller =
+        new DirectorController(
+            directorService,
+            Mappers.getMapper(DirectorMapper.class),
+            new DirectorsResponseCache(objectMapper, 256),
+            objectMapper);
+    etag =
+        controller
+            .getDirectorsByThreshold(threshold, false, null, null, webRequest(null, null))
+            .join()
+            .getHeaders()
+            .getETag();
+  }
+
+  @Benchmark
+  public int aggregateAndSerialize() throws Exception {
+    return objectMapper.writeValueAsBytes(
+            new DirectorsResponseDto(directorService.getDirectorsByThreshold(threshold).join(), null, null))
+        .length;
+  }
+
+  @Benchmark
+  public int fullResponse() {
+    return bodyBytes(controller.getDirectorsByThreshold(threshold, false, null, null, webRequest(null, null)).join());
+  }
+
+  @Benchmark
+  public int fullResponseGzip() {
+    return bodyBytes(
+        controller.getDirectorsByThreshold(threshold, false, null, null, webRequest(null, "gzip")).join());
+  }
+
+  @Benchmark
+  public int notModified() {
+    return bodyBytes(controller.getDirectorsByThreshold(threshold, false, null, null, webRequest(etag, null)).join());
+  }
+
+  private static int bodyBytes(ResponseEntity<?> response) {
+    return response.getBody() instanceof byte[] body ? body.length : 0;
+  }
+
+  private static ServletWebRequest webRequest(String ifNoneMatch, String acceptEncoding) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/directors");
+    if (ifNoneMatch != null) {
+      request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+    }
+    if (acceptEncoding != null) {
+      request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+    }
+    return new ServletWebRequest(request, new MockHttpServletResponse());
+  }
+}
@@ -0,0 +1,96 @@
+package com.challenge.movies.infrastructure.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.challenge.movies.SyntheticCatalog;
+import com.challenge.movies.application.service.DirectorService;
+import com.challenge.movies.infrastructure.controller.cache.DirectorsResponseCache;
+import com.challenge.movies.infrastructure.controller.dto.DirectorsResponseDto;
+import com.challenge.movies.infrastructure.controller.mapper.DirectorMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Threshold 0 over a large catalog. *TimeToFirstByte stops at the first byte written; run with
+// -prof gc to compare allocation (the JSON path holds the whole list and body at once).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DirectorStreamingBenchmark {
+
+  private static final IOException FIRST_BYTE = new IOException("first byte");
+
+  @Param({"1000000"})
+  private int movies;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private DirectorService directorService;
+  private DirectorController controller;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    directorService =
+        SyntheticCatalog.directorService(
+            SyntheticCatalog.warmCatalogService(SyntheticCatalog.movies(movies, movies / 2)));
+    controller =
+        new DirectorController(
+            directorService,
+            Mappers.getMapper(DirectorMapper.class),
+            new DirectorsResponseCache(objectMapper, 1),
+            objectMapper);
+  }
+
+  @Benchmark
+  public int jsonTimeToFirstByte() throws IOException {
+    byte[] body =
+        objectMapper.writeValueAsBytes(
+            new DirectorsResponseDto(directorService.getDirectorsByThreshold(0).join(), null, null));
+    return body[0];
+  }
+
+  @Benchmark
+  public boolean ndjsonTimeToFirstByte() throws IOException {
+    try {
+      controller.streamDirectorsByThreshold(0).join().getBody().writeTo(new FirstByteOutputStream());
+      return false;
+    } catch (IOException e) {
+      return e == FIRST_BYTE;
+    }
+  }
+
+  @Benchmark
+  public void ndjsonFullStream() throws IOException {
+    controller.streamDirectorsByThreshold(0).join().getBody().writeTo(OutputStream.nullOutputStream());
+  }
+
+  private static final class FirstByteOutputStream extends OutputStream {
+
+    @Override
+    public void write(int b) throws IOException {
+      throw FIRST_BYTE;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      throw FIRST_BYTE;
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package com.challenge.movies.infrastructure.controller.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.challenge.movies.SyntheticCatalog;
+import com.challenge.movies.domain.model.DirectorIndex;
+import com.challenge.movies.infrastructure.controller.dto.DirectorsResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Encode (server side, cache miss) and decode (client side) cost of a director list per format.
+// Payload sizes, raw and gzipped, are printed once per trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResponseFormatBenchmark {
+
+  @Param({"JSON", "CBOR", "SMILE"})
+  private ResponseFormat format;
+
+  @Param({"100000"})
+  private int movies;
+
+  private ObjectMapper mapper;
+  private DirectorsResponseDto response;
+  private byte[] encoded;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    mapper = format.mapper(new ObjectMapper());
+    List<String> directors =
+        DirectorIndex.of(SyntheticCatalog.movies(movies, movies / 2)).directorsAbove(0);
+    response = new DirectorsResponseDto(directors, null, null);
+    encoded = mapper.writeValueAsBytes(response);
+
+    ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+      gzip.write(encoded);
+    }
+    System.out.printf(
+        "%n%s: %d directors, %d bytes, %d bytes gzipped%n",
+        format, directors.size(), encoded.length, gzipped.size());
+  }
+
+  @Benchmark
+  public byte[] encode() throws IOException {
+    return mapper.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public DirectorsResponseDto decode() throws IOException {
+    return mapper.readValue(encoded, DirectorsResponseDto.class);
+  }
+}
@@ -0,0 +1,89 @@
+package com.challenge.movies.infrastructure.interceptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.challenge.movies.domain.port.SecurityPort;
+import com.challenge.movies.infrastructure.config.RateLimitProperties;
+
+// 64 request threads hitting the interceptor; clients=1 reproduces the old single global bucket
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(64)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RateLimitInterceptorBenchmark {
+
+  @Param({"1", "64", "10000"})
+  private int clients;
+
+  private RateLimitInterceptor interceptor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    RateLimitProperties properties =
+        new RateLimitProperties(Integer.MAX_VALUE, 1, 100_000, 10, Map.of(), Map.of());
+    interceptor =
+        new RateLimitInterceptor(
+            properties, new AnonymousSecurityPort(), new LocalBucketProvider(properties));
+  }
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+      request = new MockHttpServletRequest("GET", "/api/directors");
+      response = new MockHttpServletResponse();
+    }
+  }
+
+  @Benchmark
+  public boolean preHandle(ThreadState state) throws Exception {
+    int client = ThreadLocalRandom.current().nextInt(clients);
+    state.request.setRemoteAddr("10.0." + (client >> 8) + "." + (client & 0xFF));
+    return interceptor.preHandle(state.request, state.response, this);
+  }
+
+  private static final class AnonymousSecurityPort implements SecurityPort {
+
+    @Override
+    public Optional<String> getCurrentClientId() {
+      return Optional.empty();
+    }
+
+    @Override
+    public List<String> getCurrentScopes() {
+      return List.of();
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+      return false;
+    }
+  }
+}
@@ -1,14 +1,22 @@
 package com.challenge.movies;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 
+import com.challenge.movies.infrastructure.command.SnapshotCommandRunner;
+
 @SpringBootApplication
 @EnableFeignClients
 public class MoviesApplication {
 
   public static void main(String[] args) {
-    SpringApplication.run(MoviesApplication.class, args);
+    SpringApplication application = new SpringApplication(MoviesApplication.class);
+    if (SnapshotCommandRunner.isCommand(args)) {
+      application.setWebApplicationType(WebApplicationType.NONE);
+      application.setAdditionalProfiles(SnapshotCommandRunner.PROFILE);
+    }
+    application.run(args);
   }
 }
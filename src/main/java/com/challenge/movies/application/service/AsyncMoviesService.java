@@ -10,6 +10,7 @@ import org.springframework.stereotype.Service;
 import com.challenge.movies.domain.model.MoviesResponse;
 import com.challenge.movies.domain.port.CachePort;
 import com.challenge.movies.domain.port.MoviesPort;
+import com.challenge.movies.domain.port.UpstreamRateLimitPort;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +22,7 @@ public class AsyncMoviesService {
 
   private final MoviesPort moviesPort;
   private final CachePort cachePort;
+  private final UpstreamRateLimitPort upstreamRateLimitPort;
 
   @Value("${cache.key-prefix}")
   private String cacheKeyPrefix;
@@ -40,7 +42,8 @@ public class AsyncMoviesService {
         return CompletableFuture.completedFuture(cachedResponse.get());
       }
 
-      // Fetch from API if not in cache
+      // Fetch from API if not in cache; only real upstream calls are charged
+      upstreamRateLimitPort.acquire();
       MoviesResponse response = moviesPort.getMoviesByPage(page);
 
       // Store in cache
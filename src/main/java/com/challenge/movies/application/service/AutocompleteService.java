@@ -0,0 +1,31 @@
+package com.challenge.movies.application.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.challenge.movies.domain.model.PrefixIndex;
+import com.challenge.movies.domain.model.Suggestion;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+  private final CatalogService catalogService;
+
+  private final CatalogVersionMemo<PrefixIndex> directorIndex =
+      new CatalogVersionMemo<>(snapshot -> PrefixIndex.directors(snapshot.catalog()));
+  // Titles have many more entries, so their index is only built once someone asks for titles
+  private final CatalogVersionMemo<PrefixIndex> titleIndex =
+      new CatalogVersionMemo<>(snapshot -> PrefixIndex.titles(snapshot.catalog()));
+
+  public List<Suggestion> completeDirectors(String prefix, int limit) {
+    return directorIndex.get(catalogService.getSnapshot()).complete(prefix, limit);
+  }
+
+  public List<Suggestion> completeTitles(String prefix, int limit) {
+    return titleIndex.get(catalogService.getSnapshot()).complete(prefix, limit);
+  }
+}
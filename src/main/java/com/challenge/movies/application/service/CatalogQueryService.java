@@ -0,0 +1,30 @@
+package com.challenge.movies.application.service;
+
+import org.springframework.stereotype.Service;
+
+import com.challenge.movies.domain.model.CatalogQuery;
+import com.challenge.movies.domain.model.CatalogQueryEngine;
+import com.challenge.movies.domain.model.FacetCounts;
+import com.challenge.movies.domain.model.FacetFilter;
+import com.challenge.movies.domain.model.FacetIndex;
+import com.challenge.movies.domain.model.QueryResult;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class CatalogQueryService {
+
+  private final CatalogService catalogService;
+
+  private final CatalogVersionMemo<FacetIndex> facetIndex =
+      new CatalogVersionMemo<>(FacetIndex::of);
+
+  public QueryResult query(CatalogQuery query) {
+    return CatalogQueryEngine.run(catalogService.getSnapshot().catalog(), query);
+  }
+
+  public FacetCounts facets(FacetFilter filter, int topDirectors) {
+    return facetIndex.get(catalogService.getSnapshot()).facets(filter, topDirectors);
+  }
+}
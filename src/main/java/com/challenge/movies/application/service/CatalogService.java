@@ -0,0 +1,341 @@
+package com.challenge.movies.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.challenge.movies.domain.exception.MoviesFetchException;
+import com.challenge.movies.domain.exception.UpstreamRateLimitException;
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.model.Movie;
+import com.challenge.movies.domain.model.MoviesResponse;
+import com.challenge.movies.domain.model.PartialCatalog;
+import com.challenge.movies.domain.port.CachePort;
+import com.challenge.movies.domain.port.MoviesPort;
+import com.challenge.movies.domain.port.UpstreamRateLimitPort;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogService {
+
+  private final MoviesPort moviesPort;
+  private final AsyncMoviesService asyncMoviesService;
+  private final CachePort cachePort;
+  private final UpstreamRateLimitPort upstreamRateLimitPort;
+
+  private final Object refreshLock = new Object();
+  private final List<Consumer<CatalogSnapshot>> snapshotListeners = new CopyOnWriteArrayList<>();
+
+  private volatile CatalogSnapshot snapshot;
+
+  // Guarded by refreshLock; the refresh every caller waits on while the catalog is cold
+  private CompletableFuture<CatalogSnapshot> inFlightRefresh;
+
+  // Guarded by refreshLock; version last announced to snapshot listeners
+  private Long publishedVersion;
+
+  @Value("${cache.key-prefix}")
+  private String cacheKeyPrefix;
+
+  @Value("${catalog.snapshot-ttl-seconds:60}")
+  private long snapshotTtlSeconds;
+
+  @Value("${movies.partial.latency-budget-ms:2000}")
+  private long partialLatencyBudgetMs;
+
+  public CatalogSnapshot getSnapshot() {
+    return await(getSnapshotAsync());
+  }
+
+  // Always goes upstream, even while a fetched or restored snapshot is still fresh
+  public CatalogSnapshot fetchFresh() {
+    CompletableFuture<CatalogSnapshot> refresh;
+    synchronized (refreshLock) {
+      refresh = inFlightRefresh != null ? inFlightRefresh : startRefresh();
+    }
+    return await(refresh);
+  }
+
+  // Completed by the fetch pipeline itself, so callers never park a thread on the fan-out
+  public CompletableFuture<CatalogSnapshot> getSnapshotAsync() {
+    CatalogSnapshot current = snapshot;
+    if (isFresh(current)) {
+      return CompletableFuture.completedFuture(current);
+    }
+
+    // Single-flight refresh: concurrent callers share one fan-out instead of starting their own
+    synchronized (refreshLock) {
+      current = snapshot;
+      if (isFresh(current)) {
+        return CompletableFuture.completedFuture(current);
+      }
+      return inFlightRefresh != null ? inFlightRefresh : startRefresh();
+    }
+  }
+
+  // Called with each snapshot whose content differs from the previous one, on the fetching thread
+  public void addSnapshotListener(Consumer<CatalogSnapshot> listener) {
+    snapshotListeners.add(listener);
+  }
+
+  // Installs a persisted snapshot as if it had just been fetched, so it is served for one TTL while
+  // the regular refresh takes over; ignored once a fetched snapshot exists
+  public boolean restore(CatalogSnapshot restored) {
+    synchronized (refreshLock) {
+      if (snapshot != null) {
+        return false;
+      }
+      snapshot =
+          new CatalogSnapshot(
+              restored.version(), Instant.now(), restored.totalPages(), restored.catalog());
+      publishedVersion = restored.version();
+      return true;
+    }
+  }
+
+  public Optional<CatalogSnapshot> getWarmSnapshot() {
+    CatalogSnapshot current = snapshot;
+    return isFresh(current) ? Optional.of(current) : Optional.empty();
+  }
+
+  public PartialCatalog fetchWithinBudget() {
+    Optional<CatalogSnapshot> warm = getWarmSnapshot();
+    if (warm.isPresent()) {
+      return PartialCatalog.of(warm.get());
+    }
+
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(partialLatencyBudgetMs);
+
+    MoviesResponse firstPage = fetchFirstPage();
+    List<Movie> movies = new ArrayList<>(firstPage.data());
+    int totalPages = firstPage.totalPages();
+    int pagesFetched = 1;
+
+    if (totalPages > 1) {
+      List<CompletableFuture<MoviesResponse>> futures = requestRemainingPages(totalPages);
+      // Pages still in flight keep running and warm the cache for the next request
+      awaitUntil(CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])), deadline);
+
+      for (CompletableFuture<MoviesResponse> future : futures) {
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+          movies.addAll(future.join().data());
+          pagesFetched++;
+        }
+      }
+    }
+
+    log.info(
+        "Partial fetch: {}/{} pages, {} movies within {} ms budget",
+        pagesFetched,
+        totalPages,
+        movies.size(),
+        partialLatencyBudgetMs);
+
+    if (pagesFetched < totalPages) {
+      return PartialCatalog.partial(movies, pagesFetched, totalPages);
+    }
+    CatalogSnapshot fetched = CatalogSnapshot.of(totalPages, movies);
+    boolean changed;
+    synchronized (refreshLock) {
+      changed = replaceSnapshot(fetched);
+    }
+    if (changed) {
+      notifyListeners(fetched);
+    }
+    return PartialCatalog.of(fetched);
+  }
+
+  public void invalidate() {
+    snapshot = null;
+  }
+
+  // Caller holds refreshLock
+  private CompletableFuture<CatalogSnapshot> startRefresh() {
+    CompletableFuture<CatalogSnapshot> refresh = new CompletableFuture<>();
+    inFlightRefresh = refresh;
+    try {
+      fetchAllMoviesAsync()
+          .whenComplete((fetched, error) -> completeRefresh(refresh, fetched, error));
+    } catch (RuntimeException e) {
+      // A saturated executor rejects the first page synchronously; fail this refresh so the
+      // next caller starts a new one instead of waiting on a future nobody completes
+      inFlightRefresh = null;
+      refresh.completeExceptionally(e);
+    }
+    return refresh;
+  }
+
+  private static CatalogSnapshot await(CompletableFuture<CatalogSnapshot> refresh) {
+    try {
+      return refresh.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private void completeRefresh(
+      CompletableFuture<CatalogSnapshot> refresh, CatalogSnapshot fetched, Throwable error) {
+    boolean changed = false;
+    synchronized (refreshLock) {
+      if (error == null) {
+        changed = replaceSnapshot(fetched);
+      }
+      inFlightRefresh = null;
+    }
+    if (error == null) {
+      refresh.complete(fetched);
+      if (changed) {
+        notifyListeners(fetched);
+      }
+    } else {
+      refresh.completeExceptionally(
+          error instanceof CompletionException && error.getCause() != null
+              ? error.getCause()
+              : error);
+    }
+  }
+
+  private boolean replaceSnapshot(CatalogSnapshot fetched) {
+    snapshot = fetched;
+    if (publishedVersion != null && publishedVersion == fetched.version()) {
+      return false;
+    }
+    publishedVersion = fetched.version();
+    return true;
+  }
+
+  private void notifyListeners(CatalogSnapshot fetched) {
+    for (Consumer<CatalogSnapshot> listener : snapshotListeners) {
+      try {
+        listener.accept(fetched);
+      } catch (RuntimeException e) {
+        log.warn("Snapshot listener failed: {}", e.getMessage());
+      }
+    }
+  }
+
+  private boolean isFresh(CatalogSnapshot current) {
+    return current != null
+        && current.createdAt().plus(Duration.ofSeconds(snapshotTtlSeconds)).isAfter(Instant.now());
+  }
+
+  private void awaitUntil(CompletableFuture<Void> allFutures, long deadline) {
+    try {
+      allFutures.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      log.warn(
+          "Latency budget of {} ms exhausted, returning partial results", partialLatencyBudgetMs);
+    } catch (ExecutionException e) {
+      log.warn("Some pages failed, returning partial results: {}", e.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted while waiting for pages, returning partial results");
+    }
+  }
+
+  private MoviesResponse fetchFirstPage() {
+    long page1Start = System.currentTimeMillis();
+    String page1Key = cacheKeyPrefix + 1;
+    Optional<MoviesResponse> cachedPage1 = cachePort.get(page1Key, MoviesResponse.class);
+
+    if (cachedPage1.isPresent()) {
+      long page1Time = System.currentTimeMillis() - page1Start;
+      log.info("Page 1: {} - {} ms", "Cache HIT", page1Time);
+      return cachedPage1.get();
+    }
+
+    upstreamRateLimitPort.acquire();
+    MoviesResponse firstPage = moviesPort.getMoviesByPage(1);
+    cachePort.put(page1Key, firstPage);
+    long page1Time = System.currentTimeMillis() - page1Start;
+    log.info("Page 1: {} - {} ms", "Fetched from API", page1Time);
+    return firstPage;
+  }
+
+  private List<CompletableFuture<MoviesResponse>> requestRemainingPages(int totalPages) {
+    return IntStream.range(2, totalPages + 1)
+        .mapToObj(asyncMoviesService::getMoviesByPageAsync)
+        .toList();
+  }
+
+  private CompletableFuture<CatalogSnapshot> fetchAllMoviesAsync() {
+    log.info("========== Starting Movies Fetch ==========");
+    long startTime = System.currentTimeMillis();
+
+    // First call to get total pages (cache checked inside AsyncMoviesService)
+    return asyncMoviesService
+        .getMoviesByPageAsync(1)
+        .thenCompose(firstPage -> fetchRemainingPagesAsync(firstPage, startTime));
+  }
+
+  private CompletableFuture<CatalogSnapshot> fetchRemainingPagesAsync(
+      MoviesResponse firstPage, long startTime) {
+    int totalPages = firstPage.totalPages();
+    log.info("Total pages to fetch: {}", totalPages);
+
+    // Fetch remaining pages in parallel; the last page to arrive assembles the snapshot
+    long parallelStart = System.currentTimeMillis();
+    List<CompletableFuture<MoviesResponse>> futures =
+        totalPages > 1 ? requestRemainingPages(totalPages) : List.of();
+
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+        .handle(
+            (ignored, error) -> {
+              if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                if (cause instanceof UpstreamRateLimitException rateLimited) {
+                  throw rateLimited;
+                }
+                log.error("Error fetching movies in parallel", cause);
+                throw new MoviesFetchException("Failed to fetch all movies", cause);
+              }
+
+              List<Movie> allMovies = new ArrayList<>(firstPage.data());
+              futures.stream()
+                  .map(CompletableFuture::join)
+                  .forEach(response -> allMovies.addAll(response.data()));
+
+              if (totalPages > 1) {
+                long parallelTime = System.currentTimeMillis() - parallelStart;
+                log.info(
+                    "Parallel fetch of {} pages completed in {} ms (avg: {} ms/page)",
+                    (totalPages - 1),
+                    parallelTime,
+                    parallelTime / (totalPages - 1));
+              }
+
+              long totalTime = System.currentTimeMillis() - startTime;
+
+              log.info("========== Fetch Complete ==========");
+              log.info("Total movies fetched: {}", allMovies.size());
+              log.info("Total pages: {}", totalPages);
+              log.info(
+                  "Total time: {} ms (avg: {} ms/page)",
+                  totalTime,
+                  totalPages > 0 ? totalTime / totalPages : 0);
+              log.info("=======================================");
+
+              return CatalogSnapshot.of(totalPages, allMovies);
+            });
+  }
+}
@@ -0,0 +1,56 @@
+package com.challenge.movies.application.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import com.challenge.movies.domain.model.CatalogSnapshot;
+
+// One value derived from the catalog, kept until the catalog content changes. The first caller
+// for a new version installs a future with compareAndSet and builds; concurrent callers for the
+// same version wait for that build instead of starting their own. A failed build is dropped so
+// the next caller retries.
+final class CatalogVersionMemo<T> {
+
+  private final Function<CatalogSnapshot, T> builder;
+  private final AtomicReference<Entry<T>> current = new AtomicReference<>();
+
+  CatalogVersionMemo(Function<CatalogSnapshot, T> builder) {
+    this.builder = builder;
+  }
+
+  T get(CatalogSnapshot snapshot) {
+    while (true) {
+      Entry<T> entry = current.get();
+      if (entry != null && entry.catalogVersion() == snapshot.version()) {
+        return await(entry.value());
+      }
+      Entry<T> building = new Entry<>(snapshot.version(), new CompletableFuture<>());
+      if (current.compareAndSet(entry, building)) {
+        try {
+          T value = builder.apply(snapshot);
+          building.value().complete(value);
+          return value;
+        } catch (RuntimeException | Error e) {
+          current.compareAndSet(building, null);
+          building.value().completeExceptionally(e);
+          throw e;
+        }
+      }
+    }
+  }
+
+  private static <T> T await(CompletableFuture<T> value) {
+    try {
+      return value.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private record Entry<T>(long catalogVersion, CompletableFuture<T> value) {}
+}
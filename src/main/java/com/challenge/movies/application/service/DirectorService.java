@@ -1,124 +1,119 @@
 package com.challenge.movies.application.service;
 
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.SortedSet;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import com.challenge.movies.domain.exception.MoviesFetchException;
-import com.challenge.movies.domain.model.Movie;
-import com.challenge.movies.domain.model.MoviesResponse;
-import com.challenge.movies.domain.port.CachePort;
-import com.challenge.movies.domain.port.MoviesPort;
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.model.DirectorIndex;
+import com.challenge.movies.domain.model.DirectorSlice;
+import com.challenge.movies.domain.model.DirectorSort;
+import com.challenge.movies.domain.model.DirectorStats;
+import com.challenge.movies.domain.model.DirectorStatsPage;
+import com.challenge.movies.domain.model.PartialCatalog;
+import com.challenge.movies.domain.model.PartialDirectorsResult;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DirectorService {
 
-  private final MoviesPort moviesPort;
-  private final AsyncMoviesService asyncMoviesService;
-  private final CachePort cachePort;
+  private final CatalogService catalogService;
+  private final ForkJoinPool aggregationPool;
 
-  @Value("${cache.key-prefix}")
-  private String cacheKeyPrefix;
+  // Large catalogs are aggregated and sorted on the fork/join pool instead of the calling thread
+  private final CatalogVersionMemo<DirectorIndex> directorIndex =
+      new CatalogVersionMemo<>(this::buildIndex);
 
-  public List<String> getDirectorsByThreshold(Integer threshold) {
-    List<Movie> allMovies = fetchAllMoviesInParallel();
+  @Value("${movies.aggregation.parallel-threshold-rows:250000}")
+  private int parallelThresholdRows;
 
-    Map<String, Long> directorMovieCount =
-        allMovies.stream().collect(Collectors.groupingBy(Movie::director, Collectors.counting()));
-
-    return directorMovieCount.entrySet().stream()
-        .filter(entry -> entry.getValue() > threshold)
-        .map(Map.Entry::getKey)
-        .sorted()
-        .collect(Collectors.toList());
+  public CompletableFuture<CatalogSnapshot> getCatalogSnapshotAsync() {
+    return catalogService.getSnapshotAsync();
   }
 
-  private List<Movie> fetchAllMoviesInParallel() {
-    log.info("========== Starting Movies Fetch ==========");
-    long startTime = System.currentTimeMillis();
-
-    // First call to get total pages (with cache)
-    long page1Start = System.currentTimeMillis();
-    String page1Key = cacheKeyPrefix + 1;
-    Optional<MoviesResponse> cachedPage1 = cachePort.get(page1Key, MoviesResponse.class);
-
-    MoviesResponse firstPage;
-    boolean page1FromCache = cachedPage1.isPresent();
-
-    if (page1FromCache) {
-      firstPage = cachedPage1.get();
-      long page1Time = System.currentTimeMillis() - page1Start;
-      log.info("Page 1: {} - {} ms", "Cache HIT", page1Time);
-    } else {
-      firstPage = moviesPort.getMoviesByPage(1);
-      cachePort.put(page1Key, firstPage);
-      long page1Time = System.currentTimeMillis() - page1Start;
-      log.info("Page 1: {} - {} ms", "Fetched from API", page1Time);
-    }
+  // A warm snapshot is answered inline. Otherwise every waiter continues on the aggregation pool,
+  // so index builds and serialization never run on the I/O thread that completes the fetch.
+  public <T> CompletableFuture<T> withCatalogSnapshot(Function<CatalogSnapshot, T> work) {
+    CompletableFuture<CatalogSnapshot> snapshot = catalogService.getSnapshotAsync();
+    return snapshot.isDone()
+        ? snapshot.thenApply(work)
+        : snapshot.thenApplyAsync(work, aggregationPool);
+  }
 
-    List<Movie> allMovies = new ArrayList<>(firstPage.data());
-    int totalPages = firstPage.totalPages();
+  public CompletableFuture<List<String>> getDirectorsByThreshold(Integer threshold) {
+    return withCatalogSnapshot(snapshot -> getDirectorsByThreshold(snapshot, threshold));
+  }
 
-    log.info("Total pages to fetch: {}", totalPages);
+  public List<String> getDirectorsByThreshold(CatalogSnapshot snapshot, Integer threshold) {
+    return indexFor(snapshot).directorsAbove(threshold);
+  }
 
-    if (totalPages > 1) {
-      // Fetch remaining pages in parallel (cache checked inside AsyncMoviesService)
-      long parallelStart = System.currentTimeMillis();
+  public void forEachDirectorByThreshold(
+      CatalogSnapshot snapshot, Integer threshold, Consumer<String> consumer) {
+    indexFor(snapshot).forEachDirectorAbove(threshold, consumer);
+  }
 
-      List<CompletableFuture<MoviesResponse>> futures =
-          IntStream.range(2, totalPages + 1)
-              .mapToObj(asyncMoviesService::getMoviesByPageAsync)
-              .toList();
+  public DirectorSlice getDirectorsByThreshold(
+      CatalogSnapshot snapshot, Integer threshold, int fromRow, int limit) {
+    return indexFor(snapshot).directorsAbove(threshold, fromRow, limit);
+  }
 
-      // Wait for all futures to complete
-      CompletableFuture<Void> allFutures =
-          CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+  public CompletableFuture<Map<Integer, List<String>>> getDirectorsByThresholds(
+      SortedSet<Integer> thresholds) {
+    return withCatalogSnapshot(snapshot -> getDirectorsByThresholds(snapshot, thresholds));
+  }
 
-      try {
-        allFutures.join();
+  private Map<Integer, List<String>> getDirectorsByThresholds(
+      CatalogSnapshot snapshot, SortedSet<Integer> thresholds) {
+    int[] ascendingThresholds = thresholds.stream().mapToInt(Integer::intValue).toArray();
+    List<List<String>> directors = indexFor(snapshot).directorsAbove(ascendingThresholds);
 
-        // Collect results from all futures
-        futures.stream()
-            .map(CompletableFuture::join)
-            .forEach(response -> allMovies.addAll(response.data()));
+    Map<Integer, List<String>> directorsByThreshold = new LinkedHashMap<>();
+    for (int i = 0; i < ascendingThresholds.length; i++) {
+      directorsByThreshold.put(ascendingThresholds[i], directors.get(i));
+    }
+    return directorsByThreshold;
+  }
 
-        long parallelTime = System.currentTimeMillis() - parallelStart;
-        log.info(
-            "Parallel fetch of {} pages completed in {} ms (avg: {} ms/page)",
-            (totalPages - 1),
-            parallelTime,
-            parallelTime / (totalPages - 1));
+  public CompletableFuture<DirectorStatsPage> getDirectorStats(
+      DirectorSort sort, boolean descending, int page, int size) {
+    return withCatalogSnapshot(
+        snapshot -> indexFor(snapshot).statsPage(sort, descending, page, size));
+  }
 
-      } catch (Exception e) {
-        log.error("Error fetching movies in parallel", e);
-        throw new MoviesFetchException("Failed to fetch all movies", e);
-      }
-    }
+  public CompletableFuture<List<DirectorStats>> getTopDirectors(int k) {
+    return withCatalogSnapshot(snapshot -> indexFor(snapshot).topByMovieCount(k));
+  }
 
-    long endTime = System.currentTimeMillis();
-    long totalTime = endTime - startTime;
+  public PartialDirectorsResult getDirectorsByThresholdWithinBudget(Integer threshold) {
+    PartialCatalog catalog = catalogService.fetchWithinBudget();
+    // A complete catalog reuses the memoized index; only a real partial page set is indexed here
+    List<String> directors =
+        catalog.snapshot() != null
+            ? getDirectorsByThreshold(catalog.snapshot(), threshold)
+            : DirectorIndex.of(catalog.movies()).directorsAbove(threshold);
+    return new PartialDirectorsResult(
+        directors, catalog.pagesFetched(), catalog.totalPages(), catalog.movies().size());
+  }
 
-    log.info("========== Fetch Complete ==========");
-    log.info("Total movies fetched: {}", allMovies.size());
-    log.info("Total pages: {}", totalPages);
-    log.info(
-        "Total time: {} ms (avg: {} ms/page)",
-        totalTime,
-        totalPages > 0 ? totalTime / totalPages : 0);
-    log.info("=======================================");
+  // Rebuilt only when the catalog content changes; refreshes with identical content keep it
+  private DirectorIndex indexFor(CatalogSnapshot snapshot) {
+    return directorIndex.get(snapshot);
+  }
 
-    return allMovies;
+  private DirectorIndex buildIndex(CatalogSnapshot snapshot) {
+    return snapshot.catalog().size() >= parallelThresholdRows
+        ? DirectorIndex.of(snapshot, aggregationPool)
+        : DirectorIndex.of(snapshot);
   }
 }
@@ -0,0 +1,36 @@
+package com.challenge.movies.application.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.challenge.movies.domain.model.CatalogField;
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.model.Movie;
+import com.challenge.movies.domain.model.PersonIndex;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class PersonService {
+
+  private final CatalogService catalogService;
+
+  private final CatalogVersionMemo<PersonIndex> actorIndex =
+      new CatalogVersionMemo<>(snapshot -> PersonIndex.of(snapshot, CatalogField.ACTORS));
+  private final CatalogVersionMemo<PersonIndex> writerIndex =
+      new CatalogVersionMemo<>(snapshot -> PersonIndex.of(snapshot, CatalogField.WRITER));
+
+  public List<String> getPeopleByThreshold(CatalogField role, int threshold) {
+    return indexFor(role, catalogService.getSnapshot()).peopleAbove(threshold);
+  }
+
+  public List<Movie> getMoviesWithAll(CatalogField role, List<String> names) {
+    return indexFor(role, catalogService.getSnapshot()).moviesWithAll(names);
+  }
+
+  private PersonIndex indexFor(CatalogField role, CatalogSnapshot snapshot) {
+    return (role == CatalogField.ACTORS ? actorIndex : writerIndex).get(snapshot);
+  }
+}
@@ -0,0 +1,53 @@
+package com.challenge.movies.application.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.model.SearchHit;
+import com.challenge.movies.domain.model.SearchTarget;
+import com.challenge.movies.domain.model.TrigramIndex;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+  private final CatalogService catalogService;
+
+  // One trigram index per target, built on the first search of that target per catalog version
+  private final Map<SearchTarget, CatalogVersionMemo<TrigramIndex>> indexes = indexes();
+
+  public List<SearchHit> search(
+      String query, Set<SearchTarget> targets, int maxDistance, int limit) {
+    CatalogSnapshot snapshot = catalogService.getSnapshot();
+    List<SearchHit> hits = new ArrayList<>();
+    for (SearchTarget target : targets) {
+      hits.addAll(indexFor(target, snapshot).search(query, maxDistance, limit));
+    }
+    // Each target is already ranked; merge on distance and keep the target order for ties
+    hits.sort(Comparator.comparingInt(SearchHit::distance));
+    return hits.subList(0, Math.min(limit, hits.size()));
+  }
+
+  private TrigramIndex indexFor(SearchTarget target, CatalogSnapshot snapshot) {
+    return indexes.get(target).get(snapshot);
+  }
+
+  private static Map<SearchTarget, CatalogVersionMemo<TrigramIndex>> indexes() {
+    Map<SearchTarget, CatalogVersionMemo<TrigramIndex>> indexes = new EnumMap<>(SearchTarget.class);
+    for (SearchTarget target : SearchTarget.values()) {
+      indexes.put(
+          target,
+          new CatalogVersionMemo<>(snapshot -> TrigramIndex.of(snapshot.catalog(), target)));
+    }
+    return indexes;
+  }
+}
@@ -0,0 +1,66 @@
+package com.challenge.movies.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.port.SnapshotStorePort;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Warm start: the last persisted catalog is installed before the first request arrives, and every
+// catalog whose content changes is persisted again for the next boot. Snapshot commands leave it
+// out, so an export never rewrites the warm-start file.
+@Slf4j
+@Service
+@Profile("!snapshot-command")
+public class SnapshotPersistenceService {
+
+  private final SnapshotStorePort snapshotStorePort;
+  private final Executor snapshotWriteExecutor;
+
+  // Latest snapshot not yet handed to the store; non-null while a write task is queued
+  private final AtomicReference<CatalogSnapshot> pendingWrite = new AtomicReference<>();
+
+  public SnapshotPersistenceService(
+      CatalogService catalogService,
+      SnapshotStorePort snapshotStorePort,
+      @Qualifier("snapshotWriteExecutor") Executor snapshotWriteExecutor,
+      @Value("${catalog.snapshot-file.max-age-minutes:1440}") long maxAgeMinutes) {
+    this.snapshotStorePort = snapshotStorePort;
+    this.snapshotWriteExecutor = snapshotWriteExecutor;
+    long started = System.nanoTime();
+    snapshotStorePort
+        .load()
+        .ifPresent(
+            restored -> {
+              Duration age = Duration.between(restored.createdAt(), Instant.now());
+              if (age.toMinutes() > maxAgeMinutes) {
+                log.info("Catalog snapshot file is {} old, waiting for a fresh fetch", age);
+              } else if (catalogService.restore(restored)) {
+                log.info(
+                    "Restored catalog snapshot {} ({} movies, {} old) in {} ms",
+                    Long.toHexString(restored.version()),
+                    restored.catalog().size(),
+                    age,
+                    Duration.ofNanos(System.nanoTime() - started).toMillis());
+              }
+            });
+    catalogService.addSnapshotListener(this::scheduleWrite);
+  }
+
+  // Listeners run on the fetching thread, so the file is written elsewhere. Snapshots published
+  // while a write is queued replace each other, and only the latest one reaches the disk.
+  private void scheduleWrite(CatalogSnapshot snapshot) {
+    if (pendingWrite.getAndSet(snapshot) == null) {
+      snapshotWriteExecutor.execute(() -> snapshotStorePort.save(pendingWrite.getAndSet(null)));
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package com.challenge.movies.domain.exception;
+
+public class SnapshotFormatException extends RuntimeException {
+
+  public SnapshotFormatException(String message) {
+    super(message);
+  }
+
+  public SnapshotFormatException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
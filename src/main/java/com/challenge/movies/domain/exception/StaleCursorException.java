@@ -0,0 +1,8 @@
+package com.challenge.movies.domain.exception;
+
+public class StaleCursorException extends RuntimeException {
+
+  public StaleCursorException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,15 @@
+package com.challenge.movies.domain.exception;
+
+public class UpstreamRateLimitException extends RuntimeException {
+
+  private final long retryAfterSeconds;
+
+  public UpstreamRateLimitException(String message, long retryAfterSeconds) {
+    super(message);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
@@ -0,0 +1,26 @@
+package com.challenge.movies.domain.model;
+
+// Movie fields the query engine can group and filter on. Multi-valued fields hold comma-separated
+// lists ("Comedy, Drama") and are grouped by each trimmed element.
+public enum CatalogField {
+  DIRECTOR(false),
+  WRITER(true),
+  ACTORS(true),
+  GENRE(true),
+  RATED(false),
+  YEAR(false);
+
+  private final boolean multiValued;
+
+  CatalogField(boolean multiValued) {
+    this.multiValued = multiValued;
+  }
+
+  public boolean multiValued() {
+    return multiValued;
+  }
+
+  public boolean numeric() {
+    return this == YEAR;
+  }
+}
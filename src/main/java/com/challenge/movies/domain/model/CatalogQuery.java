@@ -0,0 +1,7 @@
+package com.challenge.movies.domain.model;
+
+import java.util.List;
+
+// Groups movies passing every filter by groupBy and keeps groups with more than threshold movies
+public record CatalogQuery(
+    CatalogField groupBy, int threshold, List<QueryFilter> filters, QuerySort sort, int limit) {}
@@ -0,0 +1,202 @@
+package com.challenge.movies.domain.model;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+// Runs a CatalogQuery as one pass over the columns. Filters are compiled up front into predicates
+// on int codes (a string filter is resolved against the dictionary once, never per row), and
+// groups are counted into an int array indexed by dictionary code or year, so the row loop neither
+// decodes a string nor boxes a count.
+public final class CatalogQueryEngine {
+
+  private CatalogQueryEngine() {}
+
+  public static QueryResult run(ColumnarCatalog catalog, CatalogQuery query) {
+    IntPredicate[] filters =
+        query.filters().stream()
+            .map(filter -> compile(catalog, filter))
+            .toArray(IntPredicate[]::new);
+    Grouping grouping = grouping(catalog, query.groupBy());
+
+    int[] counts = new int[grouping.keys()];
+    int matched = 0;
+    rows:
+    for (int row = 0; row < catalog.size(); row++) {
+      for (IntPredicate filter : filters) {
+        if (!filter.test(row)) {
+          continue rows;
+        }
+      }
+      matched++;
+      grouping.count(row, counts);
+    }
+    return collect(grouping, counts, query, matched);
+  }
+
+  static IntPredicate compile(ColumnarCatalog catalog, QueryFilter filter) {
+    if (filter.field().numeric()) {
+      return compileYear(catalog.years(), filter);
+    }
+    if (filter.operator() != QueryFilter.Operator.EQ) {
+      throw new IllegalArgumentException(
+          "Only equality filters are supported on " + filter.field());
+    }
+    ColumnarCatalog.EncodedColumn values = catalog.column(filter.field());
+    IntBuffer codes = values.codes();
+    if (!filter.field().multiValued()) {
+      int code = values.dictionary().code(filter.value());
+      return code == StringDictionary.NULL_CODE ? row -> false : row -> codes.get(row) == code;
+    }
+
+    TokenizedColumn column = catalog.tokenized(filter.field());
+    int token = column.tokens().code(filter.value());
+    if (token == StringDictionary.NULL_CODE) {
+      return row -> false;
+    }
+    // Which whole values contain the element, so a row is tested with one array load
+    boolean[] accepted = new boolean[values.dictionary().size()];
+    for (int code = 0; code < accepted.length; code++) {
+      for (int element : column.tokens(code)) {
+        accepted[code] |= element == token;
+      }
+    }
+    return row -> {
+      int code = codes.get(row);
+      return code != StringDictionary.NULL_CODE && accepted[code];
+    };
+  }
+
+  private static IntPredicate compileYear(IntBuffer years, QueryFilter filter) {
+    int bound;
+    try {
+      bound = Integer.parseInt(filter.value().trim());
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Year filter needs a number: " + filter.value(), e);
+    }
+    // NO_VALUE is Integer.MIN_VALUE, so only the upper bounds have to exclude it explicitly
+    return switch (filter.operator()) {
+      case EQ -> row -> years.get(row) == bound;
+      case GT -> row -> years.get(row) > bound;
+      case GTE -> row -> years.get(row) >= bound;
+      case LT -> row -> {
+        int year = years.get(row);
+        return year != ColumnarCatalog.NO_VALUE && year < bound;
+      };
+      case LTE -> row -> {
+        int year = years.get(row);
+        return year != ColumnarCatalog.NO_VALUE && year <= bound;
+      };
+    };
+  }
+
+  private static Grouping grouping(ColumnarCatalog catalog, CatalogField field) {
+    if (field.numeric()) {
+      return new YearGrouping(catalog.years(), catalog.distinctYears());
+    }
+    ColumnarCatalog.EncodedColumn column = catalog.column(field);
+    return field.multiValued()
+        ? new TokenGrouping(column.codes(), catalog.tokenized(field))
+        : new CodeGrouping(column);
+  }
+
+  private static QueryResult collect(
+      Grouping grouping, int[] counts, CatalogQuery query, int matched) {
+    // Keys are already in value order; for count order pack (count desc, key asc) into one long
+    long[] selected = new long[counts.length];
+    int size = 0;
+    for (int key = 0; key < counts.length; key++) {
+      if (counts[key] > query.threshold()) {
+        selected[size++] =
+            query.sort() == QuerySort.COUNT
+                ? (long) (Integer.MAX_VALUE - counts[key]) << 32 | key
+                : key;
+      }
+    }
+    if (query.sort() == QuerySort.COUNT) {
+      Arrays.sort(selected, 0, size);
+    }
+
+    int returned = Math.min(size, query.limit());
+    List<GroupCount> groups = new ArrayList<>(returned);
+    for (int i = 0; i < returned; i++) {
+      int key = (int) selected[i];
+      groups.add(new GroupCount(grouping.name(key), counts[key]));
+    }
+    return new QueryResult(groups, size, matched);
+  }
+
+  private interface Grouping {
+
+    int keys();
+
+    void count(int row, int[] counts);
+
+    String name(int key);
+  }
+
+  private record CodeGrouping(ColumnarCatalog.EncodedColumn column) implements Grouping {
+
+    @Override
+    public int keys() {
+      return column.dictionary().size();
+    }
+
+    @Override
+    public void count(int row, int[] counts) {
+      int code = column.codes().get(row);
+      if (code != StringDictionary.NULL_CODE) {
+        counts[code]++;
+      }
+    }
+
+    @Override
+    public String name(int key) {
+      return column.dictionary().value(key);
+    }
+  }
+
+  private record TokenGrouping(IntBuffer codes, TokenizedColumn column) implements Grouping {
+
+    @Override
+    public int keys() {
+      return column.tokens().size();
+    }
+
+    @Override
+    public void count(int row, int[] counts) {
+      for (int token : column.tokens(codes.get(row))) {
+        counts[token]++;
+      }
+    }
+
+    @Override
+    public String name(int key) {
+      return column.tokens().value(key);
+    }
+  }
+
+  // Keys index the catalog's sorted distinct years, so an outlier year costs one key, not a span
+  private record YearGrouping(IntBuffer years, int[] distinctYears) implements Grouping {
+
+    @Override
+    public int keys() {
+      return distinctYears.length;
+    }
+
+    @Override
+    public void count(int row, int[] counts) {
+      int year = years.get(row);
+      if (year != ColumnarCatalog.NO_VALUE) {
+        counts[Arrays.binarySearch(distinctYears, year)]++;
+      }
+    }
+
+    @Override
+    public String name(int key) {
+      return String.valueOf(distinctYears[key]);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.challenge.movies.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+
+public record CatalogSnapshot(
+    long version, Instant createdAt, int totalPages, ColumnarCatalog catalog) {
+
+  private static final long VERSION_SEED = 1_125_899_906_842_597L;
+
+  public static CatalogSnapshot of(int totalPages, List<Movie> movies) {
+    return new CatalogSnapshot(
+        versionOf(movies), Instant.now(), totalPages, ColumnarCatalog.of(movies));
+  }
+
+  // A view over the columns; each access rebuilds the Movie
+  public List<Movie> movies() {
+    return catalog.asMovies();
+  }
+
+  // Content-derived so that identical catalogs get the same version across refreshes and nodes
+  private static long versionOf(List<Movie> movies) {
+    long version = VERSION_SEED;
+    for (Movie movie : movies) {
+      version = 31 * version + movie.hashCode();
+    }
+    return version;
+  }
+}
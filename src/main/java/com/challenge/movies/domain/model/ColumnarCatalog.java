@@ -0,0 +1,274 @@
+package com.challenge.movies.domain.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+// Column-per-field catalog: repeated strings are stored once in a dictionary and rows hold int
+// codes, so aggregations are loops over primitive columns instead of walks over Movie records.
+// Columns are direct buffers (or slices of a mapped snapshot file), so they live off the GC heap.
+public final class ColumnarCatalog {
+
+  public static final int NO_VALUE = Integer.MIN_VALUE;
+
+  static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+  private final int size;
+  private final IntBuffer years;
+  private final IntBuffer runtimeMinutes;
+  private final EncodedColumn titles;
+  private final EncodedColumn rated;
+  private final EncodedColumn released;
+  private final EncodedColumn runtimes;
+  private final EncodedColumn genres;
+  private final EncodedColumn directors;
+  private final EncodedColumn writers;
+  private final EncodedColumn actors;
+  // Built on the first query that groups or filters by elements of a multi-valued field
+  private final AtomicReferenceArray<TokenizedColumn> tokenized =
+      new AtomicReferenceArray<>(CatalogField.values().length);
+  // Built on the first query that groups or facets by year
+  private final AtomicReference<int[]> distinctYears = new AtomicReference<>();
+
+  // stringColumns in the order returned by stringColumns()
+  ColumnarCatalog(
+      int size, IntBuffer years, IntBuffer runtimeMinutes, List<EncodedColumn> stringColumns) {
+    this.size = size;
+    this.years = years;
+    this.runtimeMinutes = runtimeMinutes;
+    titles = stringColumns.get(0);
+    rated = stringColumns.get(1);
+    released = stringColumns.get(2);
+    runtimes = stringColumns.get(3);
+    genres = stringColumns.get(4);
+    directors = stringColumns.get(5);
+    writers = stringColumns.get(6);
+    actors = stringColumns.get(7);
+  }
+
+  public static ColumnarCatalog of(List<Movie> movies) {
+    int size = movies.size();
+    IntBuffer years = allocateInts(size);
+    IntBuffer runtimeMinutes = allocateInts(size);
+    for (int row = 0; row < size; row++) {
+      Movie movie = movies.get(row);
+      years.put(row, movie.year() == null ? NO_VALUE : movie.year());
+      runtimeMinutes.put(row, parseMinutes(movie.runtime()));
+    }
+    return new ColumnarCatalog(
+        size,
+        years,
+        runtimeMinutes,
+        List.of(
+            EncodedColumn.of(movies, Movie::title),
+            EncodedColumn.of(movies, Movie::rated),
+            EncodedColumn.of(movies, Movie::released),
+            EncodedColumn.of(movies, Movie::runtime),
+            EncodedColumn.of(movies, Movie::genre),
+            EncodedColumn.of(movies, Movie::director),
+            EncodedColumn.of(movies, Movie::writer),
+            EncodedColumn.of(movies, Movie::actors)));
+  }
+
+  static IntBuffer allocateInts(int count) {
+    return ByteBuffer.allocateDirect(Math.multiplyExact(count, Integer.BYTES))
+        .order(BYTE_ORDER)
+        .asIntBuffer();
+  }
+
+  public int size() {
+    return size;
+  }
+
+  // NO_VALUE when the year is missing
+  public int year(int row) {
+    return years.get(row);
+  }
+
+  // NO_VALUE when the runtime is missing or not in "<minutes> min" form
+  public int runtimeMinutes(int row) {
+    return runtimeMinutes.get(row);
+  }
+
+  public StringDictionary directors() {
+    return directors.dictionary();
+  }
+
+  public int directorCode(int row) {
+    return directors.codes().get(row);
+  }
+
+  public StringDictionary genres() {
+    return genres.dictionary();
+  }
+
+  public int genreCode(int row) {
+    return genres.codes().get(row);
+  }
+
+  public StringDictionary ratings() {
+    return rated.dictionary();
+  }
+
+  public int ratedCode(int row) {
+    return rated.codes().get(row);
+  }
+
+  public Movie movie(int row) {
+    int year = years.get(row);
+    return new Movie(
+        titles.value(row),
+        year == NO_VALUE ? null : year,
+        rated.value(row),
+        released.value(row),
+        runtimes.value(row),
+        genres.value(row),
+        directors.value(row),
+        writers.value(row),
+        actors.value(row));
+  }
+
+  // Rows are rebuilt on access; nothing beyond the columns is kept
+  public List<Movie> asMovies() {
+    return new MovieView();
+  }
+
+  // Raw column behind a string field
+  EncodedColumn column(CatalogField field) {
+    return switch (field) {
+      case DIRECTOR -> directors;
+      case WRITER -> writers;
+      case ACTORS -> actors;
+      case GENRE -> genres;
+      case RATED -> rated;
+      case YEAR -> throw new IllegalArgumentException("Year is not a string column");
+    };
+  }
+
+  EncodedColumn titles() {
+    return titles;
+  }
+
+  TokenizedColumn tokenized(CatalogField field) {
+    TokenizedColumn column = tokenized.get(field.ordinal());
+    if (column == null) {
+      // Racing builders produce equal columns, so whichever lands first is kept
+      tokenized.compareAndSet(
+          field.ordinal(), null, TokenizedColumn.of(column(field).dictionary()));
+      column = tokenized.get(field.ordinal());
+    }
+    return column;
+  }
+
+  IntBuffer years() {
+    return years;
+  }
+
+  // Sorted years present in the catalog, each once; shared, so callers must not modify it
+  int[] distinctYears() {
+    int[] sorted = distinctYears.get();
+    if (sorted == null) {
+      // Racing builders produce equal arrays, so whichever lands first is kept
+      distinctYears.compareAndSet(null, sortDistinctYears());
+      sorted = distinctYears.get();
+    }
+    return sorted;
+  }
+
+  private int[] sortDistinctYears() {
+    int[] sorted = new int[size];
+    int count = 0;
+    for (int row = 0; row < size; row++) {
+      int year = years.get(row);
+      if (year != NO_VALUE) {
+        sorted[count++] = year;
+      }
+    }
+    Arrays.sort(sorted, 0, count);
+    int distinct = 0;
+    for (int i = 0; i < count; i++) {
+      if (distinct == 0 || sorted[distinct - 1] != sorted[i]) {
+        sorted[distinct++] = sorted[i];
+      }
+    }
+    return Arrays.copyOf(sorted, distinct);
+  }
+
+  IntBuffer runtimeMinutes() {
+    return runtimeMinutes;
+  }
+
+  List<EncodedColumn> stringColumns() {
+    return List.of(titles, rated, released, runtimes, genres, directors, writers, actors);
+  }
+
+  private static int parseMinutes(String runtime) {
+    if (runtime == null) {
+      return NO_VALUE;
+    }
+    int minutes = 0;
+    int digits = 0;
+    while (digits < runtime.length() && Character.isDigit(runtime.charAt(digits))) {
+      minutes = minutes * 10 + (runtime.charAt(digits) - '0');
+      digits++;
+    }
+    return digits == 0 || digits > 6 ? NO_VALUE : minutes;
+  }
+
+  private final class MovieView extends AbstractList<Movie> implements RandomAccess {
+
+    @Override
+    public Movie get(int row) {
+      Objects.checkIndex(row, size);
+      return movie(row);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
+  record EncodedColumn(StringDictionary dictionary, IntBuffer codes) {
+
+    private static EncodedColumn of(List<Movie> movies, Function<Movie, String> field) {
+      Set<String> distinct = new HashSet<>();
+      for (Movie movie : movies) {
+        String value = field.apply(movie);
+        if (value != null) {
+          distinct.add(value);
+        }
+      }
+      String[] values = distinct.toArray(new String[0]);
+      Arrays.sort(values);
+
+      // The lookup table only lives while the column is encoded
+      Map<String, Integer> codeByValue = new HashMap<>(values.length * 2);
+      for (int code = 0; code < values.length; code++) {
+        codeByValue.put(values[code], code);
+      }
+      IntBuffer codes = allocateInts(movies.size());
+      for (int row = 0; row < movies.size(); row++) {
+        String value = field.apply(movies.get(row));
+        codes.put(row, value == null ? StringDictionary.NULL_CODE : codeByValue.get(value));
+      }
+      return new EncodedColumn(StringDictionary.of(values), codes);
+    }
+
+    private String value(int row) {
+      return dictionary.value(codes.get(row));
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package com.challenge.movies.domain.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Movie count and year range per director code, as dense int arrays indexed by dictionary code.
+// Years are NO_YEAR for directors without a dated movie.
+public final class DirectorAggregation {
+
+  public static final int NO_YEAR = Integer.MIN_VALUE;
+
+  // Smallest fork/join leaf; larger catalogs split into a few leaves per worker so each leaf's
+  // tally is amortized over many rows
+  static final int CHUNK_ROWS = 1 << 16;
+  private static final int LEAVES_PER_WORKER = 4;
+
+  // Dense leaf tallies are faster to fill and merge; past this total they switch to sparse ones
+  private static final long DENSE_LEAVES_MAX_BYTES = 64L << 20;
+
+  private final int[] counts;
+  private final int[] firstYears;
+  private final int[] lastYears;
+
+  private DirectorAggregation(int[] counts, int[] firstYears, int[] lastYears) {
+    this.counts = counts;
+    this.firstYears = firstYears;
+    this.lastYears = lastYears;
+  }
+
+  // Director codes are dense, so one pass increments plain arrays directly
+  public static DirectorAggregation sequential(ColumnarCatalog catalog) {
+    int directors = catalog.directors().size();
+    int[] counts = new int[directors];
+    int[] firstYears = filled(directors, Integer.MAX_VALUE);
+    int[] lastYears = filled(directors, NO_YEAR);
+
+    for (int row = 0; row < catalog.size(); row++) {
+      int director = catalog.directorCode(row);
+      if (director == StringDictionary.NULL_CODE) {
+        continue;
+      }
+      counts[director]++;
+      int year = catalog.year(row);
+      if (year != ColumnarCatalog.NO_VALUE) {
+        firstYears[director] = Math.min(firstYears[director], year);
+        lastYears[director] = Math.max(lastYears[director], year);
+      }
+    }
+    return finish(counts, firstYears, lastYears);
+  }
+
+  // Each leaf counts its row range into its own tally, so workers never share a counter; tallies
+  // are merged pairwise on join and drained into dense arrays at the root
+  public static DirectorAggregation parallel(ColumnarCatalog catalog, ForkJoinPool pool) {
+    return parallel(catalog, pool, DENSE_LEAVES_MAX_BYTES);
+  }
+
+  static DirectorAggregation parallel(
+      ColumnarCatalog catalog, ForkJoinPool pool, long denseLeavesMaxBytes) {
+    int directors = catalog.directors().size();
+    int leafRows =
+        Math.max(CHUNK_ROWS, catalog.size() / (pool.getParallelism() * LEAVES_PER_WORKER) + 1);
+    long leaves = (catalog.size() + leafRows - 1L) / leafRows;
+    boolean denseLeaves =
+        12L * directors * leaves <= denseLeavesMaxBytes || 3L * directors <= 8L * leafRows;
+    DirectorTally tally =
+        pool.invoke(new CountTask(catalog, 0, catalog.size(), leafRows, denseLeaves));
+    int[] counts = new int[directors];
+    int[] firstYears = filled(directors, Integer.MAX_VALUE);
+    int[] lastYears = filled(directors, NO_YEAR);
+    tally.drainInto(counts, firstYears, lastYears);
+    return finish(counts, firstYears, lastYears);
+  }
+
+  public int size() {
+    return counts.length;
+  }
+
+  public int count(int director) {
+    return counts[director];
+  }
+
+  int[] counts() {
+    return counts;
+  }
+
+  int[] firstYears() {
+    return firstYears;
+  }
+
+  int[] lastYears() {
+    return lastYears;
+  }
+
+  private static DirectorAggregation finish(int[] counts, int[] firstYears, int[] lastYears) {
+    for (int i = 0; i < counts.length; i++) {
+      if (lastYears[i] == NO_YEAR) {
+        firstYears[i] = NO_YEAR;
+      }
+    }
+    return new DirectorAggregation(counts, firstYears, lastYears);
+  }
+
+  private static int[] filled(int length, int value) {
+    int[] array = new int[length];
+    Arrays.fill(array, value);
+    return array;
+  }
+
+  private static final class CountTask extends RecursiveTask<DirectorTally> {
+
+    private final ColumnarCatalog catalog;
+    private final int from;
+    private final int to;
+    private final int leafRows;
+    private final boolean denseLeaves;
+
+    private CountTask(
+        ColumnarCatalog catalog, int from, int to, int leafRows, boolean denseLeaves) {
+      this.catalog = catalog;
+      this.from = from;
+      this.to = to;
+      this.leafRows = leafRows;
+      this.denseLeaves = denseLeaves;
+    }
+
+    @Override
+    protected DirectorTally compute() {
+      if (to - from <= leafRows) {
+        return countRange();
+      }
+      int middle = (from + to) >>> 1;
+      CountTask left = new CountTask(catalog, from, middle, leafRows, denseLeaves);
+      left.fork();
+      DirectorTally right = new CountTask(catalog, middle, to, leafRows, denseLeaves).compute();
+      return merge(left.join(), right);
+    }
+
+    private DirectorTally countRange() {
+      DirectorTally tally =
+          denseLeaves
+              ? DirectorTally.dense(catalog.directors().size())
+              : DirectorTally.sparse(to - from);
+      for (int row = from; row < to; row++) {
+        int director = catalog.directorCode(row);
+        if (director != StringDictionary.NULL_CODE) {
+          tally.add(director, catalog.year(row));
+        }
+      }
+      return tally;
+    }
+
+    // Prefer a dense target, which absorbs the other side without probing or growing
+    private static DirectorTally merge(DirectorTally left, DirectorTally right) {
+      if (right.dense() || (!left.dense() && left.size() < right.size())) {
+        right.addAll(left);
+        return right;
+      }
+      left.addAll(right);
+      return left;
+    }
+  }
+}
@@ -0,0 +1,265 @@
+package com.challenge.movies.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// Per-catalog stats table of directors sorted by name, built once per snapshot
+public final class DirectorIndex {
+
+  private static final int NO_YEAR = DirectorAggregation.NO_YEAR;
+
+  private final long catalogVersion;
+  private final String[] names;
+  private final int[] counts;
+  private final int[] firstYears;
+  private final int[] lastYears;
+
+  // Runs the order sorts in parallel when set; null sorts on the calling thread
+  private final ForkJoinPool sortPool;
+
+  // Row orders per (sort, direction), computed on first use and shared by every later page request
+  private final AtomicReferenceArray<int[]> orders =
+      new AtomicReferenceArray<>(DirectorSort.values().length * 2);
+
+  private DirectorIndex(
+      long catalogVersion,
+      String[] names,
+      int[] counts,
+      int[] firstYears,
+      int[] lastYears,
+      ForkJoinPool sortPool) {
+    this.catalogVersion = catalogVersion;
+    this.names = names;
+    this.counts = counts;
+    this.firstYears = firstYears;
+    this.lastYears = lastYears;
+    this.sortPool = sortPool;
+  }
+
+  public static DirectorIndex of(CatalogSnapshot snapshot) {
+    return build(snapshot.version(), snapshot.catalog(), null);
+  }
+
+  public static DirectorIndex of(CatalogSnapshot snapshot, ForkJoinPool pool) {
+    return build(snapshot.version(), snapshot.catalog(), pool);
+  }
+
+  public static DirectorIndex of(List<Movie> movies) {
+    return build(0L, ColumnarCatalog.of(movies), null);
+  }
+
+  // Director codes are already in name order, so the aggregation arrays are the table as is
+  private static DirectorIndex build(
+      long catalogVersion, ColumnarCatalog catalog, ForkJoinPool pool) {
+    StringDictionary directors = catalog.directors();
+    DirectorAggregation aggregation =
+        pool == null
+            ? DirectorAggregation.sequential(catalog)
+            : DirectorAggregation.parallel(catalog, pool);
+    String[] names = new String[directors.size()];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = directors.value(i);
+    }
+    return new DirectorIndex(
+        catalogVersion,
+        names,
+        aggregation.counts(),
+        aggregation.firstYears(),
+        aggregation.lastYears(),
+        pool);
+  }
+
+  public long catalogVersion() {
+    return catalogVersion;
+  }
+
+  public int size() {
+    return names.length;
+  }
+
+  public List<String> directorsAbove(int threshold) {
+    List<String> directors = new ArrayList<>();
+    for (int i = 0; i < names.length; i++) {
+      if (counts[i] > threshold) {
+        directors.add(names[i]);
+      }
+    }
+    return directors;
+  }
+
+  // Hands directors to the consumer in name order without materializing a list
+  public void forEachDirectorAbove(int threshold, Consumer<String> consumer) {
+    for (int i = 0; i < names.length; i++) {
+      if (counts[i] > threshold) {
+        consumer.accept(names[i]);
+      }
+    }
+  }
+
+  // Resumes at fromRow and stops after limit matches, so memory is bounded by the page size
+  public DirectorSlice directorsAbove(int threshold, int fromRow, int limit) {
+    List<String> directors = new ArrayList<>(Math.min(limit, names.length));
+    for (int i = fromRow; i < names.length; i++) {
+      if (counts[i] > threshold) {
+        if (directors.size() == limit) {
+          return new DirectorSlice(directors, i);
+        }
+        directors.add(names[i]);
+      }
+    }
+    return new DirectorSlice(directors, DirectorSlice.END);
+  }
+
+  // One pass over the directors for any number of thresholds; ascendingThresholds must be sorted
+  public List<List<String>> directorsAbove(int[] ascendingThresholds) {
+    List<List<String>> results = new ArrayList<>(ascendingThresholds.length);
+    for (int j = 0; j < ascendingThresholds.length; j++) {
+      results.add(new ArrayList<>());
+    }
+    for (int i = 0; i < names.length; i++) {
+      int count = counts[i];
+      for (int j = 0; j < ascendingThresholds.length && ascendingThresholds[j] < count; j++) {
+        results.get(j).add(names[i]);
+      }
+    }
+    return results;
+  }
+
+  public DirectorStatsPage statsPage(DirectorSort sort, boolean descending, int page, int size) {
+    int[] order = orderFor(sort, descending);
+    int from = (int) Math.min((long) page * size, order.length);
+    int to = Math.min(from + size, order.length);
+
+    List<DirectorStats> directors = new ArrayList<>(to - from);
+    for (int i = from; i < to; i++) {
+      directors.add(statsAt(order[i]));
+    }
+    return new DirectorStatsPage(directors, page, size, order.length);
+  }
+
+  // Bounded int min-heap of the k best rows so far, worst at the root: O(n log k), no full sort
+  public List<DirectorStats> topByMovieCount(int k) {
+    if (k <= 0) {
+      return List.of();
+    }
+    int[] heap = new int[Math.min(k, names.length)];
+    int size = 0;
+    for (int row = 0; row < names.length; row++) {
+      if (size < heap.length) {
+        heap[size] = row;
+        siftUp(heap, size++);
+      } else if (ranksAbove(row, heap[0])) {
+        heap[0] = row;
+        siftDown(heap, size);
+      }
+    }
+
+    DirectorStats[] top = new DirectorStats[size];
+    for (int i = size - 1; i >= 0; i--) {
+      top[i] = statsAt(heap[0]);
+      heap[0] = heap[--size];
+      siftDown(heap, size);
+    }
+    return List.of(top);
+  }
+
+  // More movies first; equal counts keep name order, which is row order
+  private boolean ranksAbove(int row, int other) {
+    return counts[row] != counts[other] ? counts[row] > counts[other] : row < other;
+  }
+
+  private void siftUp(int[] heap, int index) {
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (!ranksAbove(heap[parent], heap[index])) {
+        return;
+      }
+      swap(heap, parent, index);
+      index = parent;
+    }
+  }
+
+  private void siftDown(int[] heap, int size) {
+    int index = 0;
+    while (index * 2 + 1 < size) {
+      int child = index * 2 + 1;
+      if (child + 1 < size && ranksAbove(heap[child], heap[child + 1])) {
+        child++;
+      }
+      if (!ranksAbove(heap[index], heap[child])) {
+        return;
+      }
+      swap(heap, index, child);
+      index = child;
+    }
+  }
+
+  private static void swap(int[] values, int i, int j) {
+    int value = values[i];
+    values[i] = values[j];
+    values[j] = value;
+  }
+
+  private DirectorStats statsAt(int row) {
+    return new DirectorStats(
+        names[row],
+        counts[row],
+        firstYears[row] == NO_YEAR ? null : firstYears[row],
+        lastYears[row] == NO_YEAR ? null : lastYears[row]);
+  }
+
+  private int[] orderFor(DirectorSort sort, boolean descending) {
+    int slot = sort.ordinal() * 2 + (descending ? 1 : 0);
+    int[] order = orders.get(slot);
+    if (order == null) {
+      order = computeOrder(sort, descending);
+      orders.compareAndSet(slot, null, order);
+    }
+    return order;
+  }
+
+  // Sorts (key, row) pairs packed into longs: key first, then row, which is name order. Descending
+  // flips the key bits so ties still come out by name.
+  private int[] computeOrder(DirectorSort sort, boolean descending) {
+    if (sort == DirectorSort.NAME) {
+      int[] order = IntStream.range(0, names.length).toArray();
+      return descending ? reversed(order) : order;
+    }
+    int[] keys =
+        switch (sort) {
+          case MOVIE_COUNT -> counts;
+          case FIRST_YEAR -> firstYears;
+          case LAST_YEAR -> lastYears;
+          case NAME -> throw new IllegalStateException();
+        };
+    long[] packed = new long[names.length];
+    for (int row = 0; row < packed.length; row++) {
+      int key = descending ? ~keys[row] : keys[row];
+      packed[row] = (long) key << 32 | row;
+    }
+    if (sortPool == null) {
+      Arrays.sort(packed);
+    } else {
+      sortPool.submit(() -> Arrays.parallelSort(packed)).join();
+    }
+
+    int[] order = new int[packed.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = (int) packed[i];
+    }
+    return order;
+  }
+
+  private static int[] reversed(int[] order) {
+    int[] reversed = new int[order.length];
+    for (int i = 0; i < order.length; i++) {
+      reversed[i] = order[order.length - 1 - i];
+    }
+    return reversed;
+  }
+}
@@ -0,0 +1,12 @@
+package com.challenge.movies.domain.model;
+
+import java.util.List;
+
+public record DirectorSlice(List<String> directors, int nextRow) {
+
+  public static final int END = -1;
+
+  public boolean hasMore() {
+    return nextRow != END;
+  }
+}
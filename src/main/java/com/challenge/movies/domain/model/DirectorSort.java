@@ -0,0 +1,8 @@
+package com.challenge.movies.domain.model;
+
+public enum DirectorSort {
+  NAME,
+  MOVIE_COUNT,
+  FIRST_YEAR,
+  LAST_YEAR
+}
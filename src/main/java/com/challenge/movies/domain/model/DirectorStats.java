@@ -0,0 +1,3 @@
+package com.challenge.movies.domain.model;
+
+public record DirectorStats(String name, int movieCount, Integer firstYear, Integer lastYear) {}
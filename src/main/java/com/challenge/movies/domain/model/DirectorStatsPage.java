@@ -0,0 +1,11 @@
+package com.challenge.movies.domain.model;
+
+import java.util.List;
+
+public record DirectorStatsPage(
+    List<DirectorStats> directors, int page, int size, int totalElements) {
+
+  public int totalPages() {
+    return (totalElements + size - 1) / size;
+  }
+}
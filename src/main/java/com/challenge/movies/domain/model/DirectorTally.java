@@ -0,0 +1,129 @@
+package com.challenge.movies.domain.model;
+
+import java.util.Arrays;
+
+// Movie count and year range per director code for one slice of the catalog. Keys and values live
+// in parallel int arrays, so an increment never boxes and a new director never allocates a node.
+// Dense tallies index the arrays by director code (12 bytes per dictionary entry); sparse ones are
+// open-addressing tables sized by the rows they will see (up to 32 bytes per row).
+final class DirectorTally {
+
+  private static final int FREE = StringDictionary.NULL_CODE;
+  private static final float MAX_LOAD = 0.5f;
+
+  private final boolean dense;
+  private int[] keys;
+  private int[] counts;
+  private int[] firstYears;
+  private int[] lastYears;
+  private int shift;
+  private int size;
+
+  private DirectorTally(boolean dense, int capacity) {
+    this.dense = dense;
+    allocate(capacity);
+  }
+
+  static DirectorTally dense(int directors) {
+    return new DirectorTally(true, directors);
+  }
+
+  static DirectorTally sparse(int rows) {
+    int capacity = 16;
+    while (capacity * MAX_LOAD < rows) {
+      capacity <<= 1;
+    }
+    return new DirectorTally(false, capacity);
+  }
+
+  boolean dense() {
+    return dense;
+  }
+
+  // Distinct directors seen; only tracked by the sparse table
+  int size() {
+    return size;
+  }
+
+  void add(int director, int year) {
+    int slot = dense ? director : slotFor(director);
+    counts[slot]++;
+    if (year != ColumnarCatalog.NO_VALUE) {
+      firstYears[slot] = Math.min(firstYears[slot], year);
+      lastYears[slot] = Math.max(lastYears[slot], year);
+    }
+  }
+
+  void addAll(DirectorTally other) {
+    for (int i = 0; i < other.counts.length; i++) {
+      if (other.counts[i] > 0) {
+        int director = other.dense ? i : other.keys[i];
+        int slot = dense ? director : slotFor(director);
+        counts[slot] += other.counts[i];
+        firstYears[slot] = Math.min(firstYears[slot], other.firstYears[i]);
+        lastYears[slot] = Math.max(lastYears[slot], other.lastYears[i]);
+      }
+    }
+  }
+
+  // Adds every entry into dense arrays indexed by director code
+  void drainInto(int[] denseCounts, int[] denseFirstYears, int[] denseLastYears) {
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] > 0) {
+        int director = dense ? i : keys[i];
+        denseCounts[director] += counts[i];
+        denseFirstYears[director] = Math.min(denseFirstYears[director], firstYears[i]);
+        denseLastYears[director] = Math.max(denseLastYears[director], lastYears[i]);
+      }
+    }
+  }
+
+  // Linear probing from a Fibonacci hash, so runs of neighbouring codes do not cluster
+  private int slotFor(int director) {
+    int mask = keys.length - 1;
+    int slot = (director * 0x9E3779B9) >>> shift;
+    while (keys[slot] != director) {
+      if (keys[slot] == FREE) {
+        if (size + 1 > keys.length * MAX_LOAD) {
+          grow();
+          return slotFor(director);
+        }
+        keys[slot] = director;
+        size++;
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void grow() {
+    int[] oldKeys = keys;
+    int[] oldCounts = counts;
+    int[] oldFirstYears = firstYears;
+    int[] oldLastYears = lastYears;
+    allocate(oldKeys.length * 2);
+    size = 0;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != FREE) {
+        int slot = slotFor(oldKeys[i]);
+        counts[slot] = oldCounts[i];
+        firstYears[slot] = oldFirstYears[i];
+        lastYears[slot] = oldLastYears[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    counts = new int[capacity];
+    firstYears = new int[capacity];
+    lastYears = new int[capacity];
+    Arrays.fill(firstYears, Integer.MAX_VALUE);
+    Arrays.fill(lastYears, Integer.MIN_VALUE);
+    if (!dense) {
+      shift = Integer.numberOfLeadingZeros(capacity) + 1;
+      keys = new int[capacity];
+      Arrays.fill(keys, FREE);
+    }
+  }
+}
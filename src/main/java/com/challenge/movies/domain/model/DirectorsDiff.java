@@ -0,0 +1,33 @@
+package com.challenge.movies.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record DirectorsDiff(List<String> added, List<String> removed) {
+
+  // Both lists are sorted (DirectorIndex order), so one merge pass finds the difference
+  public static DirectorsDiff between(List<String> before, List<String> after) {
+    List<String> added = new ArrayList<>();
+    List<String> removed = new ArrayList<>();
+    int i = 0;
+    int j = 0;
+    while (i < before.size() && j < after.size()) {
+      int order = before.get(i).compareTo(after.get(j));
+      if (order == 0) {
+        i++;
+        j++;
+      } else if (order < 0) {
+        removed.add(before.get(i++));
+      } else {
+        added.add(after.get(j++));
+      }
+    }
+    removed.addAll(before.subList(i, before.size()));
+    added.addAll(after.subList(j, after.size()));
+    return new DirectorsDiff(List.copyOf(added), List.copyOf(removed));
+  }
+
+  public boolean isEmpty() {
+    return added.isEmpty() && removed.isEmpty();
+  }
+}
@@ -0,0 +1,53 @@
+package com.challenge.movies.domain.model;
+
+import java.util.Arrays;
+
+// Levenshtein distance with a cap: rows stop as soon as every cell exceeds max, so a clearly
+// different candidate costs a few rows rather than the full table.
+final class EditDistance {
+
+  private EditDistance() {}
+
+  // Smallest distance between query and any run of consecutive words of text with as many words
+  // as the query (the whole text when it is shorter); max + 1 when none is within max
+  static int closestWords(String query, String text, int max) {
+    String[] queryWords = query.split(" ");
+    String[] words = text.split(" ");
+    if (words.length <= queryWords.length) {
+      return bounded(query, text, max);
+    }
+    int best = max + 1;
+    for (int start = 0; start + queryWords.length <= words.length && best > 0; start++) {
+      String window = String.join(" ", Arrays.copyOfRange(words, start, start + queryWords.length));
+      best = Math.min(best, bounded(query, window, Math.min(max, best - 1)));
+    }
+    return best;
+  }
+
+  static int bounded(String a, String b, int max) {
+    if (Math.abs(a.length() - b.length()) > max) {
+      return max + 1;
+    }
+    int[] previous = new int[b.length() + 1];
+    int[] current = new int[b.length() + 1];
+    for (int j = 0; j <= b.length(); j++) {
+      previous[j] = j;
+    }
+    for (int i = 1; i <= a.length(); i++) {
+      current[0] = i;
+      int rowMin = current[0];
+      for (int j = 1; j <= b.length(); j++) {
+        int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+        current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+        rowMin = Math.min(rowMin, current[j]);
+      }
+      if (rowMin > max) {
+        return max + 1;
+      }
+      int[] swap = previous;
+      previous = current;
+      current = swap;
+    }
+    return Math.min(previous[b.length()], max + 1);
+  }
+}
@@ -0,0 +1,10 @@
+package com.challenge.movies.domain.model;
+
+import java.util.List;
+
+// genres and directors by count descending then name; decades ascending, named like "2010s"
+public record FacetCounts(
+    int matchedMovies,
+    List<GroupCount> genres,
+    List<GroupCount> directors,
+    List<GroupCount> decades) {}
@@ -0,0 +1,6 @@
+package com.challenge.movies.domain.model;
+
+import java.util.List;
+
+// A movie matches with every genre, the rating if set, and a year within the set bounds (inclusive)
+public record FacetFilter(List<String> genres, String rated, Integer yearFrom, Integer yearTo) {}
@@ -0,0 +1,204 @@
+package com.challenge.movies.domain.model;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+// One row bitmap per genre element, rating and distinct year. A filter ANDs bitmaps together, and
+// a facet count is a popcount, so genres and decades never visit a row. Directors are too many
+// for a bitmap each (1M rows x 50K directors would be 6 GB), so they are tallied per set bit.
+public final class FacetIndex {
+
+  private static final Comparator<GroupCount> BY_COUNT_THEN_VALUE =
+      Comparator.comparingInt(GroupCount::count).reversed().thenComparing(GroupCount::value);
+
+  private final long catalogVersion;
+  private final ColumnarCatalog catalog;
+  private final int size;
+  private final int words;
+  private final StringDictionary genres;
+  private final long[][] genreBits;
+  private final StringDictionary ratings;
+  private final long[][] ratedBits;
+  // Distinct years in ascending order and one bitmap each, so an outlier year (0, 9999) costs one
+  // bitmap rather than one per year in between
+  private final int[] years;
+  private final long[][] yearBits;
+
+  private FacetIndex(
+      long catalogVersion,
+      ColumnarCatalog catalog,
+      StringDictionary genres,
+      long[][] genreBits,
+      long[][] ratedBits,
+      int[] years,
+      long[][] yearBits) {
+    this.catalogVersion = catalogVersion;
+    this.catalog = catalog;
+    this.size = catalog.size();
+    this.words = words(size);
+    this.genres = genres;
+    this.genreBits = genreBits;
+    this.ratings = catalog.ratings();
+    this.ratedBits = ratedBits;
+    this.years = years;
+    this.yearBits = yearBits;
+  }
+
+  public static FacetIndex of(CatalogSnapshot snapshot) {
+    ColumnarCatalog catalog = snapshot.catalog();
+    TokenizedColumn genres = catalog.tokenized(CatalogField.GENRE);
+    IntBuffer genreCodes = catalog.column(CatalogField.GENRE).codes();
+    int words = words(catalog.size());
+
+    int[] years = catalog.distinctYears();
+    long[][] genreBits = new long[genres.tokens().size()][words];
+    long[][] ratedBits = new long[catalog.ratings().size()][words];
+    long[][] yearBits = new long[years.length][words];
+
+    for (int row = 0; row < catalog.size(); row++) {
+      int word = row >>> 6;
+      long bit = 1L << row;
+      for (int genre : genres.tokens(genreCodes.get(row))) {
+        genreBits[genre][word] |= bit;
+      }
+      int rated = catalog.ratedCode(row);
+      if (rated != StringDictionary.NULL_CODE) {
+        ratedBits[rated][word] |= bit;
+      }
+      int year = catalog.year(row);
+      if (year != ColumnarCatalog.NO_VALUE) {
+        yearBits[Arrays.binarySearch(years, year)][word] |= bit;
+      }
+    }
+    return new FacetIndex(
+        snapshot.version(), catalog, genres.tokens(), genreBits, ratedBits, years, yearBits);
+  }
+
+  public long catalogVersion() {
+    return catalogVersion;
+  }
+
+  public FacetCounts facets(FacetFilter filter, int topDirectors) {
+    long[] mask = mask(filter);
+    int matched = 0;
+    for (long word : mask) {
+      matched += Long.bitCount(word);
+    }
+
+    List<GroupCount> genreCounts = new ArrayList<>();
+    for (int genre = 0; genre < genreBits.length; genre++) {
+      int count = matched == 0 ? 0 : andCount(mask, genreBits[genre]);
+      if (count > 0) {
+        genreCounts.add(new GroupCount(genres.value(genre), count));
+      }
+    }
+    genreCounts.sort(BY_COUNT_THEN_VALUE);
+
+    List<GroupCount> decades = new ArrayList<>();
+    for (int i = 0; i < years.length && matched > 0; i++) {
+      int count = andCount(mask, yearBits[i]);
+      if (count > 0) {
+        String decade = Math.floorDiv(years[i], 10) * 10 + "s";
+        int last = decades.size() - 1;
+        if (last >= 0 && decades.get(last).value().equals(decade)) {
+          decades.set(last, new GroupCount(decade, decades.get(last).count() + count));
+        } else {
+          decades.add(new GroupCount(decade, count));
+        }
+      }
+    }
+    return new FacetCounts(matched, genreCounts, directors(mask, topDirectors), decades);
+  }
+
+  private long[] mask(FacetFilter filter) {
+    long[] mask = new long[words];
+    Arrays.fill(mask, -1L);
+    if ((size & 63) != 0) {
+      mask[words - 1] = -1L >>> (64 - (size & 63));
+    }
+    for (String genre : filter.genres()) {
+      and(mask, bitsOf(genreBits, genres.code(genre)));
+    }
+    if (filter.rated() != null) {
+      and(mask, bitsOf(ratedBits, ratings.code(filter.rated())));
+    }
+    if (filter.yearFrom() != null || filter.yearTo() != null) {
+      long[] inRange = new long[words];
+      int from = filter.yearFrom() == null ? 0 : insertionPoint(filter.yearFrom(), false);
+      int to = filter.yearTo() == null ? years.length : insertionPoint(filter.yearTo(), true);
+      for (int year = from; year < to; year++) {
+        long[] bits = yearBits[year];
+        for (int i = 0; i < words; i++) {
+          inRange[i] |= bits[i];
+        }
+      }
+      and(mask, inRange);
+    }
+    return mask;
+  }
+
+  // Walks the matching rows only; a filter that keeps 1% of the catalog costs 1% of a scan
+  private List<GroupCount> directors(long[] mask, int limit) {
+    int[] counts = new int[catalog.directors().size()];
+    for (int i = 0; i < words; i++) {
+      long word = mask[i];
+      while (word != 0) {
+        int row = (i << 6) + Long.numberOfTrailingZeros(word);
+        int director = catalog.directorCode(row);
+        if (director != StringDictionary.NULL_CODE) {
+          counts[director]++;
+        }
+        word &= word - 1;
+      }
+    }
+    long[] packed = new long[counts.length];
+    int size = 0;
+    for (int director = 0; director < counts.length; director++) {
+      if (counts[director] > 0) {
+        packed[size++] = (long) (Integer.MAX_VALUE - counts[director]) << 32 | director;
+      }
+    }
+    Arrays.sort(packed, 0, size);
+    List<GroupCount> directors = new ArrayList<>(Math.min(size, limit));
+    for (int i = 0; i < Math.min(size, limit); i++) {
+      int director = (int) packed[i];
+      directors.add(new GroupCount(catalog.directors().value(director), counts[director]));
+    }
+    return directors;
+  }
+
+  // Index of the first distinct year above (or, unless inclusive, at) the given year
+  private int insertionPoint(int year, boolean inclusive) {
+    int index = Arrays.binarySearch(years, year);
+    if (index < 0) {
+      return -index - 1;
+    }
+    return inclusive ? index + 1 : index;
+  }
+
+  // An unknown value matches no movie
+  private long[] bitsOf(long[][] bitmaps, int code) {
+    return code == StringDictionary.NULL_CODE ? new long[words] : bitmaps[code];
+  }
+
+  private static void and(long[] mask, long[] bits) {
+    for (int i = 0; i < mask.length; i++) {
+      mask[i] &= bits[i];
+    }
+  }
+
+  private static int andCount(long[] mask, long[] bits) {
+    int count = 0;
+    for (int i = 0; i < mask.length; i++) {
+      count += Long.bitCount(mask[i] & bits[i]);
+    }
+    return count;
+  }
+
+  private static int words(int rows) {
+    return (rows + 63) >>> 6;
+  }
+}
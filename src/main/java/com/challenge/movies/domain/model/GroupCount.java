@@ -0,0 +1,3 @@
+package com.challenge.movies.domain.model;
+
+public record GroupCount(String value, int count) {}
@@ -0,0 +1,21 @@
+package com.challenge.movies.domain.model;
+
+import java.util.List;
+
+// snapshot is set only when every page arrived, so callers can reuse its indexes
+public record PartialCatalog(
+    List<Movie> movies, int pagesFetched, int totalPages, CatalogSnapshot snapshot) {
+
+  public static PartialCatalog of(CatalogSnapshot snapshot) {
+    return new PartialCatalog(
+        snapshot.movies(), snapshot.totalPages(), snapshot.totalPages(), snapshot);
+  }
+
+  public static PartialCatalog partial(List<Movie> movies, int pagesFetched, int totalPages) {
+    return new PartialCatalog(movies, pagesFetched, totalPages, null);
+  }
+
+  public boolean complete() {
+    return pagesFetched == totalPages;
+  }
+}
@@ -0,0 +1,11 @@
+package com.challenge.movies.domain.model;
+
+import java.util.List;
+
+public record PartialDirectorsResult(
+    List<String> directors, int pagesFetched, int totalPages, int moviesCounted) {
+
+  public boolean complete() {
+    return pagesFetched == totalPages;
+  }
+}
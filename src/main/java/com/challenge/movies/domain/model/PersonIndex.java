@@ -0,0 +1,160 @@
+package com.challenge.movies.domain.model;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Inverted index of one comma-separated people field (actors or writers) for one catalog: person id
+// -> ascending movie rows, stored as one postings array sliced by offsets. Person ids are the
+// element codes of the field's TokenizedColumn, so they follow name order.
+public final class PersonIndex {
+
+  private final long catalogVersion;
+  private final ColumnarCatalog catalog;
+  private final StringDictionary names;
+  // size + 1 entries; the movies of person p are postings[offsets[p], offsets[p + 1])
+  private final int[] offsets;
+  private final int[] postings;
+  // Person ids by movie count descending, ties by id, so "more than N movies" is a prefix
+  private final int[] byCount;
+
+  private PersonIndex(
+      long catalogVersion,
+      ColumnarCatalog catalog,
+      StringDictionary names,
+      int[] offsets,
+      int[] postings,
+      int[] byCount) {
+    this.catalogVersion = catalogVersion;
+    this.catalog = catalog;
+    this.names = names;
+    this.offsets = offsets;
+    this.postings = postings;
+    this.byCount = byCount;
+  }
+
+  public static PersonIndex of(CatalogSnapshot snapshot, CatalogField field) {
+    if (field != CatalogField.ACTORS && field != CatalogField.WRITER) {
+      throw new IllegalArgumentException("Not a people field: " + field);
+    }
+    ColumnarCatalog catalog = snapshot.catalog();
+    TokenizedColumn people = catalog.tokenized(field);
+    IntBuffer codes = catalog.column(field).codes();
+    int size = people.tokens().size();
+
+    // Count, prefix-sum, then fill: rows are visited in order, so every posting list is sorted
+    int[] offsets = new int[size + 1];
+    for (int row = 0; row < catalog.size(); row++) {
+      for (int person : people.tokens(codes.get(row))) {
+        offsets[person + 1]++;
+      }
+    }
+    for (int person = 0; person < size; person++) {
+      offsets[person + 1] += offsets[person];
+    }
+    int[] postings = new int[offsets[size]];
+    int[] next = Arrays.copyOf(offsets, size);
+    for (int row = 0; row < catalog.size(); row++) {
+      for (int person : people.tokens(codes.get(row))) {
+        postings[next[person]++] = row;
+      }
+    }
+
+    long[] packed = new long[size];
+    for (int person = 0; person < size; person++) {
+      int count = offsets[person + 1] - offsets[person];
+      packed[person] = (long) (Integer.MAX_VALUE - count) << 32 | person;
+    }
+    Arrays.sort(packed);
+    int[] byCount = new int[size];
+    for (int i = 0; i < size; i++) {
+      byCount[i] = (int) packed[i];
+    }
+    return new PersonIndex(
+        snapshot.version(), catalog, people.tokens(), offsets, postings, byCount);
+  }
+
+  public long catalogVersion() {
+    return catalogVersion;
+  }
+
+  public int size() {
+    return names.size();
+  }
+
+  // 0 for unknown names
+  public int movieCount(String name) {
+    int person = names.code(name);
+    return person == StringDictionary.NULL_CODE ? 0 : count(person);
+  }
+
+  // Alphabetical; cost is the binary search plus the matches, not the number of people
+  public List<String> peopleAbove(int threshold) {
+    int low = 0;
+    int high = byCount.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (count(byCount[middle]) > threshold) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    int[] matches = Arrays.copyOf(byCount, low);
+    Arrays.sort(matches);
+    List<String> people = new ArrayList<>(matches.length);
+    for (int person : matches) {
+      people.add(names.value(person));
+    }
+    return people;
+  }
+
+  // Movies crediting every one of the names, in catalog order; empty when any name is unknown
+  public List<Movie> moviesWithAll(List<String> people) {
+    int[] rows = null;
+    for (String name : people) {
+      int person = names.code(name);
+      if (person == StringDictionary.NULL_CODE) {
+        return List.of();
+      }
+      rows =
+          rows == null
+              ? Arrays.copyOfRange(postings, offsets[person], offsets[person + 1])
+              : intersect(rows, person);
+    }
+    if (rows == null) {
+      return List.of();
+    }
+    List<Movie> movies = new ArrayList<>(rows.length);
+    for (int row : rows) {
+      movies.add(catalog.movie(row));
+    }
+    return movies;
+  }
+
+  private int count(int person) {
+    return offsets[person + 1] - offsets[person];
+  }
+
+  // Merge of two sorted row lists
+  private int[] intersect(int[] rows, int person) {
+    int[] common = new int[Math.min(rows.length, count(person))];
+    int size = 0;
+    int i = 0;
+    int j = offsets[person];
+    int end = offsets[person + 1];
+    while (i < rows.length && j < end) {
+      if (rows[i] < postings[j]) {
+        i++;
+      } else if (rows[i] > postings[j]) {
+        j++;
+      } else {
+        common[size++] = rows[i];
+        i++;
+        j++;
+      }
+    }
+    return Arrays.copyOf(common, size);
+  }
+}
@@ -0,0 +1,247 @@
+package com.challenge.movies.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// Type-ahead over a fixed set of names. Every word start of every folded name is an entry (so "sha"
+// finds "M. Night Shyamalan"), entries are sorted by the folded text from that word on, and a
+// prefix is a binary-searched range of entries. A max segment tree over the entry weights returns
+// the best matches of that range in O(limit * log entries), however many names share the prefix.
+public final class PrefixIndex {
+
+  private static final int NONE = -1;
+
+  private final String[] values;
+  private final String[] folded;
+  private final int[] weights;
+  // entry e is folded[entryValues[e]] from character entryOffsets[e] on
+  private final int[] entryValues;
+  private final int[] entryOffsets;
+  // Best entry per node; node 1 is the root and the leaves start at leaves
+  private final int[] tree;
+  private final int leaves;
+
+  private PrefixIndex(
+      String[] values, String[] folded, int[] weights, int[] entryValues, int[] entryOffsets) {
+    this.values = values;
+    this.folded = folded;
+    this.weights = weights;
+    this.entryValues = entryValues;
+    this.entryOffsets = entryOffsets;
+    this.leaves = Integer.highestOneBit(Math.max(1, entryValues.length * 2 - 1));
+    this.tree = new int[leaves * 2];
+    Arrays.fill(tree, NONE);
+    for (int entry = 0; entry < entryValues.length; entry++) {
+      tree[leaves + entry] = entry;
+    }
+    for (int node = leaves - 1; node > 0; node--) {
+      tree[node] = better(tree[node * 2], tree[node * 2 + 1]);
+    }
+  }
+
+  // Directors ranked by movie count
+  public static PrefixIndex directors(ColumnarCatalog catalog) {
+    StringDictionary directors = catalog.directors();
+    DirectorAggregation aggregation = DirectorAggregation.sequential(catalog);
+    String[] names = new String[directors.size()];
+    int[] counts = new int[names.length];
+    for (int director = 0; director < names.length; director++) {
+      names[director] = directors.value(director);
+      counts[director] = aggregation.count(director);
+    }
+    return of(names, counts);
+  }
+
+  // Distinct titles ranked by their latest release year
+  public static PrefixIndex titles(ColumnarCatalog catalog) {
+    ColumnarCatalog.EncodedColumn titles = catalog.titles();
+    String[] names = new String[titles.dictionary().size()];
+    int[] latestYears = new int[names.length];
+    Arrays.fill(latestYears, ColumnarCatalog.NO_VALUE);
+    for (int title = 0; title < names.length; title++) {
+      names[title] = titles.dictionary().value(title);
+    }
+    for (int row = 0; row < catalog.size(); row++) {
+      int title = titles.codes().get(row);
+      if (title != StringDictionary.NULL_CODE) {
+        latestYears[title] = Math.max(latestYears[title], catalog.year(row));
+      }
+    }
+    return of(names, latestYears);
+  }
+
+  // weights[i] ranks values[i]; higher first
+  public static PrefixIndex of(String[] values, int[] weights) {
+    String[] folded = new String[values.length];
+    int entries = 0;
+    for (int i = 0; i < values.length; i++) {
+      folded[i] = TextFolding.fold(values[i]);
+      entries += wordStarts(folded[i]).length;
+    }
+    int[] unsortedValues = new int[entries];
+    int[] unsortedOffsets = new int[entries];
+    int next = 0;
+    for (int i = 0; i < values.length; i++) {
+      for (int offset : wordStarts(folded[i])) {
+        unsortedValues[next] = i;
+        unsortedOffsets[next++] = offset;
+      }
+    }
+    int[] order = sortEntries(folded, unsortedValues, unsortedOffsets);
+    int[] entryValues = new int[entries];
+    int[] entryOffsets = new int[entries];
+    for (int e = 0; e < entries; e++) {
+      entryValues[e] = unsortedValues[order[e]];
+      entryOffsets[e] = unsortedOffsets[order[e]];
+    }
+    return new PrefixIndex(values, folded, weights, entryValues, entryOffsets);
+  }
+
+  public int entries() {
+    return entryValues.length;
+  }
+
+  // Best-weighted values with a word starting with the folded prefix; ties in key order
+  public List<Suggestion> complete(String prefix, int limit) {
+    String key = TextFolding.fold(prefix).strip();
+    if (key.isEmpty() || limit < 1) {
+      return List.of();
+    }
+    int from = bound(key, false);
+    int to = bound(key, true);
+
+    // Canonical nodes covering the range, best first; a popped inner node hands over its children
+    PriorityQueue<Integer> nodes =
+        new PriorityQueue<>((a, b) -> better(tree[a], tree[b]) == tree[a] ? -1 : 1);
+    for (int left = from + leaves, right = to + leaves; left < right; left >>= 1, right >>= 1) {
+      if ((left & 1) == 1) {
+        nodes.add(left++);
+      }
+      if ((right & 1) == 1) {
+        nodes.add(--right);
+      }
+    }
+
+    List<Suggestion> suggestions = new ArrayList<>(limit);
+    Set<Integer> seen = new HashSet<>();
+    while (!nodes.isEmpty() && suggestions.size() < limit) {
+      int node = nodes.poll();
+      if (node < leaves) {
+        for (int child = node * 2; child <= node * 2 + 1; child++) {
+          if (tree[child] != NONE) {
+            nodes.add(child);
+          }
+        }
+      } else {
+        // A name with two matching words has two entries; only its first counts
+        int value = entryValues[tree[node]];
+        if (seen.add(value)) {
+          suggestions.add(new Suggestion(values[value], weights[value]));
+        }
+      }
+    }
+    return suggestions;
+  }
+
+  // First entry whose text is >= key (or, with past, no longer starts with key and sorts after it)
+  private int bound(String key, boolean past) {
+    int low = 0;
+    int high = entryValues.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      int comparison = comparePrefix(middle, key);
+      if (comparison < 0 || past && comparison == 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  // Entry text cut to the key's length, compared with the key
+  private int comparePrefix(int entry, String key) {
+    String text = folded[entryValues[entry]];
+    int offset = entryOffsets[entry];
+    int length = Math.min(text.length() - offset, key.length());
+    for (int i = 0; i < length; i++) {
+      int difference = text.charAt(offset + i) - key.charAt(i);
+      if (difference != 0) {
+        return difference;
+      }
+    }
+    return length == key.length() ? 0 : -1;
+  }
+
+  private int better(int a, int b) {
+    if (a == NONE || b == NONE) {
+      return a == NONE ? b : a;
+    }
+    int weightA = weights[entryValues[a]];
+    int weightB = weights[entryValues[b]];
+    return weightA != weightB ? (weightA > weightB ? a : b) : Math.min(a, b);
+  }
+
+  // Entry indexes in suffix order. The merge sort is stable, so equal texts keep name order.
+  private static int[] sortEntries(String[] folded, int[] entryValues, int[] entryOffsets) {
+    int[] order = new int[entryValues.length];
+    for (int e = 0; e < order.length; e++) {
+      order[e] = e;
+    }
+    int[] buffer = new int[order.length];
+    for (int width = 1; width < order.length; width *= 2) {
+      for (int low = 0; low < order.length; low += width * 2) {
+        int middle = Math.min(low + width, order.length);
+        int high = Math.min(low + width * 2, order.length);
+        int left = low;
+        int right = middle;
+        for (int out = low; out < high; out++) {
+          if (right == high
+              || left < middle
+                  && compareSuffixes(
+                          folded[entryValues[order[left]]],
+                          entryOffsets[order[left]],
+                          folded[entryValues[order[right]]],
+                          entryOffsets[order[right]])
+                      <= 0) {
+            buffer[out] = order[left++];
+          } else {
+            buffer[out] = order[right++];
+          }
+        }
+      }
+      int[] swap = order;
+      order = buffer;
+      buffer = swap;
+    }
+    return order;
+  }
+
+  private static int compareSuffixes(String a, int offsetA, String b, int offsetB) {
+    int length = Math.min(a.length() - offsetA, b.length() - offsetB);
+    for (int i = 0; i < length; i++) {
+      int difference = a.charAt(offsetA + i) - b.charAt(offsetB + i);
+      if (difference != 0) {
+        return difference;
+      }
+    }
+    return (a.length() - offsetA) - (b.length() - offsetB);
+  }
+
+  // Offsets of letters or digits that follow a non-alphanumeric character or start the text
+  private static int[] wordStarts(String text) {
+    int[] starts = new int[text.length()];
+    int size = 0;
+    for (int i = 0; i < text.length(); i++) {
+      if (Character.isLetterOrDigit(text.charAt(i))
+          && (i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1)))) {
+        starts[size++] = i;
+      }
+    }
+    return Arrays.copyOf(starts, size);
+  }
+}
@@ -0,0 +1,14 @@
+package com.challenge.movies.domain.model;
+
+// value is compared as an int for numeric fields; string fields only support EQ, which matches
+// any element of a multi-valued field
+public record QueryFilter(CatalogField field, Operator operator, String value) {
+
+  public enum Operator {
+    EQ,
+    GT,
+    GTE,
+    LT,
+    LTE
+  }
+}
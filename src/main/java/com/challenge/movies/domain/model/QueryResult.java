@@ -0,0 +1,6 @@
+package com.challenge.movies.domain.model;
+
+import java.util.List;
+
+// totalGroups counts every group above the threshold, including those cut by the limit
+public record QueryResult(List<GroupCount> groups, int totalGroups, int matchedMovies) {}
@@ -0,0 +1,6 @@
+package com.challenge.movies.domain.model;
+
+public enum QuerySort {
+  VALUE,
+  COUNT
+}
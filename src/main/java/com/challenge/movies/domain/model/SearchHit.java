@@ -0,0 +1,4 @@
+package com.challenge.movies.domain.model;
+
+// distance is the edit distance between the folded query and the closest run of words in value
+public record SearchHit(SearchTarget target, String value, int distance) {}
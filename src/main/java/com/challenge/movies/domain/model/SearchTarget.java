@@ -0,0 +1,7 @@
+package com.challenge.movies.domain.model;
+
+public enum SearchTarget {
+  TITLE,
+  DIRECTOR,
+  ACTOR
+}
@@ -0,0 +1,171 @@
+package com.challenge.movies.domain.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import com.challenge.movies.domain.exception.SnapshotFormatException;
+
+// Binary layout of a persisted CatalogSnapshot, little-endian and 4-byte aligned:
+//
+//   header   magic "MVCS", format version, catalog version, createdAt millis, total pages, rows
+//   ints     years[rows], runtimeMinutes[rows]
+//   8 x      dictionary size, blob bytes, offsets[size + 1], codes[rows], utf8[blob], padding
+//   trailer  CRC32C of everything before it
+//
+// read() verifies the checksum once and then slices the columns straight out of the buffer, so a
+// memory-mapped file is queried in place without copying anything onto the heap.
+public final class SnapshotFormat {
+
+  public static final int FORMAT_VERSION = 1;
+
+  private static final int MAGIC = 0x5343564D;
+  private static final int HEADER_BYTES = 32;
+  private static final int STRING_COLUMNS = 8;
+  private static final int CHUNK_BYTES = 64 * 1024;
+
+  private SnapshotFormat() {}
+
+  public static void write(CatalogSnapshot snapshot, WritableByteChannel channel)
+      throws IOException {
+    ColumnarCatalog catalog = snapshot.catalog();
+    Writer writer = new Writer(channel);
+
+    ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ColumnarCatalog.BYTE_ORDER);
+    header
+        .putInt(MAGIC)
+        .putInt(FORMAT_VERSION)
+        .putLong(snapshot.version())
+        .putLong(snapshot.createdAt().toEpochMilli())
+        .putInt(snapshot.totalPages())
+        .putInt(catalog.size());
+    writer.write(header.flip());
+    writer.writeInts(catalog.years());
+    writer.writeInts(catalog.runtimeMinutes());
+
+    for (ColumnarCatalog.EncodedColumn column : catalog.stringColumns()) {
+      StringDictionary dictionary = column.dictionary();
+      ByteBuffer sizes = ByteBuffer.allocate(8).order(ColumnarCatalog.BYTE_ORDER);
+      sizes.putInt(dictionary.size()).putInt(dictionary.utf8().capacity());
+      writer.write(sizes.flip());
+      writer.writeInts(dictionary.offsets());
+      writer.writeInts(column.codes());
+      writer.write(dictionary.utf8().duplicate().clear());
+      writer.write(ByteBuffer.allocate(padding(dictionary.utf8().capacity())));
+    }
+    writer.writeChecksum();
+  }
+
+  public static CatalogSnapshot read(ByteBuffer file) {
+    ByteBuffer buffer = file.duplicate().order(ColumnarCatalog.BYTE_ORDER);
+    try {
+      verifyChecksum(buffer);
+      if (buffer.getInt(0) != MAGIC) {
+        throw new SnapshotFormatException("Not a catalog snapshot");
+      }
+      int formatVersion = buffer.getInt(4);
+      if (formatVersion != FORMAT_VERSION) {
+        throw new SnapshotFormatException("Unsupported snapshot format " + formatVersion);
+      }
+      long version = buffer.getLong(8);
+      Instant createdAt = Instant.ofEpochMilli(buffer.getLong(16));
+      int totalPages = buffer.getInt(24);
+      int rows = buffer.getInt(28);
+
+      int position = HEADER_BYTES;
+      IntBuffer years = ints(buffer, position, rows);
+      position += rows * Integer.BYTES;
+      IntBuffer runtimeMinutes = ints(buffer, position, rows);
+      position += rows * Integer.BYTES;
+
+      List<ColumnarCatalog.EncodedColumn> columns = new ArrayList<>(STRING_COLUMNS);
+      for (int i = 0; i < STRING_COLUMNS; i++) {
+        int dictionarySize = buffer.getInt(position);
+        int blobBytes = buffer.getInt(position + 4);
+        position += 8;
+        IntBuffer offsets = ints(buffer, position, dictionarySize + 1);
+        position += (dictionarySize + 1) * Integer.BYTES;
+        IntBuffer codes = ints(buffer, position, rows);
+        position += rows * Integer.BYTES;
+        ByteBuffer utf8 = buffer.slice(position, blobBytes);
+        position += blobBytes + padding(blobBytes);
+        columns.add(new ColumnarCatalog.EncodedColumn(new StringDictionary(offsets, utf8), codes));
+      }
+      return new CatalogSnapshot(
+          version,
+          createdAt,
+          totalPages,
+          new ColumnarCatalog(rows, years, runtimeMinutes, columns));
+    } catch (IndexOutOfBoundsException | IllegalArgumentException | ArithmeticException e) {
+      throw new SnapshotFormatException("Truncated catalog snapshot", e);
+    }
+  }
+
+  private static void verifyChecksum(ByteBuffer buffer) {
+    int payload = buffer.capacity() - Integer.BYTES;
+    if (payload < HEADER_BYTES) {
+      throw new SnapshotFormatException("Truncated catalog snapshot");
+    }
+    CRC32C crc = new CRC32C();
+    crc.update(buffer.slice(0, payload));
+    if ((int) crc.getValue() != buffer.getInt(payload)) {
+      throw new SnapshotFormatException("Catalog snapshot checksum mismatch");
+    }
+  }
+
+  private static IntBuffer ints(ByteBuffer buffer, int position, int count) {
+    return buffer
+        .slice(position, Math.multiplyExact(count, Integer.BYTES))
+        .order(ColumnarCatalog.BYTE_ORDER)
+        .asIntBuffer();
+  }
+
+  private static int padding(int bytes) {
+    return -bytes & (Integer.BYTES - 1);
+  }
+
+  // Streams buffers to the channel while keeping a running checksum of everything written
+  private static final class Writer {
+
+    private final WritableByteChannel channel;
+    private final CRC32C crc = new CRC32C();
+    private final ByteBuffer chunk =
+        ByteBuffer.allocate(CHUNK_BYTES).order(ColumnarCatalog.BYTE_ORDER);
+
+    private Writer(WritableByteChannel channel) {
+      this.channel = channel;
+    }
+
+    private void write(ByteBuffer bytes) throws IOException {
+      crc.update(bytes.duplicate());
+      while (bytes.hasRemaining()) {
+        channel.write(bytes);
+      }
+    }
+
+    private void writeInts(IntBuffer ints) throws IOException {
+      for (int i = 0; i < ints.capacity(); i++) {
+        if (chunk.remaining() < Integer.BYTES) {
+          write(chunk.flip());
+          chunk.clear();
+        }
+        chunk.putInt(ints.get(i));
+      }
+      write(chunk.flip());
+      chunk.clear();
+    }
+
+    private void writeChecksum() throws IOException {
+      ByteBuffer trailer = ByteBuffer.allocate(Integer.BYTES).order(ColumnarCatalog.BYTE_ORDER);
+      trailer.putInt((int) crc.getValue()).flip();
+      while (trailer.hasRemaining()) {
+        channel.write(trailer);
+      }
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.challenge.movies.domain.model;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Sorted distinct values of one catalog column; a row stores the int code instead of the string.
+// Codes follow value order, so code order is name order. Values are kept as one UTF-8 blob plus an
+// offsets column, off-heap, and decoded on access.
+public final class StringDictionary {
+
+  public static final int NULL_CODE = -1;
+
+  private final int size;
+  // size + 1 entries; value i is utf8[offsets[i], offsets[i + 1])
+  private final IntBuffer offsets;
+  private final ByteBuffer utf8;
+
+  StringDictionary(IntBuffer offsets, ByteBuffer utf8) {
+    this.size = offsets.capacity() - 1;
+    this.offsets = offsets;
+    this.utf8 = utf8;
+  }
+
+  static StringDictionary of(String[] sortedValues) {
+    byte[][] encoded = new byte[sortedValues.length][];
+    int bytes = 0;
+    for (int i = 0; i < encoded.length; i++) {
+      encoded[i] = sortedValues[i].getBytes(StandardCharsets.UTF_8);
+      bytes = Math.addExact(bytes, encoded[i].length);
+    }
+    IntBuffer offsets = ColumnarCatalog.allocateInts(encoded.length + 1);
+    ByteBuffer utf8 = ByteBuffer.allocateDirect(bytes);
+    for (int i = 0; i < encoded.length; i++) {
+      offsets.put(i, utf8.position());
+      utf8.put(encoded[i]);
+    }
+    offsets.put(encoded.length, utf8.position());
+    return new StringDictionary(offsets, utf8.clear());
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public String value(int code) {
+    if (code == NULL_CODE) {
+      return null;
+    }
+    int from = offsets.get(code);
+    byte[] bytes = new byte[offsets.get(code + 1) - from];
+    utf8.get(from, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  // NULL_CODE when the value never occurs in the column
+  public int code(String value) {
+    if (value == null) {
+      return NULL_CODE;
+    }
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int comparison = value(middle).compareTo(value);
+      if (comparison < 0) {
+        low = middle + 1;
+      } else if (comparison > 0) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return NULL_CODE;
+  }
+
+  IntBuffer offsets() {
+    return offsets;
+  }
+
+  ByteBuffer utf8() {
+    return utf8;
+  }
+}
@@ -0,0 +1,4 @@
+package com.challenge.movies.domain.model;
+
+// score is what suggestions were ranked by: movie count for directors, latest year for titles
+public record Suggestion(String value, int score) {}
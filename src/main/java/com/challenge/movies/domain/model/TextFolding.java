@@ -0,0 +1,18 @@
+package com.challenge.movies.domain.model;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// Search form of a name, accents stripped and lower-cased: "Almodóvar" matches "ALMODOVAR"
+public final class TextFolding {
+
+  private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+  private TextFolding() {}
+
+  public static String fold(String text) {
+    String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+    return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,59 @@
+package com.challenge.movies.domain.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+// Element view of a comma-separated column: every distinct element gets a code in its own sorted
+// dictionary, and each value code of the source column maps to the element codes it holds. Built
+// from the dictionary alone, so it costs O(distinct values) and never touches the rows.
+final class TokenizedColumn {
+
+  private static final int[] NO_TOKENS = new int[0];
+
+  private final StringDictionary tokens;
+  private final int[][] tokensByCode;
+
+  private TokenizedColumn(StringDictionary tokens, int[][] tokensByCode) {
+    this.tokens = tokens;
+    this.tokensByCode = tokensByCode;
+  }
+
+  static TokenizedColumn of(StringDictionary values) {
+    String[][] split = new String[values.size()][];
+    TreeSet<String> distinct = new TreeSet<>();
+    for (int code = 0; code < split.length; code++) {
+      split[code] = split(values.value(code));
+      distinct.addAll(Arrays.asList(split[code]));
+    }
+    String[] sorted = distinct.toArray(new String[0]);
+    Map<String, Integer> codeByToken = new HashMap<>(sorted.length * 2);
+    for (int code = 0; code < sorted.length; code++) {
+      codeByToken.put(sorted[code], code);
+    }
+
+    int[][] tokensByCode = new int[split.length][];
+    for (int code = 0; code < split.length; code++) {
+      tokensByCode[code] =
+          Arrays.stream(split[code]).mapToInt(codeByToken::get).distinct().toArray();
+    }
+    return new TokenizedColumn(StringDictionary.of(sorted), tokensByCode);
+  }
+
+  StringDictionary tokens() {
+    return tokens;
+  }
+
+  // Distinct element codes of one value code; empty for NULL_CODE
+  int[] tokens(int valueCode) {
+    return valueCode == StringDictionary.NULL_CODE ? NO_TOKENS : tokensByCode[valueCode];
+  }
+
+  private static String[] split(String value) {
+    return Arrays.stream(value.split(","))
+        .map(String::trim)
+        .filter(token -> !token.isEmpty())
+        .toArray(String[]::new);
+  }
+}
@@ -0,0 +1,199 @@
+package com.challenge.movies.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+// Fuzzy lookup over the values of one dictionary. Every folded value, padded with a space on each
+// side, is cut into trigrams; each distinct trigram keeps an ascending list of value codes, all in
+// one postings array sliced by offsets. A query keeps the values sharing enough trigrams to still
+// be within maxDistance edits (each edit breaks at most three of the query's trigrams) and reranks
+// the best of those by edit distance. The values themselves stay in the off-heap dictionary and are
+// only decoded for that rerank.
+public final class TrigramIndex {
+
+  // Upper bound on candidates decoded and compared per query
+  static final int MAX_RERANKED = 256;
+
+  private final SearchTarget target;
+  private final StringDictionary values;
+  private final long[] grams;
+  // The values containing grams[g] sit in postings from offsets[g] until offsets[g + 1]
+  private final int[] offsets;
+  private final int[] postings;
+
+  private TrigramIndex(
+      SearchTarget target, StringDictionary values, long[] grams, int[] offsets, int[] postings) {
+    this.target = target;
+    this.values = values;
+    this.grams = grams;
+    this.offsets = offsets;
+    this.postings = postings;
+  }
+
+  public static TrigramIndex of(ColumnarCatalog catalog, SearchTarget target) {
+    StringDictionary values =
+        switch (target) {
+          case TITLE -> catalog.titles().dictionary();
+          case DIRECTOR -> catalog.directors();
+          case ACTOR -> catalog.tokenized(CatalogField.ACTORS).tokens();
+        };
+    return of(target, values);
+  }
+
+  static TrigramIndex of(SearchTarget target, StringDictionary values) {
+    // Distinct trigrams per value, kept only until the postings are laid out
+    long[][] gramsByValue = new long[values.size()][];
+    int pairs = 0;
+    for (int code = 0; code < gramsByValue.length; code++) {
+      gramsByValue[code] = trigrams(normalize(values.value(code)));
+      pairs += gramsByValue[code].length;
+    }
+    long[] all = new long[pairs];
+    int next = 0;
+    for (long[] valueGrams : gramsByValue) {
+      System.arraycopy(valueGrams, 0, all, next, valueGrams.length);
+      next += valueGrams.length;
+    }
+    long[] grams = distinctSorted(all);
+
+    int[] offsets = new int[grams.length + 1];
+    for (long[] valueGrams : gramsByValue) {
+      for (long gram : valueGrams) {
+        offsets[Arrays.binarySearch(grams, gram) + 1]++;
+      }
+    }
+    for (int g = 0; g < grams.length; g++) {
+      offsets[g + 1] += offsets[g];
+    }
+    // Values are visited in code order, so every posting list comes out sorted
+    int[] postings = new int[pairs];
+    int[] fill = Arrays.copyOf(offsets, grams.length);
+    for (int code = 0; code < gramsByValue.length; code++) {
+      for (long gram : gramsByValue[code]) {
+        postings[fill[Arrays.binarySearch(grams, gram)]++] = code;
+      }
+    }
+    return new TrigramIndex(target, values, grams, offsets, postings);
+  }
+
+  // Bytes held by the gram keys, offsets and postings; the values stay in the catalog dictionary
+  public long sizeInBytes() {
+    return (long) grams.length * Long.BYTES
+        + (long) offsets.length * Integer.BYTES
+        + (long) postings.length * Integer.BYTES;
+  }
+
+  // Closest values first (ties: more shared trigrams, then name order)
+  public List<SearchHit> search(String query, int maxDistance, int limit) {
+    String folded = normalize(query);
+    long[] queryGrams = trigrams(folded);
+    int minShared = Math.max(1, queryGrams.length - 3 * maxDistance);
+
+    // Posting lists of the query's trigrams, shortest first
+    long[] lists = new long[queryGrams.length];
+    int size = 0;
+    for (long gram : queryGrams) {
+      int g = Arrays.binarySearch(grams, gram);
+      if (g >= 0) {
+        lists[size++] = (long) (offsets[g + 1] - offsets[g]) << 32 | g;
+      }
+    }
+    if (folded.isEmpty() || size < minShared) {
+      return List.of();
+    }
+    Arrays.sort(lists, 0, size);
+
+    // A value in at least minShared lists is in one of the size - minShared + 1 shortest, so only
+    // those are read in full; the long, common lists are binary-searched per candidate
+    int probed = size - minShared + 1;
+    int[] hits = probedPostings(lists, probed);
+    long[] candidates = new long[hits.length];
+    int count = 0;
+    for (int i = 0; i < hits.length; ) {
+      int code = hits[i];
+      int shared = 0;
+      while (i < hits.length && hits[i] == code) {
+        shared++;
+        i++;
+      }
+      for (int l = probed; l < size && shared + size - l >= minShared; l++) {
+        int g = (int) lists[l];
+        if (Arrays.binarySearch(postings, offsets[g], offsets[g + 1], code) >= 0) {
+          shared++;
+        }
+      }
+      if (shared >= minShared) {
+        candidates[count++] = (long) (Integer.MAX_VALUE - shared) << 32 | code;
+      }
+    }
+    Arrays.sort(candidates, 0, count);
+
+    // Rerank the values sharing the most trigrams
+    List<Ranked> ranked = new ArrayList<>();
+    for (int i = 0; i < Math.min(count, MAX_RERANKED); i++) {
+      int code = (int) candidates[i];
+      String value = values.value(code);
+      int distance = EditDistance.closestWords(folded, normalize(value), maxDistance);
+      if (distance <= maxDistance) {
+        int shared = Integer.MAX_VALUE - (int) (candidates[i] >>> 32);
+        ranked.add(new Ranked(new SearchHit(target, value, distance), shared));
+      }
+    }
+    ranked.sort(
+        Comparator.comparingInt((Ranked r) -> r.hit().distance())
+            .thenComparing(Comparator.comparingInt(Ranked::shared).reversed())
+            .thenComparing(r -> r.hit().value()));
+    return ranked.stream().limit(limit).map(Ranked::hit).toList();
+  }
+
+  // Value codes of the first lists, concatenated and sorted so equal codes are adjacent
+  private int[] probedPostings(long[] lists, int probed) {
+    int total = 0;
+    for (int l = 0; l < probed; l++) {
+      total += (int) (lists[l] >>> 32);
+    }
+    int[] hits = new int[total];
+    int next = 0;
+    for (int l = 0; l < probed; l++) {
+      int g = (int) lists[l];
+      System.arraycopy(postings, offsets[g], hits, next, offsets[g + 1] - offsets[g]);
+      next += offsets[g + 1] - offsets[g];
+    }
+    Arrays.sort(hits);
+    return hits;
+  }
+
+  // Folded, with runs of whitespace collapsed to one space
+  static String normalize(String text) {
+    return TextFolding.fold(text).strip().replaceAll("\\s+", " ");
+  }
+
+  // Distinct trigrams of " text " for normalized text, each packed as three 16-bit chars
+  static long[] trigrams(String normalized) {
+    String padded = " " + normalized + " ";
+    if (padded.length() < 3) {
+      return new long[0];
+    }
+    long[] grams = new long[padded.length() - 2];
+    for (int i = 0; i < grams.length; i++) {
+      grams[i] =
+          (long) padded.charAt(i) << 32 | (long) padded.charAt(i + 1) << 16 | padded.charAt(i + 2);
+    }
+    return distinctSorted(grams);
+  }
+
+  private static long[] distinctSorted(long[] values) {
+    Arrays.sort(values);
+    int size = 0;
+    for (int i = 0; i < values.length; i++) {
+      if (size == 0 || values[size - 1] != values[i]) {
+        values[size++] = values[i];
+      }
+    }
+    return Arrays.copyOf(values, size);
+  }
+
+  private record Ranked(SearchHit hit, int shared) {}
+}
@@ -0,0 +1,12 @@
+package com.challenge.movies.domain.port;
+
+import java.util.Optional;
+
+import com.challenge.movies.domain.model.CatalogSnapshot;
+
+public interface SnapshotStorePort {
+
+  Optional<CatalogSnapshot> load();
+
+  void save(CatalogSnapshot snapshot);
+}
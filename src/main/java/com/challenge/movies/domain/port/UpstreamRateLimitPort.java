@@ -0,0 +1,6 @@
+package com.challenge.movies.domain.port;
+
+public interface UpstreamRateLimitPort {
+
+  void acquire();
+}
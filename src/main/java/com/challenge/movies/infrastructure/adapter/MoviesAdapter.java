@@ -1,5 +1,6 @@
 package com.challenge.movies.infrastructure.adapter;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import com.challenge.movies.domain.model.MoviesResponse;
@@ -11,6 +12,7 @@ import com.challenge.movies.infrastructure.client.mapper.MoviesMapper;
 import lombok.RequiredArgsConstructor;
 
 @Component
+@ConditionalOnProperty(name = "movies.source", havingValue = "upstream", matchIfMissing = true)
 @RequiredArgsConstructor
 public class MoviesAdapter implements MoviesPort {
 
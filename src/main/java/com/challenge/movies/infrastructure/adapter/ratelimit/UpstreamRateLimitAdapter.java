@@ -0,0 +1,84 @@
+package com.challenge.movies.infrastructure.adapter.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.challenge.movies.domain.exception.UpstreamRateLimitException;
+import com.challenge.movies.domain.port.UpstreamRateLimitPort;
+import com.challenge.movies.infrastructure.config.UpstreamRateLimitProperties;
+import com.challenge.movies.infrastructure.interceptor.BucketProvider;
+
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "movies.source", havingValue = "upstream", matchIfMissing = true)
+public class UpstreamRateLimitAdapter implements UpstreamRateLimitPort {
+
+  static final String BUCKET_KEY = "upstream:movies-api";
+
+  private final Bucket bucket;
+  private final Duration maxWait;
+  private final Counter grantedCounter;
+  private final Counter throttledCounter;
+
+  public UpstreamRateLimitAdapter(
+      BucketProvider bucketProvider,
+      UpstreamRateLimitProperties properties,
+      MeterRegistry meterRegistry) {
+    // One bucket shared by every caller (and every node when distributed): it caps page fetches,
+    // not users. Held directly so client-bucket eviction can never reset it.
+    this.bucket = bucketProvider.resolve(BUCKET_KEY, properties::limit);
+    this.maxWait = Duration.ofMillis(properties.maxWaitMs());
+
+    Gauge.builder("movies.upstream.rate-limit.capacity", properties::capacity)
+        .description("Upstream page fetches allowed per refill period")
+        .register(meterRegistry);
+    Gauge.builder("movies.upstream.rate-limit.remaining", bucket, Bucket::getAvailableTokens)
+        .description("Upstream page fetches left in the current period")
+        .register(meterRegistry);
+    this.grantedCounter =
+        Counter.builder("movies.upstream.fetches")
+            .tag("outcome", "granted")
+            .register(meterRegistry);
+    this.throttledCounter =
+        Counter.builder("movies.upstream.fetches")
+            .tag("outcome", "throttled")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public void acquire() {
+    if (tryConsume()) {
+      grantedCounter.increment();
+      return;
+    }
+
+    throttledCounter.increment();
+    long nanosToWait = bucket.estimateAbilityToConsume(1).getNanosToWaitForRefill();
+    long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanosToWait - 1) + 1);
+    log.warn("Upstream fetch budget exhausted, next token in {} s", retryAfterSeconds);
+    throw new UpstreamRateLimitException(
+        "Upstream fetch budget exhausted. Please try again later.", retryAfterSeconds);
+  }
+
+  private boolean tryConsume() {
+    if (maxWait.isZero()) {
+      return bucket.tryConsume(1);
+    }
+    // Short waits smooth bursts of page fetches instead of failing them outright
+    try {
+      return bucket.asBlocking().tryConsume(1, maxWait);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
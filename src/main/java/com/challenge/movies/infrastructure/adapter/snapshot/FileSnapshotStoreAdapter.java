@@ -0,0 +1,62 @@
+package com.challenge.movies.infrastructure.adapter.snapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.challenge.movies.domain.exception.SnapshotFormatException;
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.port.SnapshotStorePort;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Keeps the latest catalog in one file. Loading maps it read-only, so the restored catalog is
+// served straight from the page cache.
+@Slf4j
+@Component
+public class FileSnapshotStoreAdapter implements SnapshotStorePort {
+
+  private final boolean enabled;
+  private final Path path;
+
+  public FileSnapshotStoreAdapter(
+      @Value("${catalog.snapshot-file.enabled:true}") boolean enabled,
+      @Value("${catalog.snapshot-file.path:data/catalog.snapshot}") String path) {
+    this.enabled = enabled;
+    this.path = Path.of(path);
+  }
+
+  @Override
+  public Optional<CatalogSnapshot> load() {
+    if (!enabled || !Files.isRegularFile(path)) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(SnapshotFiles.map(path));
+    } catch (IOException | SnapshotFormatException e) {
+      log.warn("Ignoring catalog snapshot file {}: {}", path, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void save(CatalogSnapshot snapshot) {
+    if (!enabled) {
+      return;
+    }
+    try {
+      SnapshotFiles.write(snapshot, path);
+      log.info(
+          "Saved catalog snapshot {} ({} movies) to {}",
+          Long.toHexString(snapshot.version()),
+          snapshot.catalog().size(),
+          path);
+    } catch (IOException e) {
+      log.warn("Failed to save catalog snapshot to {}: {}", path, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.challenge.movies.infrastructure.adapter.snapshot;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.model.SnapshotFormat;
+
+// File handling shared by the warm-start store, the snapshot movies source and the commands
+public final class SnapshotFiles {
+
+  private SnapshotFiles() {}
+
+  // Maps the file read-only; the mapping stays valid after the channel is closed
+  public static CatalogSnapshot map(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return SnapshotFormat.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  // Writes a sibling file and renames it into place, which leaves existing mappings intact
+  public static void write(CatalogSnapshot snapshot, Path path) throws IOException {
+    Path directory = path.toAbsolutePath().getParent();
+    if (directory != null) {
+      Files.createDirectories(directory);
+    }
+    Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+    try (FileChannel channel =
+        FileChannel.open(
+            temporary,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      SnapshotFormat.write(snapshot, channel);
+      channel.force(false);
+    }
+    Files.move(
+        temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+}
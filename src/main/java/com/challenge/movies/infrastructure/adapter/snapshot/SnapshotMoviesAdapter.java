@@ -0,0 +1,56 @@
+package com.challenge.movies.infrastructure.adapter.snapshot;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.model.Movie;
+import com.challenge.movies.domain.model.MoviesResponse;
+import com.challenge.movies.domain.port.MoviesPort;
+
+import lombok.extern.slf4j.Slf4j;
+
+// movies.source=snapshot: pages are cut from a local snapshot file instead of the upstream API,
+// so the node needs no network and every run sees exactly the same catalog
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "movies.source", havingValue = "snapshot")
+public class SnapshotMoviesAdapter implements MoviesPort {
+
+  private final List<Movie> movies;
+  private final int pageSize;
+  private final int totalPages;
+
+  public SnapshotMoviesAdapter(
+      @Value("${movies.snapshot-source.path:${catalog.snapshot-file.path:data/catalog.snapshot}}")
+          String path,
+      @Value("${movies.snapshot-source.page-size:10}") int pageSize)
+      throws IOException {
+    CatalogSnapshot snapshot = SnapshotFiles.map(Path.of(path));
+    this.movies = snapshot.movies();
+    this.pageSize = pageSize;
+    this.totalPages = Math.max(1, (movies.size() + pageSize - 1) / pageSize);
+    log.info(
+        "Serving movies from snapshot {} - {} movies in {} pages of {}",
+        path,
+        movies.size(),
+        totalPages,
+        pageSize);
+  }
+
+  @Override
+  public MoviesResponse getMoviesByPage(Integer page) {
+    if (page < 1) {
+      return new MoviesResponse(page, pageSize, movies.size(), totalPages, List.of());
+    }
+    int from = (int) Math.min((long) (page - 1) * pageSize, movies.size());
+    int to = Math.min(from + pageSize, movies.size());
+    return new MoviesResponse(
+        page, pageSize, movies.size(), totalPages, List.copyOf(movies.subList(from, to)));
+  }
+}
@@ -0,0 +1,99 @@
+package com.challenge.movies.infrastructure.command;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import com.challenge.movies.application.service.CatalogService;
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.infrastructure.adapter.snapshot.SnapshotFiles;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// One-shot commands, run instead of serving:
+//   --movies.snapshot.export=<file>  fetch the live catalog and write it as a snapshot file
+//   --movies.snapshot.import=<file>  verify a snapshot file and install it as the local source
+// They boot without a web server under PROFILE, which leaves out scheduling and the warm-start
+// file, so only the requested file is written.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnapshotCommandRunner implements ApplicationRunner {
+
+  public static final String PROFILE = "snapshot-command";
+
+  private static final List<String> COMMAND_ARGS =
+      List.of("--movies.snapshot.export=", "--movies.snapshot.import=");
+
+  private final CatalogService catalogService;
+  private final ConfigurableApplicationContext context;
+
+  @Value("${movies.snapshot.export:}")
+  private String exportPath;
+
+  @Value("${movies.snapshot.import:}")
+  private String importPath;
+
+  @Value("${movies.snapshot-source.path:${catalog.snapshot-file.path:data/catalog.snapshot}}")
+  private String sourcePath;
+
+  public static boolean isCommand(String... args) {
+    return Arrays.stream(args).anyMatch(arg -> COMMAND_ARGS.stream().anyMatch(arg::startsWith));
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (exportPath.isBlank() && importPath.isBlank()) {
+      return;
+    }
+    int exitCode = 0;
+    try {
+      if (!exportPath.isBlank()) {
+        exportSnapshot(Path.of(exportPath));
+      }
+      if (!importPath.isBlank()) {
+        importSnapshot(Path.of(importPath), Path.of(sourcePath));
+      }
+    } catch (IOException | RuntimeException e) {
+      log.error("Snapshot command failed: {}", e.getMessage(), e);
+      exitCode = 1;
+    }
+    int code = exitCode;
+    System.exit(SpringApplication.exit(context, () -> code));
+  }
+
+  // Fetched from upstream even when a warm-start file was restored at boot
+  public CatalogSnapshot exportSnapshot(Path target) throws IOException {
+    CatalogSnapshot snapshot = catalogService.fetchFresh();
+    SnapshotFiles.write(snapshot, target);
+    log.info(
+        "Exported catalog snapshot {} ({} movies, {} pages) to {}",
+        Long.toHexString(snapshot.version()),
+        snapshot.catalog().size(),
+        snapshot.totalPages(),
+        target);
+    return snapshot;
+  }
+
+  // The file is fully verified (checksum and layout) before it replaces the current source
+  public CatalogSnapshot importSnapshot(Path source, Path target) throws IOException {
+    CatalogSnapshot snapshot = SnapshotFiles.map(source);
+    SnapshotFiles.write(snapshot, target);
+    log.info(
+        "Imported catalog snapshot {} ({} movies) from {} to {}",
+        Long.toHexString(snapshot.version()),
+        snapshot.catalog().size(),
+        source,
+        target);
+    return snapshot;
+  }
+}
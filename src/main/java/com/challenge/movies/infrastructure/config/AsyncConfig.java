@@ -1,6 +1,7 @@
 package com.challenge.movies.infrastructure.config;
 
-import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -27,8 +28,60 @@ public class AsyncConfig {
   @Value("${movies.async.thread-name-prefix:MoviesAsync-}")
   private String threadNamePrefix;
 
+  @Value("${movies.streaming.pool-size:8}")
+  private int streamingPoolSize;
+
+  @Value("${movies.streaming.queue-capacity:100}")
+  private int streamingQueueCapacity;
+
+  @Value("${movies.aggregation.parallelism:0}")
+  private int aggregationParallelism;
+
+  // CPU-bound aggregation over large catalogs; never shares workers with the I/O executors
+  @Bean(name = "aggregationPool", destroyMethod = "shutdown")
+  public ForkJoinPool aggregationPool() {
+    int parallelism =
+        aggregationParallelism > 0
+            ? aggregationParallelism
+            : Runtime.getRuntime().availableProcessors();
+    ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory =
+        pool -> {
+          ForkJoinWorkerThread thread =
+              ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+          thread.setName("MoviesAggregation-" + thread.getPoolIndex());
+          return thread;
+        };
+    log.info("Initialized aggregation pool - parallelism: {}", parallelism);
+    return new ForkJoinPool(parallelism, threadFactory, null, false);
+  }
+
+  // Writes streamed (async servlet) response bodies; kept apart from upstream fetches
+  @Bean(name = "streamingTaskExecutor")
+  public ThreadPoolTaskExecutor streamingTaskExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(streamingPoolSize);
+    executor.setMaxPoolSize(streamingPoolSize);
+    executor.setQueueCapacity(streamingQueueCapacity);
+    executor.setThreadNamePrefix("MoviesStreaming-");
+    executor.initialize();
+    return executor;
+  }
+
+  // Persists catalog snapshots off the fetching thread; one writer, so files are never interleaved
+  @Bean(name = "snapshotWriteExecutor")
+  public ThreadPoolTaskExecutor snapshotWriteExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setThreadNamePrefix("MoviesSnapshotWriter-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(60);
+    executor.initialize();
+    return executor;
+  }
+
   @Bean(name = "moviesTaskExecutor")
-  public Executor moviesTaskExecutor() {
+  public ThreadPoolTaskExecutor moviesTaskExecutor() {
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
     executor.setCorePoolSize(corePoolSize);
     executor.setMaxPoolSize(maxPoolSize);
@@ -0,0 +1,27 @@
+package com.challenge.movies.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.challenge.movies.infrastructure.controller.cache.ResponseFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Replaces the default CBOR/Smile converters so binary bodies use the application's Jackson
+// configuration; JSON stays first in the converter list and remains the fallback
+@Configuration
+public class BinaryFormatsConfig {
+
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+      ObjectMapper objectMapper) {
+    return new MappingJackson2CborHttpMessageConverter(ResponseFormat.CBOR.mapper(objectMapper));
+  }
+
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+      ObjectMapper objectMapper) {
+    return new MappingJackson2SmileHttpMessageConverter(ResponseFormat.SMILE.mapper(objectMapper));
+  }
+}
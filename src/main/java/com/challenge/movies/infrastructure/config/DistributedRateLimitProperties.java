@@ -0,0 +1,11 @@
+package com.challenge.movies.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "rate-limit.distributed")
+public record DistributedRateLimitProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("rate-limit:") String keyPrefix,
+    @DefaultValue("5") long prefetchTokens,
+    @DefaultValue("500") long syncIntervalMs) {}
@@ -0,0 +1,86 @@
+package com.challenge.movies.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.challenge.movies.infrastructure.interceptor.BucketProvider;
+import com.challenge.movies.infrastructure.interceptor.LocalBucketProvider;
+import com.challenge.movies.infrastructure.interceptor.RedisBucketProvider;
+
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties({
+  RateLimitProperties.class,
+  DistributedRateLimitProperties.class,
+  UpstreamRateLimitProperties.class,
+  RedisProperties.class
+})
+public class RateLimitConfig {
+
+  private static final Duration BUCKET_EXPIRY_MARGIN = Duration.ofSeconds(10);
+
+  @Bean(destroyMethod = "shutdown")
+  @ConditionalOnProperty(name = "rate-limit.distributed.enabled", havingValue = "true")
+  public RedisClient rateLimitRedisClient(RedisProperties redisProperties) {
+    RedisURI.Builder uri =
+        RedisURI.builder()
+            .withHost(redisProperties.getHost())
+            .withPort(redisProperties.getPort())
+            .withDatabase(redisProperties.getDatabase());
+    if (redisProperties.getPassword() != null) {
+      uri.withPassword(redisProperties.getPassword().toCharArray());
+    }
+    if (redisProperties.getTimeout() != null) {
+      uri.withTimeout(redisProperties.getTimeout());
+    }
+    return RedisClient.create(uri.build());
+  }
+
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(name = "rate-limit.distributed.enabled", havingValue = "true")
+  public StatefulRedisConnection<String, byte[]> rateLimitRedisConnection(
+      RedisClient rateLimitRedisClient) {
+    return rateLimitRedisClient.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "rate-limit.distributed.enabled", havingValue = "true")
+  public BucketProvider redisBucketProvider(
+      StatefulRedisConnection<String, byte[]> rateLimitRedisConnection,
+      RateLimitProperties properties,
+      DistributedRateLimitProperties distributedProperties) {
+    LettuceBasedProxyManager<String> proxyManager =
+        LettuceBasedProxyManager.builderFor(rateLimitRedisConnection)
+            .withExpirationStrategy(
+                ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(
+                    BUCKET_EXPIRY_MARGIN))
+            .build();
+    log.info(
+        "Distributed rate limiting enabled: prefetch {} tokens, sync every {} ms",
+        distributedProperties.prefetchTokens(),
+        distributedProperties.syncIntervalMs());
+    return new RedisBucketProvider(proxyManager, properties, distributedProperties);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(BucketProvider.class)
+  public BucketProvider localBucketProvider(RateLimitProperties properties) {
+    return new LocalBucketProvider(properties);
+  }
+}
@@ -0,0 +1,27 @@
+package com.challenge.movies.infrastructure.config;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+    @DefaultValue("10") int capacity,
+    @DefaultValue("1") int durationMinutes,
+    @DefaultValue("10000") long maxClients,
+    @DefaultValue("10") long idleExpiryMinutes,
+    Map<String, Limit> clients,
+    Map<String, Limit> scopes) {
+
+  public RateLimitProperties {
+    clients = clients == null ? Map.of() : Map.copyOf(clients);
+    scopes = scopes == null ? Map.of() : Map.copyOf(scopes);
+  }
+
+  public Limit defaultLimit() {
+    return new Limit(capacity, durationMinutes);
+  }
+
+  public record Limit(int capacity, int durationMinutes) {}
+}
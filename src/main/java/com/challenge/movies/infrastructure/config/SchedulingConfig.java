@@ -0,0 +1,11 @@
+package com.challenge.movies.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Scheduled jobs only run on a serving node, not during a one-shot snapshot command
+@Configuration
+@Profile("!snapshot-command")
+@EnableScheduling
+public class SchedulingConfig {}
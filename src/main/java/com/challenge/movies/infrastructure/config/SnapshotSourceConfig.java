@@ -0,0 +1,22 @@
+package com.challenge.movies.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.challenge.movies.domain.port.UpstreamRateLimitPort;
+
+import lombok.extern.slf4j.Slf4j;
+
+// movies.source=snapshot reads pages from a local file, so there is no upstream quota to protect
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "movies.source", havingValue = "snapshot")
+public class SnapshotSourceConfig {
+
+  @Bean
+  public UpstreamRateLimitPort snapshotSourceRateLimitPort() {
+    log.info("Upstream rate limit disabled: movies are served from a local snapshot");
+    return () -> {};
+  }
+}
@@ -0,0 +1,17 @@
+package com.challenge.movies.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.challenge.movies.infrastructure.config.RateLimitProperties.Limit;
+
+@ConfigurationProperties(prefix = "rate-limit.upstream")
+public record UpstreamRateLimitProperties(
+    @DefaultValue("120") int capacity,
+    @DefaultValue("1") int durationMinutes,
+    @DefaultValue("500") long maxWaitMs) {
+
+  public Limit limit() {
+    return new Limit(capacity, durationMinutes);
+  }
+}
@@ -1,21 +1,44 @@
 package com.challenge.movies.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.challenge.movies.infrastructure.interceptor.AdmissionControlInterceptor;
 import com.challenge.movies.infrastructure.interceptor.RateLimitInterceptor;
 
-import lombok.RequiredArgsConstructor;
-
 @Configuration
-@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
   private final RateLimitInterceptor rateLimitInterceptor;
+  private final AdmissionControlInterceptor admissionControlInterceptor;
+  private final ThreadPoolTaskExecutor streamingTaskExecutor;
+  private final long streamingTimeoutMs;
+
+  public WebConfig(
+      RateLimitInterceptor rateLimitInterceptor,
+      AdmissionControlInterceptor admissionControlInterceptor,
+      @Qualifier("streamingTaskExecutor") ThreadPoolTaskExecutor streamingTaskExecutor,
+      @Value("${movies.streaming.timeout-ms:30000}") long streamingTimeoutMs) {
+    this.rateLimitInterceptor = rateLimitInterceptor;
+    this.admissionControlInterceptor = admissionControlInterceptor;
+    this.streamingTaskExecutor = streamingTaskExecutor;
+    this.streamingTimeoutMs = streamingTimeoutMs;
+  }
 
   @Override
   public void addInterceptors(InterceptorRegistry registry) {
     registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/api/**");
+    registry.addInterceptor(admissionControlInterceptor).addPathPatterns("/api/**");
+  }
+
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    configurer.setTaskExecutor(streamingTaskExecutor);
+    configurer.setDefaultTimeout(streamingTimeoutMs);
   }
 }
@@ -0,0 +1,116 @@
+package com.challenge.movies.infrastructure.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.challenge.movies.application.service.AutocompleteService;
+import com.challenge.movies.domain.exception.InvalidParameterException;
+import com.challenge.movies.infrastructure.controller.dto.ErrorResponseDto;
+import com.challenge.movies.infrastructure.controller.dto.SuggestionsResponseDto;
+import com.challenge.movies.infrastructure.controller.mapper.AutocompleteMapper;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/autocomplete")
+@RequiredArgsConstructor
+@Tag(name = "Autocomplete", description = "Type-ahead over director names and titles")
+public class AutocompleteController {
+
+  private static final int MAX_QUERY_LENGTH = 100;
+  private static final int MAX_LIMIT = 50;
+
+  private final AutocompleteService autocompleteService;
+  private final AutocompleteMapper autocompleteMapper;
+
+  @Operation(
+      summary = "Autocomplete director names",
+      description =
+          "Returns the directors with a name word starting with q, ignoring case and accents, "
+              + "ranked by movie count (score). Served from a per-catalog prefix index.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the suggestions",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = SuggestionsResponseDto.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Blank or too long query, or invalid limit",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+      })
+  @GetMapping("/directors")
+  public ResponseEntity<SuggestionsResponseDto> completeDirectors(
+      @Parameter(description = "Prefix typed so far", required = true, example = "almo")
+          @RequestParam
+          String q,
+      @Parameter(description = "Maximum suggestions (1-" + MAX_LIMIT + ")", example = "10")
+          @RequestParam(defaultValue = "10")
+          int limit) {
+    validate(q, limit);
+    return ResponseEntity.ok(
+        autocompleteMapper.toSuggestionsResponseDto(
+            autocompleteService.completeDirectors(q, limit)));
+  }
+
+  @Operation(
+      summary = "Autocomplete movie titles",
+      description =
+          "Returns the titles with a word starting with q, ignoring case and accents, most "
+              + "recent first (score is the latest release year).")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the suggestions",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = SuggestionsResponseDto.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Blank or too long query, or invalid limit",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+      })
+  @GetMapping("/titles")
+  public ResponseEntity<SuggestionsResponseDto> completeTitles(
+      @Parameter(description = "Prefix typed so far", required = true, example = "midn")
+          @RequestParam
+          String q,
+      @Parameter(description = "Maximum suggestions (1-" + MAX_LIMIT + ")", example = "10")
+          @RequestParam(defaultValue = "10")
+          int limit) {
+    validate(q, limit);
+    return ResponseEntity.ok(
+        autocompleteMapper.toSuggestionsResponseDto(autocompleteService.completeTitles(q, limit)));
+  }
+
+  private static void validate(String q, int limit) {
+    if (q.isBlank() || q.length() > MAX_QUERY_LENGTH) {
+      throw new InvalidParameterException(
+          "Query must not be blank or longer than " + MAX_QUERY_LENGTH + " characters");
+    }
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new InvalidParameterException("Limit must be between 1 and " + MAX_LIMIT);
+    }
+  }
+}
@@ -0,0 +1,214 @@
+package com.challenge.movies.infrastructure.controller;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.challenge.movies.application.service.CatalogQueryService;
+import com.challenge.movies.domain.exception.InvalidParameterException;
+import com.challenge.movies.domain.model.CatalogField;
+import com.challenge.movies.domain.model.CatalogQuery;
+import com.challenge.movies.domain.model.FacetFilter;
+import com.challenge.movies.domain.model.QueryFilter;
+import com.challenge.movies.domain.model.QuerySort;
+import com.challenge.movies.infrastructure.controller.dto.ErrorResponseDto;
+import com.challenge.movies.infrastructure.controller.dto.FacetsResponseDto;
+import com.challenge.movies.infrastructure.controller.dto.GroupCountsResponseDto;
+import com.challenge.movies.infrastructure.controller.mapper.CatalogQueryMapper;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/catalog")
+@RequiredArgsConstructor
+@Tag(name = "Catalog", description = "Group and count movies by any catalog field")
+public class CatalogQueryController {
+
+  private static final int MAX_FILTERS = 10;
+  private static final int MAX_LIMIT = 1000;
+  private static final int MAX_TOP_DIRECTORS = 100;
+  private static final String FIELDS = "director, writer, actors, genre, rated, year";
+  // field:value for equality, or year with >, >=, < or <=
+  private static final Pattern FILTER = Pattern.compile("(\\w+)(:|>=|<=|>|<)(.+)");
+
+  private final CatalogQueryService catalogQueryService;
+  private final CatalogQueryMapper catalogQueryMapper;
+
+  @Operation(
+      summary = "Count movies per field value",
+      description =
+          "Groups the movies that pass every filter by one field and returns the values with "
+              + "more than threshold movies. writer, actors and genre are comma-separated lists "
+              + "and are grouped (and filtered) by each element. Filters are field:value for "
+              + "equality, or year>2010, year>=2010, year<2015 and year<=2015 for ranges. Sort "
+              + "by value (alphabetical, or ascending year) or by count (descending, ties broken "
+              + "by value).")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully counted the groups",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = GroupCountsResponseDto.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown field, malformed filter, or invalid threshold, sort or limit",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+      })
+  @GetMapping("/groups")
+  public ResponseEntity<GroupCountsResponseDto> getGroupCounts(
+      @Parameter(description = "Field to group by: " + FIELDS, required = true, example = "writer")
+          @RequestParam
+          String by,
+      @Parameter(description = "Keep groups with more than this many movies (>= 0)", example = "1")
+          @RequestParam(defaultValue = "0")
+          int threshold,
+      @Parameter(description = "Filters, all of which must match", example = "genre:Drama")
+          @RequestParam(required = false)
+          List<String> filter,
+      @Parameter(description = "value or count", example = "count")
+          @RequestParam(defaultValue = "value")
+          String sort,
+      @Parameter(description = "Maximum groups returned (1-" + MAX_LIMIT + ")", example = "50")
+          @RequestParam(defaultValue = "100")
+          int limit) {
+    if (threshold < 0) {
+      throw new InvalidParameterException("Threshold must be greater than or equal to 0");
+    }
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new InvalidParameterException("Limit must be between 1 and " + MAX_LIMIT);
+    }
+    List<String> filters = filter == null ? List.of() : filter;
+    if (filters.size() > MAX_FILTERS) {
+      throw new InvalidParameterException("At most " + MAX_FILTERS + " filters are allowed");
+    }
+
+    CatalogQuery query =
+        new CatalogQuery(
+            field(by),
+            threshold,
+            filters.stream().map(CatalogQueryController::queryFilter).toList(),
+            querySort(sort),
+            limit);
+    return ResponseEntity.ok(
+        catalogQueryMapper.toGroupCountsResponseDto(query, catalogQueryService.query(query)));
+  }
+
+  @Operation(
+      summary = "Get facet counts",
+      description =
+          "Counts the movies matching the genre, rated and year filters per genre, director and "
+              + "decade. Every genre given must be present (genre is comma-separated on a movie). "
+              + "Counts come from per-catalog bitmaps: the filter is an AND of bitmaps and each "
+              + "genre and decade count is a popcount, so the catalog is not scanned.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully counted the facets",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = FacetsResponseDto.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Year range reversed, or invalid directors limit",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+      })
+  @GetMapping("/facets")
+  public ResponseEntity<FacetsResponseDto> getFacets(
+      @Parameter(description = "Genres the movies must all have", example = "Drama")
+          @RequestParam(required = false)
+          List<String> genre,
+      @Parameter(description = "Rating the movies must have", example = "R")
+          @RequestParam(required = false)
+          String rated,
+      @Parameter(description = "First year, inclusive", example = "2010")
+          @RequestParam(required = false)
+          Integer yearFrom,
+      @Parameter(description = "Last year, inclusive", example = "2019")
+          @RequestParam(required = false)
+          Integer yearTo,
+      @Parameter(
+              description = "Directors returned, most movies first (1-" + MAX_TOP_DIRECTORS + ")",
+              example = "10")
+          @RequestParam(defaultValue = "10")
+          int directors) {
+    if (yearFrom != null && yearTo != null && yearFrom > yearTo) {
+      throw new InvalidParameterException("yearFrom must not be after yearTo");
+    }
+    if (directors < 1 || directors > MAX_TOP_DIRECTORS) {
+      throw new InvalidParameterException("Directors must be between 1 and " + MAX_TOP_DIRECTORS);
+    }
+    List<String> genres = genre == null ? List.of() : genre.stream().map(String::trim).toList();
+    if (genres.size() > MAX_FILTERS) {
+      throw new InvalidParameterException("At most " + MAX_FILTERS + " genres are allowed");
+    }
+    FacetFilter filter = new FacetFilter(genres, rated, yearFrom, yearTo);
+    return ResponseEntity.ok(
+        catalogQueryMapper.toFacetsResponseDto(catalogQueryService.facets(filter, directors)));
+  }
+
+  private static CatalogField field(String name) {
+    try {
+      return CatalogField.valueOf(name.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidParameterException("Field must be one of " + FIELDS);
+    }
+  }
+
+  private static QueryFilter queryFilter(String filter) {
+    Matcher matcher = FILTER.matcher(filter.trim());
+    if (!matcher.matches()) {
+      throw new InvalidParameterException(
+          "Filter must be field:value, or year followed by >, >=, < or <= and a year");
+    }
+    CatalogField field = field(matcher.group(1));
+    QueryFilter.Operator operator =
+        switch (matcher.group(2)) {
+          case ":" -> QueryFilter.Operator.EQ;
+          case ">" -> QueryFilter.Operator.GT;
+          case ">=" -> QueryFilter.Operator.GTE;
+          case "<" -> QueryFilter.Operator.LT;
+          default -> QueryFilter.Operator.LTE;
+        };
+    String value = matcher.group(3).trim();
+    if (operator != QueryFilter.Operator.EQ && !field.numeric()) {
+      throw new InvalidParameterException("Range filters are only supported on year");
+    }
+    if (field.numeric() && !value.matches("-?\\d{1,9}")) {
+      throw new InvalidParameterException("Year filters need a numeric year");
+    }
+    return new QueryFilter(field, operator, value);
+  }
+
+  private static QuerySort querySort(String sort) {
+    return switch (sort) {
+      case "value" -> QuerySort.VALUE;
+      case "count" -> QuerySort.COUNT;
+      default -> throw new InvalidParameterException("Sort must be value or count");
+    };
+  }
+}
@@ -0,0 +1,69 @@
+package com.challenge.movies.infrastructure.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.challenge.movies.domain.exception.InvalidParameterException;
+import com.challenge.movies.infrastructure.controller.dto.DirectorsChangeDto;
+import com.challenge.movies.infrastructure.controller.dto.ErrorResponseDto;
+import com.challenge.movies.infrastructure.controller.feed.DirectorChangeFeed;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/directors")
+@RequiredArgsConstructor
+@Tag(name = "Directors", description = "Directors API to filter by movie count threshold")
+public class DirectorChangesController {
+
+  private final DirectorChangeFeed directorChangeFeed;
+
+  @Operation(
+      summary = "Subscribe to director-list changes",
+      description =
+          "Server-Sent Events stream for one threshold. The first event, 'subscribed', carries "
+              + "the catalog version the subscription starts from (the same hex that prefixes "
+              + "the /api/directors ETag). After that, a 'directors-changed' event with the "
+              + "directors added and removed is sent only when a new catalog snapshot changes "
+              + "the result for the threshold. When the catalog has not been fetched yet, "
+              + "'subscribed' has no version and the first 'directors-changed' event lists every "
+              + "director as added. Comment heartbeats keep the connection open.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Event stream opened",
+            content =
+                @Content(
+                    mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = DirectorsChangeDto.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid threshold parameter (non-numeric or negative value)",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+      })
+  @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribeToChanges(
+      @Parameter(description = "Minimum number of movies directed", required = true, example = "4")
+          @RequestParam
+          Integer threshold) {
+    if (threshold == null || threshold < 0) {
+      throw new InvalidParameterException("Threshold must be a non-negative integer");
+    }
+    return directorChangeFeed.subscribe(threshold);
+  }
+}
@@ -1,18 +1,45 @@
 package com.challenge.movies.infrastructure.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.challenge.movies.application.service.DirectorService;
 import com.challenge.movies.domain.exception.InvalidParameterException;
+import com.challenge.movies.domain.exception.StaleCursorException;
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.model.DirectorSlice;
+import com.challenge.movies.domain.model.DirectorSort;
+import com.challenge.movies.domain.model.PartialDirectorsResult;
+import com.challenge.movies.infrastructure.controller.cache.DirectorsResponseCache;
+import com.challenge.movies.infrastructure.controller.cache.DirectorsResponseCache.EncodedResponse;
+import com.challenge.movies.infrastructure.controller.cache.ResponseFormat;
+import com.challenge.movies.infrastructure.controller.dto.DirectorStatsPageDto;
+import com.challenge.movies.infrastructure.controller.dto.DirectorsBatchResponseDto;
 import com.challenge.movies.infrastructure.controller.dto.DirectorsResponseDto;
 import com.challenge.movies.infrastructure.controller.dto.ErrorResponseDto;
+import com.challenge.movies.infrastructure.controller.dto.TopDirectorsResponseDto;
 import com.challenge.movies.infrastructure.controller.mapper.DirectorMapper;
+import com.challenge.movies.infrastructure.controller.pagination.DirectorCursor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -29,14 +56,30 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Directors", description = "Directors API to filter by movie count threshold")
 public class DirectorController {
 
+  private static final int MAX_BATCH_THRESHOLDS = 100;
+  private static final int MAX_PAGE_SIZE = 500;
+  private static final int MAX_TOP_K = 1000;
+  private static final int DEFAULT_PAGE_LIMIT = 100;
+  private static final int MAX_PAGE_LIMIT = 1000;
+
   private final DirectorService directorService;
   private final DirectorMapper directorMapper;
+  private final DirectorsResponseCache directorsResponseCache;
+  private final ObjectMapper objectMapper;
 
   @Operation(
       summary = "Get directors by threshold",
       description =
           "Retrieves a list of director names who have directed more than the specified threshold number of movies. "
-              + "The list is returned in alphabetical order.")
+              + "The list is returned in alphabetical order. With partial=true, the directors are "
+              + "computed from the pages fetched within the latency budget and the response "
+              + "includes page coverage metadata. Full responses carry a strong ETag derived "
+              + "from the catalog version and threshold; send it back in If-None-Match to get "
+              + "304 Not Modified while the catalog is unchanged. With limit (and then cursor), "
+              + "the list is returned one page at a time; follow nextCursor until it is absent. "
+              + "While the catalog is being fetched the request is parked without holding a "
+              + "server thread and is completed by the fetch itself. Send Accept: application/cbor "
+              + "or application/x-jackson-smile for a binary body; anything else gets JSON.")
   @ApiResponses(
       value = {
         @ApiResponse(
@@ -46,6 +89,9 @@ public class DirectorController {
                 @Content(
                     mediaType = "application/json",
                     schema = @Schema(implementation = DirectorsResponseDto.class))),
+        @ApiResponse(
+            responseCode = "304",
+            description = "The catalog has not changed since the ETag in If-None-Match"),
         @ApiResponse(
             responseCode = "400",
             description = "Invalid threshold parameter (non-numeric or negative value)",
@@ -53,6 +99,13 @@ public class DirectorController {
                 @Content(
                     mediaType = "application/json",
                     schema = @Schema(implementation = ErrorResponseDto.class))),
+        @ApiResponse(
+            responseCode = "410",
+            description = "The cursor belongs to a catalog version that is no longer current",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponseDto.class))),
         @ApiResponse(
             responseCode = "500",
             description = "Internal server error",
@@ -62,19 +115,382 @@ public class DirectorController {
                     schema = @Schema(implementation = ErrorResponseDto.class)))
       })
   @GetMapping
-  public ResponseEntity<DirectorsResponseDto> getDirectorsByThreshold(
+  public CompletableFuture<ResponseEntity<?>> getDirectorsByThreshold(
       @Parameter(
               description =
                   "Minimum number of movies directed (must be greater than or equal to 0)",
               required = true,
               example = "4")
           @RequestParam
+          Integer threshold,
+      @Parameter(
+              description =
+                  "Return the directors computed from the pages fetched within the latency budget "
+                      + "instead of waiting for slow or failing pages",
+              example = "false")
+          @RequestParam(defaultValue = "false")
+          boolean partial,
+      @Parameter(
+              description = "Page size (1-" + MAX_PAGE_LIMIT + "); enables cursor pagination",
+              example = "100")
+          @RequestParam(required = false)
+          Integer limit,
+      @Parameter(description = "nextCursor from the previous page") @RequestParam(required = false)
+          String cursor,
+      WebRequest webRequest) {
+    if (threshold == null || threshold < 0) {
+      throw new InvalidParameterException("Threshold must be a non-negative integer");
+    }
+    if (limit != null || cursor != null) {
+      if (partial) {
+        throw new InvalidParameterException("partial cannot be combined with limit or cursor");
+      }
+      int pageLimit = pageLimit(limit);
+      DirectorCursor position = cursor == null ? null : DirectorCursor.decode(cursor);
+      if (position != null && position.threshold() != threshold) {
+        throw new InvalidParameterException("Cursor was issued for a different threshold");
+      }
+      return directorService.withCatalogSnapshot(
+          snapshot -> ResponseEntity.ok(directorsPage(snapshot, threshold, pageLimit, position)));
+    }
+    if (partial) {
+      // Bounded by the partial latency budget, so it is answered on the request thread
+      PartialDirectorsResult result =
+          directorService.getDirectorsByThresholdWithinBudget(threshold);
+      return CompletableFuture.completedFuture(
+          ResponseEntity.ok(directorMapper.toDirectorsResponseDto(result)));
+    }
+
+    // Headers are read here: the continuation may run on the aggregation pool after the request
+    // went async, where the servlet request and response must not be touched
+    ResponseFormat format = ResponseFormat.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+    boolean gzip =
+        DirectorsResponseCache.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    List<ETag> ifNoneMatch = ifNoneMatch(webRequest);
+
+    // Completes inline on a warm catalog; otherwise on the aggregation pool once it is fetched
+    return directorService.withCatalogSnapshot(
+        snapshot -> directorsResponse(snapshot, threshold, format, gzip, ifNoneMatch));
+  }
+
+  private ResponseEntity<?> directorsResponse(
+      CatalogSnapshot snapshot,
+      int threshold,
+      ResponseFormat format,
+      boolean gzip,
+      List<ETag> ifNoneMatch) {
+    // Validate against the snapshot version before aggregating or serializing anything
+    String etag = directorsEtag(snapshot.version(), threshold, format, gzip);
+    if (matchesAny(ifNoneMatch, etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(etag)
+          .cacheControl(CacheControl.noCache())
+          .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+          .build();
+    }
+
+    EncodedResponse encoded =
+        directorsResponseCache.get(
+            snapshot.version(),
+            threshold,
+            format,
+            () ->
+                directorMapper.toDirectorsResponseDto(
+                    directorService.getDirectorsByThreshold(snapshot, threshold)));
+    ResponseEntity.BodyBuilder ok =
+        ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(CacheControl.noCache())
+            .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+            .contentType(format.mediaType());
+    if (gzip) {
+      return ok.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+    }
+    return ok.body(encoded.body());
+  }
+
+  @Operation(
+      summary = "Stream directors by threshold as NDJSON",
+      description =
+          "Selected with Accept: application/x-ndjson. Writes one {\"name\": ...} object per "
+              + "line, in alphabetical order, straight from the director index, so the first "
+              + "bytes go out before the list is complete and memory does not grow with it.")
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public CompletableFuture<ResponseEntity<StreamingResponseBody>> streamDirectorsByThreshold(
+      @Parameter(description = "Minimum number of movies directed", required = true, example = "0")
+          @RequestParam
           Integer threshold) {
     if (threshold == null || threshold < 0) {
       throw new InvalidParameterException("Threshold must be a non-negative integer");
     }
-    List<String> directors = directorService.getDirectorsByThreshold(threshold);
-    DirectorsResponseDto response = directorMapper.toDirectorsResponseDto(directors);
-    return ResponseEntity.ok(response);
+    // Resolved before streaming starts so fetch errors still map to a normal error response
+    return directorService
+        .getCatalogSnapshotAsync()
+        .thenApply(
+            snapshot -> {
+              StreamingResponseBody body =
+                  outputStream -> writeNdjson(outputStream, snapshot, threshold);
+              return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+            });
+  }
+
+  private void writeNdjson(OutputStream outputStream, CatalogSnapshot snapshot, int threshold)
+      throws IOException {
+    try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.setRootValueSeparator(null);
+      boolean[] firstLine = {true};
+      directorService.forEachDirectorByThreshold(
+          snapshot,
+          threshold,
+          name -> {
+            try {
+              generator.writeStartObject();
+              generator.writeStringField("name", name);
+              generator.writeEndObject();
+              generator.writeRaw('\n');
+              // Push the first line out immediately; later lines go out as the buffer fills
+              if (firstLine[0]) {
+                firstLine[0] = false;
+                generator.flush();
+              }
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static int pageLimit(Integer limit) {
+    int pageLimit = limit == null ? DEFAULT_PAGE_LIMIT : limit;
+    if (pageLimit < 1 || pageLimit > MAX_PAGE_LIMIT) {
+      throw new InvalidParameterException("limit must be between 1 and " + MAX_PAGE_LIMIT);
+    }
+    return pageLimit;
+  }
+
+  private DirectorsResponseDto directorsPage(
+      CatalogSnapshot snapshot, int threshold, int pageLimit, DirectorCursor position) {
+    int fromRow = 0;
+    if (position != null) {
+      if (position.catalogVersion() != snapshot.version()) {
+        throw new StaleCursorException(
+            "The catalog has changed since this cursor was issued. Restart from the first page.");
+      }
+      fromRow = position.row();
+    }
+
+    DirectorSlice slice =
+        directorService.getDirectorsByThreshold(snapshot, threshold, fromRow, pageLimit);
+    String nextCursor =
+        slice.hasMore()
+            ? new DirectorCursor(snapshot.version(), threshold, slice.nextRow()).encode()
+            : null;
+    return directorMapper.toDirectorsResponseDto(slice, nextCursor);
+  }
+
+  @Operation(
+      summary = "Get directors for many thresholds at once",
+      description =
+          "Returns the alphabetical director list for each requested threshold, computed in a "
+              + "single pass over the director counts. Pass either a comma-separated list of "
+              + "thresholds or an inclusive from/to range (at most "
+              + MAX_BATCH_THRESHOLDS
+              + " thresholds). Results are ordered by ascending threshold.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the director lists",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = DirectorsBatchResponseDto.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Missing, negative, conflicting or too many thresholds",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+      })
+  @GetMapping("/batch")
+  public CompletableFuture<ResponseEntity<DirectorsBatchResponseDto>> getDirectorsByThresholds(
+      @Parameter(description = "Comma-separated thresholds", example = "1,4,8")
+          @RequestParam(required = false)
+          List<Integer> thresholds,
+      @Parameter(description = "First threshold of an inclusive range", example = "0")
+          @RequestParam(required = false)
+          Integer from,
+      @Parameter(description = "Last threshold of an inclusive range", example = "10")
+          @RequestParam(required = false)
+          Integer to) {
+    SortedSet<Integer> requested = requestedThresholds(thresholds, from, to);
+    return directorService
+        .getDirectorsByThresholds(requested)
+        .thenApply(
+            directors -> ResponseEntity.ok(directorMapper.toDirectorsBatchResponseDto(directors)));
+  }
+
+  @Operation(
+      summary = "Get director statistics",
+      description =
+          "Returns every director with their movie count and first and last release year, "
+              + "served from a per-catalog stats table. Sort by name, count, firstYear or "
+              + "lastYear (ties are broken by name) and page through the results.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the page of director statistics",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = DirectorStatsPageDto.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown sort field or order, or invalid page or size",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+      })
+  @GetMapping("/stats")
+  public CompletableFuture<ResponseEntity<DirectorStatsPageDto>> getDirectorStats(
+      @Parameter(description = "name, count, firstYear or lastYear", example = "count")
+          @RequestParam(defaultValue = "name")
+          String sort,
+      @Parameter(description = "asc or desc", example = "desc") @RequestParam(defaultValue = "asc")
+          String order,
+      @Parameter(description = "Zero-based page number", example = "0")
+          @RequestParam(defaultValue = "0")
+          int page,
+      @Parameter(description = "Page size (1-" + MAX_PAGE_SIZE + ")", example = "50")
+          @RequestParam(defaultValue = "50")
+          int size) {
+    if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+      throw new InvalidParameterException(
+          "Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+    }
+    return directorService
+        .getDirectorStats(directorSort(sort), descending(order), page, size)
+        .thenApply(stats -> ResponseEntity.ok(directorMapper.toDirectorStatsPageDto(stats)));
+  }
+
+  @Operation(
+      summary = "Get the most prolific directors",
+      description =
+          "Returns the k directors with the most movies, highest count first (ties broken by "
+              + "name), selected with a bounded heap over the per-catalog director table.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the top directors",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = TopDirectorsResponseDto.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "k is missing or outside 1-" + MAX_TOP_K,
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+      })
+  @GetMapping("/top")
+  public CompletableFuture<ResponseEntity<TopDirectorsResponseDto>> getTopDirectors(
+      @Parameter(description = "Number of directors (1-" + MAX_TOP_K + ")", example = "20")
+          @RequestParam(defaultValue = "20")
+          int k) {
+    if (k < 1 || k > MAX_TOP_K) {
+      throw new InvalidParameterException("k must be between 1 and " + MAX_TOP_K);
+    }
+    return directorService
+        .getTopDirectors(k)
+        .thenApply(top -> ResponseEntity.ok(directorMapper.toTopDirectorsResponseDto(top)));
+  }
+
+  private static DirectorSort directorSort(String sort) {
+    return switch (sort) {
+      case "name" -> DirectorSort.NAME;
+      case "count" -> DirectorSort.MOVIE_COUNT;
+      case "firstYear" -> DirectorSort.FIRST_YEAR;
+      case "lastYear" -> DirectorSort.LAST_YEAR;
+      default -> throw new InvalidParameterException(
+          "Sort must be one of name, count, firstYear, lastYear");
+    };
+  }
+
+  private static boolean descending(String order) {
+    if ("asc".equalsIgnoreCase(order)) {
+      return false;
+    }
+    if ("desc".equalsIgnoreCase(order)) {
+      return true;
+    }
+    throw new InvalidParameterException("Order must be asc or desc");
+  }
+
+  private static SortedSet<Integer> requestedThresholds(
+      List<Integer> thresholds, Integer from, Integer to) {
+    boolean hasList = thresholds != null && !thresholds.isEmpty();
+    boolean hasRange = from != null || to != null;
+    if (hasList == hasRange) {
+      throw new InvalidParameterException("Provide either thresholds or a from/to range");
+    }
+
+    SortedSet<Integer> requested = new TreeSet<>();
+    if (hasList) {
+      for (Integer threshold : thresholds) {
+        if (threshold == null || threshold < 0) {
+          throw new InvalidParameterException("Thresholds must be non-negative integers");
+        }
+        requested.add(threshold);
+      }
+    } else {
+      if (from == null || to == null || from < 0 || to < from) {
+        throw new InvalidParameterException(
+            "Range requires non-negative from and to with from <= to");
+      }
+      if ((long) to - from >= MAX_BATCH_THRESHOLDS) {
+        throw new InvalidParameterException(
+            "At most " + MAX_BATCH_THRESHOLDS + " thresholds per request");
+      }
+      for (int threshold = from; threshold <= to; threshold++) {
+        requested.add(threshold);
+      }
+    }
+    if (requested.size() > MAX_BATCH_THRESHOLDS) {
+      throw new InvalidParameterException(
+          "At most " + MAX_BATCH_THRESHOLDS + " thresholds per request");
+    }
+    return requested;
+  }
+
+  private static List<ETag> ifNoneMatch(WebRequest webRequest) {
+    String[] values = webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+    return values == null ? List.of() : ETag.parse(String.join(",", values));
+  }
+
+  // If-None-Match uses the weak comparison, so W/"tag" matches the strong "tag" as well
+  private static boolean matchesAny(List<ETag> ifNoneMatch, String etag) {
+    ETag current = ETag.create(etag);
+    return ifNoneMatch.stream().anyMatch(tag -> tag.isWildcard() || tag.compare(current, false));
+  }
+
+  // Strong validators must differ per representation, so each format and coding gets its own tag
+  private static String directorsEtag(
+      long catalogVersion, int threshold, ResponseFormat format, boolean gzip) {
+    return "\""
+        + Long.toHexString(catalogVersion)
+        + "-"
+        + threshold
+        + format.etagSuffix()
+        + (gzip ? "-gzip" : "")
+        + "\"";
   }
 }
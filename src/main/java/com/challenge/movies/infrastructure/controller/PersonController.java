@@ -0,0 +1,124 @@
+package com.challenge.movies.infrastructure.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.challenge.movies.application.service.PersonService;
+import com.challenge.movies.domain.exception.InvalidParameterException;
+import com.challenge.movies.domain.model.CatalogField;
+import com.challenge.movies.infrastructure.controller.dto.ErrorResponseDto;
+import com.challenge.movies.infrastructure.controller.dto.PeopleResponseDto;
+import com.challenge.movies.infrastructure.controller.dto.PersonMoviesResponseDto;
+import com.challenge.movies.infrastructure.controller.mapper.PersonMapper;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Tag(name = "People", description = "Actors and writers API served from inverted indexes")
+public class PersonController {
+
+  private static final int MAX_NAMES = 10;
+
+  private final PersonService personService;
+  private final PersonMapper personMapper;
+
+  @Operation(
+      summary = "Get actors or writers by threshold",
+      description =
+          "Retrieves the actors (or writers) credited in more than the specified threshold number "
+              + "of movies, in alphabetical order. Answered from a per-catalog inverted index.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the list of people",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = PeopleResponseDto.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid threshold parameter (non-numeric or negative value)",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+      })
+  @GetMapping("/{role:actors|writers}")
+  public ResponseEntity<PeopleResponseDto> getPeopleByThreshold(
+      @Parameter(description = "actors or writers", example = "actors") @PathVariable String role,
+      @Parameter(
+              description =
+                  "Minimum number of movies credited (must be greater than or equal to 0)",
+              required = true,
+              example = "1")
+          @RequestParam
+          Integer threshold) {
+    if (threshold == null || threshold < 0) {
+      throw new InvalidParameterException("Threshold must be greater than or equal to 0");
+    }
+    return ResponseEntity.ok(
+        personMapper.toPeopleResponseDto(
+            personService.getPeopleByThreshold(field(role), threshold)));
+  }
+
+  @Operation(
+      summary = "Get the movies of actors or writers",
+      description =
+          "Returns the movies crediting every given actor (or writer), in catalog order. With "
+              + "several names the posting lists are intersected, so only shared movies are "
+              + "returned. Unknown names give an empty list.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the movies",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = PersonMoviesResponseDto.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Missing, blank or too many names",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+      })
+  @GetMapping("/{role:actors|writers}/movies")
+  public ResponseEntity<PersonMoviesResponseDto> getMoviesWith(
+      @Parameter(description = "actors or writers", example = "actors") @PathVariable String role,
+      @Parameter(
+              description = "Exact names; repeat for movies shared by all of them",
+              required = true,
+              example = "Leonardo DiCaprio")
+          @RequestParam
+          List<String> name) {
+    List<String> names = name.stream().map(String::trim).toList();
+    if (names.isEmpty() || names.size() > MAX_NAMES || names.stream().anyMatch(String::isEmpty)) {
+      throw new InvalidParameterException("Between 1 and " + MAX_NAMES + " names are required");
+    }
+    return ResponseEntity.ok(
+        personMapper.toPersonMoviesResponseDto(
+            names, personService.getMoviesWithAll(field(role), names)));
+  }
+
+  private static CatalogField field(String role) {
+    return "actors".equals(role) ? CatalogField.ACTORS : CatalogField.WRITER;
+  }
+}
@@ -0,0 +1,112 @@
+package com.challenge.movies.infrastructure.controller;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.challenge.movies.application.service.SearchService;
+import com.challenge.movies.domain.exception.InvalidParameterException;
+import com.challenge.movies.domain.model.SearchTarget;
+import com.challenge.movies.infrastructure.controller.dto.ErrorResponseDto;
+import com.challenge.movies.infrastructure.controller.dto.SearchResponseDto;
+import com.challenge.movies.infrastructure.controller.mapper.SearchMapper;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "Fuzzy search over titles, directors and actors")
+public class SearchController {
+
+  private static final int MIN_QUERY_LENGTH = 2;
+  private static final int MAX_QUERY_LENGTH = 100;
+  private static final int MAX_DISTANCE = 3;
+  private static final int MAX_LIMIT = 50;
+
+  private final SearchService searchService;
+  private final SearchMapper searchMapper;
+
+  @Operation(
+      summary = "Fuzzy search",
+      description =
+          "Finds titles, directors and actors close to q even when misspelled, ignoring case and "
+              + "accents. Candidates come from a per-catalog trigram index and are reranked by "
+              + "the edit distance between q and the closest run of words in the name; hits "
+              + "farther than maxDistance are dropped. Closest hits come first.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully searched",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = SearchResponseDto.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Query too short or long, unknown type, or invalid maxDistance or limit",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+      })
+  @GetMapping
+  public ResponseEntity<SearchResponseDto> search(
+      @Parameter(description = "Text to search for", required = true, example = "almodobar")
+          @RequestParam
+          String q,
+      @Parameter(description = "title, director or actor; repeat for several (default all)")
+          @RequestParam(required = false)
+          List<String> type,
+      @Parameter(description = "Maximum edit distance (0-" + MAX_DISTANCE + ")", example = "2")
+          @RequestParam(defaultValue = "2")
+          int maxDistance,
+      @Parameter(description = "Maximum hits (1-" + MAX_LIMIT + ")", example = "10")
+          @RequestParam(defaultValue = "10")
+          int limit) {
+    String query = q.strip();
+    if (query.length() < MIN_QUERY_LENGTH || query.length() > MAX_QUERY_LENGTH) {
+      throw new InvalidParameterException(
+          "Query must be between " + MIN_QUERY_LENGTH + " and " + MAX_QUERY_LENGTH + " characters");
+    }
+    if (maxDistance < 0 || maxDistance > MAX_DISTANCE) {
+      throw new InvalidParameterException("maxDistance must be between 0 and " + MAX_DISTANCE);
+    }
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new InvalidParameterException("Limit must be between 1 and " + MAX_LIMIT);
+    }
+    return ResponseEntity.ok(
+        searchMapper.toSearchResponseDto(
+            query, searchService.search(query, targets(type), maxDistance, limit)));
+  }
+
+  private static Set<SearchTarget> targets(List<String> types) {
+    if (types == null || types.isEmpty()) {
+      return EnumSet.allOf(SearchTarget.class);
+    }
+    Set<SearchTarget> targets = EnumSet.noneOf(SearchTarget.class);
+    for (String type : types) {
+      try {
+        targets.add(SearchTarget.valueOf(type.strip().toUpperCase(Locale.ROOT)));
+      } catch (IllegalArgumentException e) {
+        throw new InvalidParameterException("Type must be title, director or actor");
+      }
+    }
+    return targets;
+  }
+}
@@ -0,0 +1,109 @@
+package com.challenge.movies.infrastructure.controller.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.challenge.movies.infrastructure.controller.dto.DirectorsResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class DirectorsResponseCache {
+
+  private final Map<ResponseFormat, ObjectMapper> mappers = new EnumMap<>(ResponseFormat.class);
+  private final Cache<Key, EncodedResponse> responses;
+
+  public DirectorsResponseCache(
+      ObjectMapper objectMapper, @Value("${catalog.response-cache-size:256}") long maxEntries) {
+    for (ResponseFormat format : ResponseFormat.values()) {
+      mappers.put(format, format.mapper(objectMapper));
+    }
+    this.responses = Caffeine.newBuilder().maximumSize(maxEntries).build();
+  }
+
+  public EncodedResponse get(
+      long catalogVersion, int threshold, Supplier<DirectorsResponseDto> response) {
+    return get(catalogVersion, threshold, ResponseFormat.JSON, response);
+  }
+
+  // The body for a (version, threshold, format) never changes, so it is encoded once and reused
+  public EncodedResponse get(
+      long catalogVersion,
+      int threshold,
+      ResponseFormat format,
+      Supplier<DirectorsResponseDto> response) {
+    Key key = new Key(catalogVersion, threshold, format);
+    EncodedResponse cached = responses.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    return responses.get(key, k -> encode(format, response.get()));
+  }
+
+  public static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.trim().split(";");
+      String name = parts[0].trim();
+      if (("gzip".equalsIgnoreCase(name) || "*".equals(name)) && !rejected(parts)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean rejected(String[] parameters) {
+    for (int i = 1; i < parameters.length; i++) {
+      String parameter = parameters[i].trim();
+      if (parameter.startsWith("q=")) {
+        try {
+          return Double.parseDouble(parameter.substring(2)) == 0;
+        } catch (NumberFormatException e) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private EncodedResponse encode(ResponseFormat format, DirectorsResponseDto response) {
+    try {
+      byte[] body = mappers.get(format).writeValueAsBytes(response);
+      byte[] gzip = gzip(body);
+      log.debug(
+          "Encoded {} directors response: {} bytes, {} gzipped", format, body.length, gzip.length);
+      return new EncodedResponse(body, gzip);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static byte[] gzip(byte[] bytes) {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4 + 64);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+      gzip.write(bytes);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return buffer.toByteArray();
+  }
+
+  private record Key(long catalogVersion, int threshold, ResponseFormat format) {}
+
+  public record EncodedResponse(byte[] body, byte[] gzip) {}
+}
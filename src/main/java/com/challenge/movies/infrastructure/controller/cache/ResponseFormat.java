@@ -0,0 +1,72 @@
+package com.challenge.movies.infrastructure.controller.cache;
+
+import java.util.List;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+// Body encodings offered through Accept; JSON first, so wildcards and unknown types fall back to it
+public enum ResponseFormat {
+  JSON(MediaType.APPLICATION_JSON, ""),
+  CBOR(new MediaType("application", "cbor"), "-cbor"),
+  SMILE(new MediaType("application", "x-jackson-smile"), "-smile");
+
+  private final MediaType mediaType;
+  private final String etagSuffix;
+
+  ResponseFormat(MediaType mediaType, String etagSuffix) {
+    this.mediaType = mediaType;
+    this.etagSuffix = etagSuffix;
+  }
+
+  public MediaType mediaType() {
+    return mediaType;
+  }
+
+  public String etagSuffix() {
+    return etagSuffix;
+  }
+
+  // Same configuration and modules as the JSON mapper, different wire format
+  public ObjectMapper mapper(ObjectMapper jsonMapper) {
+    return switch (this) {
+      case JSON -> jsonMapper;
+      case CBOR -> jsonMapper.copyWith(new CBORFactory());
+      case SMILE -> jsonMapper.copyWith(new SmileFactory());
+    };
+  }
+
+  // Highest quality wins; equal qualities keep the client's order
+  public static ResponseFormat negotiate(String accept) {
+    if (accept == null || accept.isBlank()) {
+      return JSON;
+    }
+    List<MediaType> accepted;
+    try {
+      accepted = MediaType.parseMediaTypes(accept);
+    } catch (InvalidMediaTypeException e) {
+      return JSON;
+    }
+
+    ResponseFormat best = JSON;
+    double bestQuality = 0;
+    for (MediaType type : accepted) {
+      double quality = type.getQualityValue();
+      if (quality <= bestQuality) {
+        continue;
+      }
+      for (ResponseFormat format : values()) {
+        if (format.mediaType.isCompatibleWith(type)) {
+          best = format;
+          bestQuality = quality;
+          break;
+        }
+      }
+    }
+    return best;
+  }
+}
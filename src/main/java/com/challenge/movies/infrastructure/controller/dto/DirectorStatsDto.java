@@ -0,0 +1,6 @@
+package com.challenge.movies.infrastructure.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DirectorStatsDto(String name, int movieCount, Integer firstYear, Integer lastYear) {}
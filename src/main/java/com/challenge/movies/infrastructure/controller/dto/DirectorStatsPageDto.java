@@ -0,0 +1,6 @@
+package com.challenge.movies.infrastructure.controller.dto;
+
+import java.util.List;
+
+public record DirectorStatsPageDto(
+    List<DirectorStatsDto> directors, int page, int size, int totalElements, int totalPages) {}
@@ -0,0 +1,5 @@
+package com.challenge.movies.infrastructure.controller.dto;
+
+import java.util.List;
+
+public record DirectorsBatchResponseDto(List<ThresholdDirectorsDto> results) {}
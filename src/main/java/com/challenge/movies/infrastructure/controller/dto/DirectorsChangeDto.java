@@ -0,0 +1,9 @@
+package com.challenge.movies.infrastructure.controller.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DirectorsChangeDto(
+    int threshold, String catalogVersion, List<String> added, List<String> removed) {}
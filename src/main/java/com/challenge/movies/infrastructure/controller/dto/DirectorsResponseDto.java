@@ -2,4 +2,8 @@ package com.challenge.movies.infrastructure.controller.dto;
 
 import java.util.List;
 
-public record DirectorsResponseDto(List<String> directors) {}
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DirectorsResponseDto(
+    List<String> directors, PageCoverageDto coverage, String nextCursor) {}
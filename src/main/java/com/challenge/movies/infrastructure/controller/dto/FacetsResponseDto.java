@@ -0,0 +1,9 @@
+package com.challenge.movies.infrastructure.controller.dto;
+
+import java.util.List;
+
+public record FacetsResponseDto(
+    int matchedMovies,
+    List<GroupCountDto> genres,
+    List<GroupCountDto> directors,
+    List<GroupCountDto> decades) {}
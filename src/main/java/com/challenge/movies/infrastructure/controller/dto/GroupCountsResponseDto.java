@@ -0,0 +1,10 @@
+package com.challenge.movies.infrastructure.controller.dto;
+
+import java.util.List;
+
+public record GroupCountsResponseDto(
+    String groupBy,
+    int threshold,
+    List<GroupCountDto> groups,
+    int totalGroups,
+    int matchedMovies) {}
@@ -0,0 +1,4 @@
+package com.challenge.movies.infrastructure.controller.dto;
+
+public record PageCoverageDto(
+    int pagesFetched, int totalPages, int moviesCounted, boolean complete) {}
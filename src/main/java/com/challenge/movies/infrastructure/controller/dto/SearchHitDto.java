@@ -0,0 +1,3 @@
+package com.challenge.movies.infrastructure.controller.dto;
+
+public record SearchHitDto(String type, String value, int distance) {}
@@ -0,0 +1,3 @@
+package com.challenge.movies.infrastructure.controller.dto;
+
+public record SuggestionDto(String value, int score) {}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MissingServletRequestParameterException;
@@ -12,6 +13,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import com.challenge.movies.domain.exception.InvalidParameterException;
+import com.challenge.movies.domain.exception.StaleCursorException;
+import com.challenge.movies.domain.exception.UpstreamRateLimitException;
 import com.challenge.movies.infrastructure.controller.dto.ErrorResponseDto;
 
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +41,36 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
   }
 
+  @ExceptionHandler(StaleCursorException.class)
+  public ResponseEntity<ErrorResponseDto> handleStaleCursorException(
+      StaleCursorException ex, HttpServletRequest request) {
+    log.warn("Stale cursor: {}", ex.getMessage());
+    ErrorResponseDto errorResponse =
+        new ErrorResponseDto(
+            HttpStatus.GONE.value(),
+            HttpStatus.GONE.getReasonPhrase(),
+            ex.getMessage(),
+            request.getRequestURI(),
+            LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.GONE).body(errorResponse);
+  }
+
+  @ExceptionHandler(UpstreamRateLimitException.class)
+  public ResponseEntity<ErrorResponseDto> handleUpstreamRateLimitException(
+      UpstreamRateLimitException ex, HttpServletRequest request) {
+    log.warn("Upstream rate limit: {}", ex.getMessage());
+    ErrorResponseDto errorResponse =
+        new ErrorResponseDto(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+            ex.getMessage(),
+            request.getRequestURI(),
+            LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+        .body(errorResponse);
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ErrorResponseDto> handleGlobalException(
       Exception ex, HttpServletRequest request) {
@@ -0,0 +1,254 @@
+package com.challenge.movies.infrastructure.controller.feed;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.challenge.movies.application.service.CatalogService;
+import com.challenge.movies.application.service.DirectorService;
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.model.DirectorsDiff;
+import com.challenge.movies.infrastructure.controller.dto.DirectorsChangeDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Long-lived SSE subscriptions grouped by threshold. Each new catalog snapshot is diffed once per
+// subscribed threshold and the encoded event is written to every subscriber of that threshold.
+@Slf4j
+@Component
+public class DirectorChangeFeed {
+
+  static final String SUBSCRIBED_EVENT = "subscribed";
+  static final String CHANGED_EVENT = "directors-changed";
+
+  private final DirectorService directorService;
+  private final CatalogService catalogService;
+  private final ObjectMapper objectMapper;
+  private final Executor publishExecutor;
+  private final long subscriptionTimeoutMs;
+
+  private final Map<Integer, Subscribers> subscribers = new ConcurrentHashMap<>();
+
+  // Snapshots are published one after another so every threshold sees them in order
+  private CompletableFuture<Void> publishing = CompletableFuture.completedFuture(null);
+
+  public DirectorChangeFeed(
+      DirectorService directorService,
+      CatalogService catalogService,
+      ObjectMapper objectMapper,
+      @Qualifier("streamingTaskExecutor") Executor publishExecutor,
+      @Value("${catalog.feed.subscription-timeout-ms:1800000}") long subscriptionTimeoutMs) {
+    this.directorService = directorService;
+    this.catalogService = catalogService;
+    this.objectMapper = objectMapper;
+    this.publishExecutor = publishExecutor;
+    this.subscriptionTimeoutMs = subscriptionTimeoutMs;
+    catalogService.addSnapshotListener(this::onSnapshot);
+  }
+
+  public SseEmitter subscribe(int threshold) {
+    SseEmitter emitter = new SseEmitter(subscriptionTimeoutMs);
+    emitter.onCompletion(() -> unsubscribe(threshold, emitter));
+    emitter.onTimeout(emitter::complete);
+    emitter.onError(error -> unsubscribe(threshold, emitter));
+
+    String catalogVersion = register(threshold, emitter);
+    if (catalogVersion == null) {
+      // Cold catalog: the first snapshot reaches this group as a full list of added directors.
+      // The snapshot listener alone is not enough, since it stays silent when a refresh brings
+      // back the content it last announced.
+      catalogService
+          .getSnapshotAsync()
+          .whenComplete(
+              (snapshot, error) -> {
+                if (error == null) {
+                  onSnapshot(snapshot);
+                } else {
+                  log.warn("Catalog fetch for new subscription failed: {}", error.getMessage());
+                }
+              });
+    }
+    return emitter;
+  }
+
+  // The subscribed event is sent before the emitter joins its group, under the group lock that
+  // publish also takes, so no change event or heartbeat can reach the subscriber ahead of it
+  private String register(int threshold, SseEmitter emitter) {
+    while (true) {
+      Subscribers group = subscribers.computeIfAbsent(threshold, Subscribers::new);
+      String catalogVersion;
+      synchronized (group) {
+        if (group.closed) {
+          // Its last subscriber left and the group was dropped; join the one that replaces it
+          continue;
+        }
+        // The first subscriber of a threshold sets the baseline later events are diffed against
+        if (group.directors == null) {
+          catalogService.getWarmSnapshot().ifPresent(group::advanceTo);
+        }
+        catalogVersion = group.catalogVersion;
+        try {
+          emitter.send(
+              event(
+                  SUBSCRIBED_EVENT,
+                  catalogVersion,
+                  new DirectorsChangeDto(threshold, catalogVersion, null, null)));
+          group.emitters.add(emitter);
+          return catalogVersion;
+        } catch (IOException | IllegalStateException e) {
+          log.debug("Subscriber to threshold {} left before subscribing", threshold);
+        }
+      }
+      // Drops the group again if it was created for this subscriber alone
+      unsubscribe(threshold, emitter);
+      return catalogVersion;
+    }
+  }
+
+  // Subscribers are what keeps the catalog fresh: without a poller the snapshot only refreshes
+  // when a request happens to find it expired
+  @Scheduled(fixedDelayString = "${catalog.feed.poll-interval-ms:15000}")
+  public void poll() {
+    if (subscribers.isEmpty()) {
+      return;
+    }
+    catalogService
+        .getSnapshotAsync()
+        .whenComplete(
+            (snapshot, error) -> {
+              if (error != null) {
+                log.warn("Catalog refresh for change feed failed: {}", error.getMessage());
+              }
+            });
+    // Keeps idle connections open through proxies and finds clients that went away
+    Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+    subscribers.forEach(
+        (threshold, group) ->
+            group.emitters.forEach(emitter -> send(threshold, emitter, heartbeat)));
+  }
+
+  private synchronized void onSnapshot(CatalogSnapshot snapshot) {
+    publishing = publishing.thenRunAsync(() -> publish(snapshot), publishExecutor);
+  }
+
+  private void publish(CatalogSnapshot snapshot) {
+    subscribers.forEach(
+        (threshold, group) -> {
+          try {
+            publish(group, snapshot);
+          } catch (RuntimeException e) {
+            log.warn("Publishing threshold {} failed: {}", threshold, e.getMessage());
+          }
+        });
+  }
+
+  private void publish(Subscribers group, CatalogSnapshot snapshot) {
+    DirectorsDiff diff;
+    String catalogVersion;
+    List<SseEmitter> recipients;
+    synchronized (group) {
+      List<String> previous = group.directors;
+      if (!group.advanceTo(snapshot)) {
+        return;
+      }
+      // Subscribers that joined before any snapshot have no list yet, so they get all of it
+      diff = DirectorsDiff.between(previous == null ? List.of() : previous, group.directors);
+      catalogVersion = group.catalogVersion;
+      // Later subscribers already start from this version
+      recipients = List.copyOf(group.emitters);
+    }
+    if (diff.isEmpty()) {
+      return;
+    }
+
+    Set<DataWithMediaType> event =
+        event(
+            CHANGED_EVENT,
+            catalogVersion,
+            new DirectorsChangeDto(group.threshold, catalogVersion, diff.added(), diff.removed()));
+    log.info(
+        "Threshold {}: {} added, {} removed, notifying {} subscribers",
+        group.threshold,
+        diff.added().size(),
+        diff.removed().size(),
+        recipients.size());
+    recipients.forEach(emitter -> send(group.threshold, emitter, event));
+  }
+
+  // Encoded once and shared by every subscriber of the threshold
+  private Set<DataWithMediaType> event(String name, String id, DirectorsChangeDto data) {
+    try {
+      SseEmitter.SseEventBuilder builder =
+          SseEmitter.event()
+              .name(name)
+              .data(objectMapper.writeValueAsString(data), MediaType.APPLICATION_JSON);
+      if (id != null) {
+        builder.id(id);
+      }
+      return builder.build();
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Cannot encode change event", e);
+    }
+  }
+
+  private void send(int threshold, SseEmitter emitter, Set<DataWithMediaType> event) {
+    try {
+      emitter.send(event);
+    } catch (IOException | IllegalStateException e) {
+      // The container reports the broken connection through onError; stop writing to it now
+      unsubscribe(threshold, emitter);
+    }
+  }
+
+  private void unsubscribe(int threshold, SseEmitter emitter) {
+    subscribers.computeIfPresent(
+        threshold,
+        (key, group) -> {
+          synchronized (group) {
+            group.emitters.remove(emitter);
+            group.closed = group.emitters.isEmpty();
+            return group.closed ? null : group;
+          }
+        });
+  }
+
+  private final class Subscribers {
+
+    private final int threshold;
+    private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+
+    // Guarded by this; the result the subscribers last heard about
+    private List<String> directors;
+    private String catalogVersion;
+    // Guarded by this; set once the group has left the map
+    private boolean closed;
+
+    private Subscribers(int threshold) {
+      this.threshold = threshold;
+    }
+
+    private boolean advanceTo(CatalogSnapshot snapshot) {
+      String version = Long.toHexString(snapshot.version());
+      if (version.equals(catalogVersion)) {
+        return false;
+      }
+      directors = directorService.getDirectorsByThreshold(snapshot, threshold);
+      catalogVersion = version;
+      return true;
+    }
+  }
+}
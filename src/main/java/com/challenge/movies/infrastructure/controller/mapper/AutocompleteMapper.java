@@ -0,0 +1,20 @@
+package com.challenge.movies.infrastructure.controller.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+import com.challenge.movies.domain.model.Suggestion;
+import com.challenge.movies.infrastructure.controller.dto.SuggestionDto;
+import com.challenge.movies.infrastructure.controller.dto.SuggestionsResponseDto;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface AutocompleteMapper {
+
+  SuggestionDto toSuggestionDto(Suggestion suggestion);
+
+  default SuggestionsResponseDto toSuggestionsResponseDto(List<Suggestion> suggestions) {
+    return new SuggestionsResponseDto(suggestions.stream().map(this::toSuggestionDto).toList());
+  }
+}
@@ -0,0 +1,35 @@
+package com.challenge.movies.infrastructure.controller.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+import com.challenge.movies.domain.model.CatalogQuery;
+import com.challenge.movies.domain.model.FacetCounts;
+import com.challenge.movies.domain.model.GroupCount;
+import com.challenge.movies.domain.model.QueryResult;
+import com.challenge.movies.infrastructure.controller.dto.FacetsResponseDto;
+import com.challenge.movies.infrastructure.controller.dto.GroupCountDto;
+import com.challenge.movies.infrastructure.controller.dto.GroupCountsResponseDto;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface CatalogQueryMapper {
+
+  GroupCountDto toGroupCountDto(GroupCount group);
+
+  default GroupCountsResponseDto toGroupCountsResponseDto(CatalogQuery query, QueryResult result) {
+    return new GroupCountsResponseDto(
+        query.groupBy().name().toLowerCase(),
+        query.threshold(),
+        result.groups().stream().map(this::toGroupCountDto).toList(),
+        result.totalGroups(),
+        result.matchedMovies());
+  }
+
+  default FacetsResponseDto toFacetsResponseDto(FacetCounts facets) {
+    return new FacetsResponseDto(
+        facets.matchedMovies(),
+        facets.genres().stream().map(this::toGroupCountDto).toList(),
+        facets.directors().stream().map(this::toGroupCountDto).toList(),
+        facets.decades().stream().map(this::toGroupCountDto).toList());
+  }
+}
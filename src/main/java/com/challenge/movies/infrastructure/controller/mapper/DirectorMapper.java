@@ -1,16 +1,61 @@
 package com.challenge.movies.infrastructure.controller.mapper;
 
 import java.util.List;
+import java.util.Map;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingConstants;
 
+import com.challenge.movies.domain.model.DirectorSlice;
+import com.challenge.movies.domain.model.DirectorStats;
+import com.challenge.movies.domain.model.DirectorStatsPage;
+import com.challenge.movies.domain.model.PartialDirectorsResult;
+import com.challenge.movies.infrastructure.controller.dto.DirectorStatsDto;
+import com.challenge.movies.infrastructure.controller.dto.DirectorStatsPageDto;
+import com.challenge.movies.infrastructure.controller.dto.DirectorsBatchResponseDto;
 import com.challenge.movies.infrastructure.controller.dto.DirectorsResponseDto;
+import com.challenge.movies.infrastructure.controller.dto.PageCoverageDto;
+import com.challenge.movies.infrastructure.controller.dto.ThresholdDirectorsDto;
+import com.challenge.movies.infrastructure.controller.dto.TopDirectorsResponseDto;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface DirectorMapper {
 
   default DirectorsResponseDto toDirectorsResponseDto(List<String> directors) {
-    return new DirectorsResponseDto(directors);
+    return new DirectorsResponseDto(directors, null, null);
+  }
+
+  default DirectorsResponseDto toDirectorsResponseDto(PartialDirectorsResult result) {
+    PageCoverageDto coverage =
+        new PageCoverageDto(
+            result.pagesFetched(), result.totalPages(), result.moviesCounted(), result.complete());
+    return new DirectorsResponseDto(result.directors(), coverage, null);
+  }
+
+  default DirectorsResponseDto toDirectorsResponseDto(DirectorSlice slice, String nextCursor) {
+    return new DirectorsResponseDto(slice.directors(), null, nextCursor);
+  }
+
+  default DirectorsBatchResponseDto toDirectorsBatchResponseDto(
+      Map<Integer, List<String>> directorsByThreshold) {
+    return new DirectorsBatchResponseDto(
+        directorsByThreshold.entrySet().stream()
+            .map(entry -> new ThresholdDirectorsDto(entry.getKey(), entry.getValue()))
+            .toList());
+  }
+
+  DirectorStatsDto toDirectorStatsDto(DirectorStats stats);
+
+  default DirectorStatsPageDto toDirectorStatsPageDto(DirectorStatsPage page) {
+    return new DirectorStatsPageDto(
+        page.directors().stream().map(this::toDirectorStatsDto).toList(),
+        page.page(),
+        page.size(),
+        page.totalElements(),
+        page.totalPages());
+  }
+
+  default TopDirectorsResponseDto toTopDirectorsResponseDto(List<DirectorStats> directors) {
+    return new TopDirectorsResponseDto(directors.stream().map(this::toDirectorStatsDto).toList());
   }
 }
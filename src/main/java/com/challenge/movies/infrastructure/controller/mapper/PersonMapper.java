@@ -0,0 +1,27 @@
+package com.challenge.movies.infrastructure.controller.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+import com.challenge.movies.domain.model.Movie;
+import com.challenge.movies.infrastructure.controller.dto.MovieSummaryDto;
+import com.challenge.movies.infrastructure.controller.dto.PeopleResponseDto;
+import com.challenge.movies.infrastructure.controller.dto.PersonMoviesResponseDto;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface PersonMapper {
+
+  default PeopleResponseDto toPeopleResponseDto(List<String> names) {
+    return new PeopleResponseDto(names);
+  }
+
+  MovieSummaryDto toMovieSummaryDto(Movie movie);
+
+  default PersonMoviesResponseDto toPersonMoviesResponseDto(
+      List<String> names, List<Movie> movies) {
+    return new PersonMoviesResponseDto(
+        names, movies.stream().map(this::toMovieSummaryDto).toList());
+  }
+}
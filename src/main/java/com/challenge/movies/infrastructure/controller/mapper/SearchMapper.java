@@ -0,0 +1,22 @@
+package com.challenge.movies.infrastructure.controller.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+import com.challenge.movies.domain.model.SearchHit;
+import com.challenge.movies.infrastructure.controller.dto.SearchHitDto;
+import com.challenge.movies.infrastructure.controller.dto.SearchResponseDto;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface SearchMapper {
+
+  default SearchHitDto toSearchHitDto(SearchHit hit) {
+    return new SearchHitDto(hit.target().name().toLowerCase(), hit.value(), hit.distance());
+  }
+
+  default SearchResponseDto toSearchResponseDto(String query, List<SearchHit> hits) {
+    return new SearchResponseDto(query, hits.stream().map(this::toSearchHitDto).toList());
+  }
+}
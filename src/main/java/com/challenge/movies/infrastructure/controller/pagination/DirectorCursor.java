@@ -0,0 +1,41 @@
+package com.challenge.movies.infrastructure.controller.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.challenge.movies.domain.exception.InvalidParameterException;
+
+// Opaque to clients; pins the catalog version so pages never mix two catalogs
+public record DirectorCursor(long catalogVersion, int threshold, int row) {
+
+  private static final String FORMAT_VERSION = "d1";
+
+  public String encode() {
+    String raw =
+        FORMAT_VERSION + ":" + Long.toHexString(catalogVersion) + ":" + threshold + ":" + row;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  public static DirectorCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+      String[] parts = raw.split(":");
+      if (parts.length != 4 || !FORMAT_VERSION.equals(parts[0])) {
+        throw new InvalidParameterException("Invalid cursor");
+      }
+      DirectorCursor decoded =
+          new DirectorCursor(
+              Long.parseUnsignedLong(parts[1], 16),
+              Integer.parseInt(parts[2]),
+              Integer.parseInt(parts[3]));
+      if (decoded.threshold() < 0 || decoded.row() < 0) {
+        throw new InvalidParameterException("Invalid cursor");
+      }
+      return decoded;
+    } catch (IllegalArgumentException e) {
+      throw new InvalidParameterException("Invalid cursor");
+    }
+  }
+}
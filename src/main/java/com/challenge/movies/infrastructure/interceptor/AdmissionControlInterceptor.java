@@ -0,0 +1,155 @@
+package com.challenge.movies.infrastructure.interceptor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.challenge.movies.application.service.CatalogService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+  private static final String START_NANOS_ATTRIBUTE =
+      AdmissionControlInterceptor.class.getName() + ".startNanos";
+  private static final double LATENCY_SMOOTHING = 0.2;
+
+  private final ThreadPoolTaskExecutor moviesTaskExecutor;
+  private final CatalogService catalogService;
+  private final double queueHighWatermark;
+  private final long latencyThresholdMs;
+  private final long retryAfterSeconds;
+
+  // Exponentially weighted moving average of cold (cache-miss) request latency, as double bits
+  private final AtomicLong recentLatencyMs = new AtomicLong(Double.doubleToLongBits(0));
+
+  public AdmissionControlInterceptor(
+      @Qualifier("moviesTaskExecutor") ThreadPoolTaskExecutor moviesTaskExecutor,
+      @Lazy CatalogService catalogService,
+      @Value("${admission-control.queue-high-watermark:0.8}") double queueHighWatermark,
+      @Value("${admission-control.latency-threshold-ms:5000}") long latencyThresholdMs,
+      @Value("${admission-control.retry-after-seconds:5}") long retryAfterSeconds) {
+    this.moviesTaskExecutor = moviesTaskExecutor;
+    this.catalogService = catalogService;
+    this.queueHighWatermark = queueHighWatermark;
+    this.latencyThresholdMs = latencyThresholdMs;
+    this.retryAfterSeconds = retryAfterSeconds;
+    log.info(
+        "Admission control initialized: queue high watermark {}, latency threshold {} ms",
+        queueHighWatermark,
+        latencyThresholdMs);
+  }
+
+  @Override
+  public boolean preHandle(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull Object handler)
+      throws Exception {
+
+    // Async dispatches (streamed responses) were already admitted by the original request
+    if (request.getDispatcherType() == DispatcherType.ASYNC) {
+      return true;
+    }
+
+    // Requests answered from a warm snapshot never touch the executor
+    if (catalogService.getWarmSnapshot().isPresent()) {
+      return true;
+    }
+
+    if (!isOverloaded()) {
+      // A stream lives as long as its client listens, which says nothing about fetch latency
+      if (!isStreaming(handler)) {
+        request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
+      }
+      return true;
+    }
+
+    log.warn(
+        "Shedding request {}: active {}/{}, queued {}, recent latency {} ms",
+        request.getRequestURI(),
+        moviesTaskExecutor.getActiveCount(),
+        moviesTaskExecutor.getMaxPoolSize(),
+        moviesTaskExecutor.getQueueSize(),
+        Math.round(getRecentLatencyMs()));
+    response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    response.setContentType("application/json");
+    response
+        .getWriter()
+        .write(
+            "{\"status\":503,\"error\":\"Service Unavailable\","
+                + "\"message\":\"Server is overloaded. Please try again later.\"}");
+    return false;
+  }
+
+  @Override
+  public void afterCompletion(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull Object handler,
+      @Nullable Exception ex) {
+    if (request.getAttribute(START_NANOS_ATTRIBUTE) instanceof Long startNanos) {
+      double latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+      recentLatencyMs.updateAndGet(
+          bits -> {
+            double previous = Double.longBitsToDouble(bits);
+            return Double.doubleToLongBits(previous + LATENCY_SMOOTHING * (latencyMs - previous));
+          });
+    }
+  }
+
+  double getRecentLatencyMs() {
+    return Double.longBitsToDouble(recentLatencyMs.get());
+  }
+
+  // SSE and NDJSON handlers, including ones returned through ResponseEntity or a future
+  static boolean isStreaming(Object handler) {
+    if (!(handler instanceof HandlerMethod handlerMethod)) {
+      return false;
+    }
+    ResolvableType type = ResolvableType.forMethodReturnType(handlerMethod.getMethod());
+    while (type != ResolvableType.NONE) {
+      Class<?> returned = type.toClass();
+      if (ResponseBodyEmitter.class.isAssignableFrom(returned)
+          || StreamingResponseBody.class.isAssignableFrom(returned)) {
+        return true;
+      }
+      type = type.hasGenerics() ? type.getGeneric(0) : ResolvableType.NONE;
+    }
+    return false;
+  }
+
+  // Latency only counts while every worker is busy, so an idle executor always admits again
+  boolean isOverloaded() {
+    boolean allWorkersBusy =
+        moviesTaskExecutor.getActiveCount() >= moviesTaskExecutor.getMaxPoolSize();
+    if (!allWorkersBusy) {
+      return false;
+    }
+    boolean queueNearlyFull =
+        moviesTaskExecutor.getQueueSize()
+            >= moviesTaskExecutor.getQueueCapacity() * queueHighWatermark;
+    return queueNearlyFull || getRecentLatencyMs() > latencyThresholdMs;
+  }
+}
@@ -0,0 +1,21 @@
+package com.challenge.movies.infrastructure.interceptor;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import com.challenge.movies.infrastructure.config.RateLimitProperties.Limit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+
+public interface BucketProvider {
+
+  Bucket resolve(String key, Supplier<Limit> limit);
+
+  static Bandwidth bandwidthFor(Limit limit) {
+    return Bandwidth.builder()
+        .capacity(limit.capacity())
+        .refillIntervally(limit.capacity(), Duration.ofMinutes(limit.durationMinutes()))
+        .build();
+  }
+}
@@ -0,0 +1,30 @@
+package com.challenge.movies.infrastructure.interceptor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.challenge.movies.infrastructure.config.RateLimitProperties;
+import com.challenge.movies.infrastructure.config.RateLimitProperties.Limit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.bucket4j.Bucket;
+
+public class LocalBucketProvider implements BucketProvider {
+
+  private final Cache<String, Bucket> buckets;
+
+  public LocalBucketProvider(RateLimitProperties properties) {
+    this.buckets =
+        Caffeine.newBuilder()
+            .maximumSize(properties.maxClients())
+            .expireAfterAccess(properties.idleExpiryMinutes(), TimeUnit.MINUTES)
+            .build();
+  }
+
+  @Override
+  public Bucket resolve(String key, Supplier<Limit> limit) {
+    return buckets.get(
+        key, k -> Bucket.builder().addLimit(BucketProvider.bandwidthFor(limit.get())).build());
+  }
+}
@@ -1,36 +1,52 @@
 package com.challenge.movies.infrastructure.interceptor;
 
-import java.time.Duration;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import io.github.bucket4j.Bandwidth;
+import com.challenge.movies.domain.port.SecurityPort;
+import com.challenge.movies.infrastructure.config.RateLimitProperties;
+import com.challenge.movies.infrastructure.config.RateLimitProperties.Limit;
+
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
 public class RateLimitInterceptor implements HandlerInterceptor {
 
-  private final Bucket bucket;
+  private static final String CLIENT_KEY_PREFIX = "client:";
+  private static final String IP_KEY_PREFIX = "ip:";
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final RateLimitProperties properties;
+  private final SecurityPort securityPort;
+  private final BucketProvider bucketProvider;
 
   public RateLimitInterceptor(
-      @Value("${rate-limit.capacity:10}") int capacity,
-      @Value("${rate-limit.duration-minutes:1}") int durationMinutes) {
-    Bandwidth limit =
-        Bandwidth.builder()
-            .capacity(capacity)
-            .refillIntervally(capacity, Duration.ofMinutes(durationMinutes))
-            .build();
-    this.bucket = Bucket.builder().addLimit(limit).build();
-    log.info("Rate limiter initialized: {} requests per {} minute(s)", capacity, durationMinutes);
+      RateLimitProperties properties, SecurityPort securityPort, BucketProvider bucketProvider) {
+    this.properties = properties;
+    this.securityPort = securityPort;
+    this.bucketProvider = bucketProvider;
+    log.info(
+        "Rate limiter initialized: {} requests per {} minute(s) per client, "
+            + "{} client and {} scope override(s)",
+        properties.capacity(),
+        properties.durationMinutes(),
+        properties.clients().size(),
+        properties.scopes().size());
   }
 
   @Override
@@ -40,13 +56,30 @@ public class RateLimitInterceptor implements HandlerInterceptor {
       @NonNull Object handler)
       throws Exception {
 
-    if (bucket.tryConsume(1)) {
+    // Async dispatches (streamed responses) were already admitted by the original request
+    if (request.getDispatcherType() == DispatcherType.ASYNC) {
+      return true;
+    }
+
+    ConsumptionProbe probe;
+    try {
+      probe = bucketFor(request).tryConsumeAndReturnRemaining(1);
+    } catch (RuntimeException e) {
+      // Fail open: an unreachable bucket store must not take the API down with it
+      log.warn("Rate limit check failed, allowing request: {}", e.getMessage());
+      return true;
+    }
+    if (probe.isConsumed()) {
+      response.setHeader("X-Rate-Limit-Remaining", String.valueOf(probe.getRemainingTokens()));
       return true;
     }
 
     // Rate limit exceeded
     log.warn("Rate limit exceeded for request: {}", request.getRequestURI());
+    long retryAfterSeconds =
+        Math.max(1, (probe.getNanosToWaitForRefill() + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
     response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
     response.setContentType("application/json");
     response
         .getWriter()
@@ -55,4 +88,27 @@ public class RateLimitInterceptor implements HandlerInterceptor {
                 + "\"message\":\"Rate limit exceeded. Please try again later.\"}");
     return false;
   }
+
+  Bucket bucketFor(HttpServletRequest request) {
+    Optional<String> clientId = securityPort.getCurrentClientId();
+    if (clientId.isPresent()) {
+      return bucketProvider.resolve(
+          CLIENT_KEY_PREFIX + clientId.get(), () -> limitFor(clientId.get()));
+    }
+    return bucketProvider.resolve(
+        IP_KEY_PREFIX + request.getRemoteAddr(), properties::defaultLimit);
+  }
+
+  // Client overrides win; otherwise the most generous limit among the client's scopes applies
+  private Limit limitFor(String clientId) {
+    Limit clientLimit = properties.clients().get(clientId);
+    if (clientLimit != null) {
+      return clientLimit;
+    }
+    return securityPort.getCurrentScopes().stream()
+        .map(properties.scopes()::get)
+        .filter(Objects::nonNull)
+        .max(Comparator.comparingInt(Limit::capacity))
+        .orElseGet(properties::defaultLimit);
+  }
 }
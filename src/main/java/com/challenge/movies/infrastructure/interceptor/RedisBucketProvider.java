@@ -0,0 +1,62 @@
+package com.challenge.movies.infrastructure.interceptor;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.challenge.movies.infrastructure.config.DistributedRateLimitProperties;
+import com.challenge.movies.infrastructure.config.RateLimitProperties;
+import com.challenge.movies.infrastructure.config.RateLimitProperties.Limit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+
+public class RedisBucketProvider implements BucketProvider {
+
+  private final ProxyManager<String> proxyManager;
+  private final String keyPrefix;
+  private final Optimization optimization;
+
+  // Proxies are kept locally because they carry the unsynchronized (prefetched) token state
+  private final Cache<String, Bucket> proxies;
+
+  public RedisBucketProvider(
+      ProxyManager<String> proxyManager,
+      RateLimitProperties properties,
+      DistributedRateLimitProperties distributedProperties) {
+    this.proxyManager = proxyManager;
+    this.keyPrefix = distributedProperties.keyPrefix();
+    this.optimization =
+        Optimizations.delaying(
+            new DelayParameters(
+                distributedProperties.prefetchTokens(),
+                Duration.ofMillis(distributedProperties.syncIntervalMs())));
+    this.proxies =
+        Caffeine.newBuilder()
+            .maximumSize(properties.maxClients())
+            .expireAfterAccess(properties.idleExpiryMinutes(), TimeUnit.MINUTES)
+            .build();
+  }
+
+  @Override
+  public Bucket resolve(String key, Supplier<Limit> limit) {
+    return proxies.get(
+        key,
+        k ->
+            proxyManager
+                .builder()
+                .withOptimization(optimization)
+                .build(
+                    keyPrefix + k,
+                    () ->
+                        BucketConfiguration.builder()
+                            .addLimit(BucketProvider.bandwidthFor(limit.get()))
+                            .build()));
+  }
+}
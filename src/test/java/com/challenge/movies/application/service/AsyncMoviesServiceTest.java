@@ -2,10 +2,12 @@ package com.challenge.movies.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -18,9 +20,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.challenge.movies.domain.exception.UpstreamRateLimitException;
 import com.challenge.movies.domain.model.MoviesResponse;
 import com.challenge.movies.domain.port.CachePort;
 import com.challenge.movies.domain.port.MoviesPort;
+import com.challenge.movies.domain.port.UpstreamRateLimitPort;
 import com.challenge.movies.utils.DummyData;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +37,8 @@ class AsyncMoviesServiceTest {
 
   @Mock private CachePort cachePort;
 
+  @Mock private UpstreamRateLimitPort upstreamRateLimitPort;
+
   @InjectMocks private AsyncMoviesService asyncMoviesService;
 
   @BeforeEach
@@ -57,6 +63,7 @@ class AsyncMoviesServiceTest {
     verify(cachePort, times(1)).get(CACHE_KEY_PREFIX + PAGE_2, MoviesResponse.class);
     verify(moviesPort, times(0)).getMoviesByPage(PAGE_2);
     verify(cachePort, times(0)).put(eq(CACHE_KEY_PREFIX + PAGE_2), eq(cachedResponse));
+    verify(upstreamRateLimitPort, times(0)).acquire();
   }
 
   @Test
@@ -77,6 +84,27 @@ class AsyncMoviesServiceTest {
     verify(cachePort, times(1)).get(CACHE_KEY_PREFIX + PAGE_2, MoviesResponse.class);
     verify(moviesPort, times(1)).getMoviesByPage(PAGE_2);
     verify(cachePort, times(1)).put(CACHE_KEY_PREFIX + PAGE_2, apiResponse);
+    verify(upstreamRateLimitPort, times(1)).acquire();
+  }
+
+  @Test
+  void returnFailedFutureWithoutCallingApiWhenUpstreamBudgetExhausted() {
+    // Given
+    when(cachePort.get(CACHE_KEY_PREFIX + PAGE_2, MoviesResponse.class))
+        .thenReturn(Optional.empty());
+    doThrow(new UpstreamRateLimitException("Upstream fetch budget exhausted", 1))
+        .when(upstreamRateLimitPort)
+        .acquire();
+
+    // When
+    CompletableFuture<MoviesResponse> result = asyncMoviesService.getMoviesByPageAsync(PAGE_2);
+
+    // Then
+    assertThat(result)
+        .failsWithin(Duration.ZERO)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(UpstreamRateLimitException.class);
+    verify(moviesPort, times(0)).getMoviesByPage(PAGE_2);
   }
 
   @Test
@@ -0,0 +1,300 @@
+package com.challenge.movies.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.challenge.movies.domain.exception.UpstreamRateLimitException;
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.model.ColumnarCatalog;
+import com.challenge.movies.domain.model.Movie;
+import com.challenge.movies.domain.model.MoviesResponse;
+import com.challenge.movies.domain.model.PartialCatalog;
+import com.challenge.movies.domain.port.CachePort;
+import com.challenge.movies.domain.port.MoviesPort;
+import com.challenge.movies.domain.port.UpstreamRateLimitPort;
+import com.challenge.movies.utils.DummyData;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogServiceTest {
+
+  private static final int PAGE_1 = 1;
+  private static final int PAGE_2 = 2;
+  private static final int PAGE_3 = 3;
+  private static final String CACHE_KEY_PREFIX = "movies:page:";
+  private static final long SNAPSHOT_TTL_SECONDS = 60L;
+  private static final long LATENCY_BUDGET_MS = 100L;
+
+  @Mock private MoviesPort moviesPort;
+
+  @Mock private AsyncMoviesService asyncMoviesService;
+
+  @Mock private CachePort cachePort;
+
+  @Mock private UpstreamRateLimitPort upstreamRateLimitPort;
+
+  @InjectMocks private CatalogService catalogService;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(catalogService, "cacheKeyPrefix", CACHE_KEY_PREFIX);
+    ReflectionTestUtils.setField(catalogService, "snapshotTtlSeconds", SNAPSHOT_TTL_SECONDS);
+    ReflectionTestUtils.setField(catalogService, "partialLatencyBudgetMs", LATENCY_BUDGET_MS);
+  }
+
+  @Test
+  void reuseSnapshotWhileFresh() {
+    // Given
+    givenAllPagesAvailable();
+
+    // When
+    CatalogSnapshot first = catalogService.getSnapshot();
+    CatalogSnapshot second = catalogService.getSnapshot();
+
+    // Then
+    assertThat(second).isSameAs(first);
+    assertThat(first.movies()).hasSize(27);
+    assertThat(first.totalPages()).isEqualTo(3);
+    verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_1);
+    verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_2);
+  }
+
+  @Test
+  void keepEveryMovieFieldInColumnarSnapshot() {
+    // Given
+    givenAllPagesAvailable();
+    List<Movie> expected = new ArrayList<>();
+    for (String page :
+        List.of(DummyData.MOVIES_PAGE_1, DummyData.MOVIES_PAGE_2, DummyData.MOVIES_PAGE_3)) {
+      expected.addAll(DummyData.deserialize(page, MoviesResponse.class).data());
+    }
+
+    // When
+    CatalogSnapshot snapshot = catalogService.getSnapshot();
+
+    // Then
+    assertThat(snapshot.movies()).containsExactlyElementsOf(expected);
+    ColumnarCatalog catalog = snapshot.catalog();
+    assertThat(catalog.directors().size()).isEqualTo(7);
+    assertThat(catalog.directors().value(catalog.directorCode(0)))
+        .isEqualTo(expected.get(0).director());
+    assertThat(catalog.runtimeMinutes(0))
+        .isEqualTo(Integer.parseInt(expected.get(0).runtime().split(" ")[0]));
+  }
+
+  @Test
+  void serveRestoredSnapshotWithoutFetching() {
+    // Given
+    CatalogSnapshot persisted =
+        CatalogSnapshot.of(
+            3, DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class).data());
+
+    // When
+    boolean restored = catalogService.restore(persisted);
+    CatalogSnapshot served = catalogService.getSnapshot();
+
+    // Then
+    assertThat(restored).isTrue();
+    assertThat(served.version()).isEqualTo(persisted.version());
+    assertThat(served.catalog()).isSameAs(persisted.catalog());
+    assertThat(catalogService.restore(persisted)).isFalse();
+    verifyNoInteractions(asyncMoviesService, moviesPort);
+  }
+
+  @Test
+  void fetchFreshCatalogEvenWhileRestoredSnapshotIsFresh() {
+    // Given
+    givenAllPagesAvailable();
+    CatalogSnapshot persisted =
+        CatalogSnapshot.of(
+            1, DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class).data());
+    catalogService.restore(persisted);
+
+    // When
+    CatalogSnapshot fetched = catalogService.fetchFresh();
+
+    // Then
+    assertThat(fetched.movies()).hasSize(27);
+    assertThat(fetched.version()).isNotEqualTo(persisted.version());
+    assertThat(catalogService.getSnapshot()).isSameAs(fetched);
+    verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_1);
+  }
+
+  @Test
+  void refetchSnapshotWhenExpired() {
+    // Given
+    givenAllPagesAvailable();
+    ReflectionTestUtils.setField(catalogService, "snapshotTtlSeconds", 0L);
+
+    // When
+    CatalogSnapshot first = catalogService.getSnapshot();
+    CatalogSnapshot second = catalogService.getSnapshot();
+
+    // Then
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.version()).isEqualTo(first.version());
+    verify(asyncMoviesService, times(2)).getMoviesByPageAsync(PAGE_1);
+  }
+
+  @Test
+  void returnWarmSnapshotOnlyAfterSuccessfulFetch() {
+    // Given
+    givenAllPagesAvailable();
+
+    // When / Then
+    assertThat(catalogService.getWarmSnapshot()).isEmpty();
+    CatalogSnapshot snapshot = catalogService.getSnapshot();
+    assertThat(catalogService.getWarmSnapshot()).contains(snapshot);
+
+    catalogService.invalidate();
+    assertThat(catalogService.getWarmSnapshot()).isEmpty();
+  }
+
+  @Test
+  void storeSnapshotWhenPartialFetchIsComplete() {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    when(cachePort.get(CACHE_KEY_PREFIX + PAGE_1, MoviesResponse.class))
+        .thenReturn(Optional.empty());
+    when(moviesPort.getMoviesByPage(PAGE_1)).thenReturn(page1);
+    givenRemainingPagesAvailable();
+
+    // When
+    PartialCatalog partialCatalog = catalogService.fetchWithinBudget();
+
+    // Then
+    assertThat(partialCatalog.complete()).isTrue();
+    assertThat(catalogService.getWarmSnapshot()).containsSame(partialCatalog.snapshot());
+  }
+
+  @Test
+  void carryWarmSnapshotInBudgetedFetch() {
+    // Given
+    givenAllPagesAvailable();
+    CatalogSnapshot warm = catalogService.getSnapshot();
+
+    // When
+    PartialCatalog partialCatalog = catalogService.fetchWithinBudget();
+
+    // Then
+    assertThat(partialCatalog.snapshot()).isSameAs(warm);
+    assertThat(partialCatalog.complete()).isTrue();
+    verifyNoInteractions(moviesPort);
+  }
+
+  @Test
+  void surfaceUpstreamRateLimitWhenRemainingPageIsThrottled() {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_1))
+        .thenReturn(CompletableFuture.completedFuture(page1));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_2))
+        .thenReturn(CompletableFuture.completedFuture(page2));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_3))
+        .thenReturn(
+            CompletableFuture.failedFuture(
+                new UpstreamRateLimitException("Upstream fetch budget exhausted", 7)));
+
+    // When / Then
+    assertThatThrownBy(() -> catalogService.getSnapshot())
+        .isInstanceOf(UpstreamRateLimitException.class)
+        .extracting("retryAfterSeconds")
+        .isEqualTo(7L);
+    assertThat(catalogService.getWarmSnapshot()).isEmpty();
+  }
+
+  @Test
+  void shareOneRefreshBetweenConcurrentAsyncCallers() {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    CompletableFuture<MoviesResponse> pendingPage1 = new CompletableFuture<>();
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_1)).thenReturn(pendingPage1);
+    givenRemainingPagesAvailable();
+
+    // When
+    CompletableFuture<CatalogSnapshot> first = catalogService.getSnapshotAsync();
+    CompletableFuture<CatalogSnapshot> second = catalogService.getSnapshotAsync();
+
+    // Then
+    assertThat(first).isNotDone();
+    assertThat(second).isSameAs(first);
+
+    pendingPage1.complete(page1);
+    assertThat(first.join().movies()).hasSize(27);
+    assertThat(catalogService.getSnapshotAsync().join()).isSameAs(first.join());
+    verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_1);
+  }
+
+  @Test
+  void startNewRefreshAfterFailedOne() {
+    // Given
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_1))
+        .thenReturn(CompletableFuture.failedFuture(new RuntimeException("External API error")))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class)));
+    givenRemainingPagesAvailable();
+
+    // When / Then
+    assertThatThrownBy(() -> catalogService.getSnapshot())
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("External API error");
+    assertThat(catalogService.getSnapshotAsync().join().movies()).hasSize(27);
+  }
+
+  @Test
+  void failRefreshAndRetryWhenExecutorRejectsFirstPage() {
+    // Given
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_1))
+        .thenThrow(new TaskRejectedException("Executor saturated"))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class)));
+    givenRemainingPagesAvailable();
+
+    // When
+    CompletableFuture<CatalogSnapshot> rejected = catalogService.getSnapshotAsync();
+
+    // Then
+    assertThat(rejected).isCompletedExceptionally();
+    assertThatThrownBy(rejected::join).hasCauseInstanceOf(TaskRejectedException.class);
+    CompletableFuture<CatalogSnapshot> retried = catalogService.getSnapshotAsync();
+    assertThat(retried).isNotSameAs(rejected);
+    assertThat(retried.join().movies()).hasSize(27);
+  }
+
+  private void givenAllPagesAvailable() {
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_1))
+        .thenReturn(CompletableFuture.completedFuture(page1));
+    givenRemainingPagesAvailable();
+  }
+
+  private void givenRemainingPagesAvailable() {
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_2))
+        .thenReturn(CompletableFuture.completedFuture(page2));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_3))
+        .thenReturn(CompletableFuture.completedFuture(page3));
+  }
+}
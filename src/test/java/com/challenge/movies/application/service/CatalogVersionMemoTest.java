@@ -0,0 +1,106 @@
+package com.challenge.movies.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.model.ColumnarCatalog;
+
+class CatalogVersionMemoTest {
+
+  @Test
+  void buildOnceForConcurrentCallersOfSameVersion() throws Exception {
+    // Given
+    AtomicInteger builds = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    CatalogVersionMemo<String> memo =
+        new CatalogVersionMemo<>(
+            snapshot -> {
+              builds.incrementAndGet();
+              await(release);
+              return "index " + snapshot.version();
+            });
+    CatalogSnapshot snapshot = snapshot(1L);
+    ExecutorService callers = Executors.newFixedThreadPool(8);
+
+    // When
+    try {
+      List<CompletableFuture<String>> results =
+          IntStream.range(0, 8)
+              .mapToObj(i -> CompletableFuture.supplyAsync(() -> memo.get(snapshot), callers))
+              .toList();
+      Thread.sleep(100);
+      release.countDown();
+
+      // Then
+      assertThat(results).allSatisfy(result -> assertThat(result.get()).isEqualTo("index 1"));
+      assertThat(builds).hasValue(1);
+    } finally {
+      callers.shutdownNow();
+    }
+  }
+
+  @Test
+  void rebuildWhenCatalogVersionChanges() {
+    // Given
+    AtomicInteger builds = new AtomicInteger();
+    CatalogVersionMemo<Long> memo =
+        new CatalogVersionMemo<>(
+            snapshot -> {
+              builds.incrementAndGet();
+              return snapshot.version();
+            });
+
+    // When
+    long first = memo.get(snapshot(1L));
+    long repeated = memo.get(snapshot(1L));
+    long changed = memo.get(snapshot(2L));
+
+    // Then
+    assertThat(List.of(first, repeated, changed)).containsExactly(1L, 1L, 2L);
+    assertThat(builds).hasValue(2);
+  }
+
+  @Test
+  void retryAfterFailedBuild() {
+    // Given
+    AtomicInteger builds = new AtomicInteger();
+    CatalogVersionMemo<String> memo =
+        new CatalogVersionMemo<>(
+            snapshot -> {
+              if (builds.incrementAndGet() == 1) {
+                throw new IllegalStateException("Out of memory budget");
+              }
+              return "index";
+            });
+    CatalogSnapshot snapshot = snapshot(1L);
+
+    // When / Then
+    assertThatThrownBy(() -> memo.get(snapshot)).isInstanceOf(IllegalStateException.class);
+    assertThat(memo.get(snapshot)).isEqualTo("index");
+  }
+
+  private static CatalogSnapshot snapshot(long version) {
+    return new CatalogSnapshot(version, Instant.now(), 1, ColumnarCatalog.of(List.of()));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -10,21 +10,29 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.challenge.movies.domain.exception.MoviesFetchException;
+import com.challenge.movies.domain.model.DirectorSort;
+import com.challenge.movies.domain.model.DirectorStats;
+import com.challenge.movies.domain.model.DirectorStatsPage;
 import com.challenge.movies.domain.model.MoviesResponse;
+import com.challenge.movies.domain.model.PartialDirectorsResult;
 import com.challenge.movies.domain.port.CachePort;
 import com.challenge.movies.domain.port.MoviesPort;
+import com.challenge.movies.domain.port.UpstreamRateLimitPort;
 import com.challenge.movies.utils.DummyData;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +44,9 @@ class DirectorServiceTest {
   private static final int PAGE_2 = 2;
   private static final int PAGE_3 = 3;
   private static final String CACHE_KEY_PREFIX = "movies:page:";
+  private static final long LATENCY_BUDGET_MS = 100L;
+  private static final long SNAPSHOT_TTL_SECONDS = 60L;
+  private static final int PARALLEL_THRESHOLD_ROWS = 250_000;
 
   @Mock private MoviesPort moviesPort;
 
@@ -43,11 +54,19 @@ class DirectorServiceTest {
 
   @Mock private CachePort cachePort;
 
-  @InjectMocks private DirectorService directorService;
+  @Mock private UpstreamRateLimitPort upstreamRateLimitPort;
+
+  private DirectorService directorService;
 
   @BeforeEach
   void setUp() {
-    ReflectionTestUtils.setField(directorService, "cacheKeyPrefix", CACHE_KEY_PREFIX);
+    CatalogService catalogService =
+        new CatalogService(moviesPort, asyncMoviesService, cachePort, upstreamRateLimitPort);
+    ReflectionTestUtils.setField(catalogService, "cacheKeyPrefix", CACHE_KEY_PREFIX);
+    ReflectionTestUtils.setField(catalogService, "snapshotTtlSeconds", SNAPSHOT_TTL_SECONDS);
+    ReflectionTestUtils.setField(catalogService, "partialLatencyBudgetMs", LATENCY_BUDGET_MS);
+    directorService = new DirectorService(catalogService, ForkJoinPool.commonPool());
+    ReflectionTestUtils.setField(directorService, "parallelThresholdRows", PARALLEL_THRESHOLD_ROWS);
   }
 
   @Test
@@ -57,22 +76,19 @@ class DirectorServiceTest {
     MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
     MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
 
-    when(cachePort.get(CACHE_KEY_PREFIX + PAGE_1, MoviesResponse.class))
-        .thenReturn(Optional.empty());
-    when(moviesPort.getMoviesByPage(PAGE_1)).thenReturn(page1);
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_1))
+        .thenReturn(CompletableFuture.completedFuture(page1));
     when(asyncMoviesService.getMoviesByPageAsync(PAGE_2))
         .thenReturn(CompletableFuture.completedFuture(page2));
     when(asyncMoviesService.getMoviesByPageAsync(PAGE_3))
         .thenReturn(CompletableFuture.completedFuture(page3));
 
     // When
-    List<String> result = directorService.getDirectorsByThreshold(THRESHOLD_4);
+    List<String> result = directorService.getDirectorsByThreshold(THRESHOLD_4).join();
 
     // Then
     assertThat(result).containsExactly("Martin Scorsese", "Woody Allen");
-    verify(cachePort, times(1)).get(CACHE_KEY_PREFIX + PAGE_1, MoviesResponse.class);
-    verify(moviesPort, times(1)).getMoviesByPage(PAGE_1);
-    verify(cachePort, times(1)).put(CACHE_KEY_PREFIX + PAGE_1, page1);
+    verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_1);
     verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_2);
     verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_3);
   }
@@ -84,16 +100,15 @@ class DirectorServiceTest {
     MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
     MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
 
-    when(cachePort.get(CACHE_KEY_PREFIX + PAGE_1, MoviesResponse.class))
-        .thenReturn(Optional.empty());
-    when(moviesPort.getMoviesByPage(PAGE_1)).thenReturn(page1);
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_1))
+        .thenReturn(CompletableFuture.completedFuture(page1));
     when(asyncMoviesService.getMoviesByPageAsync(PAGE_2))
         .thenReturn(CompletableFuture.completedFuture(page2));
     when(asyncMoviesService.getMoviesByPageAsync(PAGE_3))
         .thenReturn(CompletableFuture.completedFuture(page3));
 
     // When
-    List<String> result = directorService.getDirectorsByThreshold(THRESHOLD_0);
+    List<String> result = directorService.getDirectorsByThreshold(THRESHOLD_0).join();
 
     // Then
     assertThat(result)
@@ -105,8 +120,7 @@ class DirectorServiceTest {
             "Pedro Almodóvar",
             "Quentin Tarantino",
             "Woody Allen");
-    verify(cachePort, times(1)).get(CACHE_KEY_PREFIX + PAGE_1, MoviesResponse.class);
-    verify(moviesPort, times(1)).getMoviesByPage(PAGE_1);
+    verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_1);
     verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_2);
     verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_3);
   }
@@ -119,21 +133,21 @@ class DirectorServiceTest {
     MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
     MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
 
-    when(cachePort.get(CACHE_KEY_PREFIX + PAGE_1, MoviesResponse.class))
-        .thenReturn(Optional.of(cachedPage1));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_1))
+        .thenReturn(CompletableFuture.completedFuture(cachedPage1));
     when(asyncMoviesService.getMoviesByPageAsync(PAGE_2))
         .thenReturn(CompletableFuture.completedFuture(page2));
     when(asyncMoviesService.getMoviesByPageAsync(PAGE_3))
         .thenReturn(CompletableFuture.completedFuture(page3));
 
     // When
-    List<String> result = directorService.getDirectorsByThreshold(THRESHOLD_4);
+    List<String> result = directorService.getDirectorsByThreshold(THRESHOLD_4).join();
 
     // Then
     assertThat(result).containsExactly("Martin Scorsese", "Woody Allen");
-    verify(cachePort, times(1)).get(CACHE_KEY_PREFIX + PAGE_1, MoviesResponse.class);
     verify(moviesPort, times(0)).getMoviesByPage(anyInt());
     verify(cachePort, times(0)).put(anyString(), any());
+    verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_1);
     verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_2);
     verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_3);
   }
@@ -145,21 +159,19 @@ class DirectorServiceTest {
     MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
     MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
 
-    when(cachePort.get(CACHE_KEY_PREFIX + PAGE_1, MoviesResponse.class))
-        .thenReturn(Optional.empty());
-    when(moviesPort.getMoviesByPage(PAGE_1)).thenReturn(page1);
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_1))
+        .thenReturn(CompletableFuture.completedFuture(page1));
     when(asyncMoviesService.getMoviesByPageAsync(PAGE_2))
         .thenReturn(CompletableFuture.completedFuture(page2));
     when(asyncMoviesService.getMoviesByPageAsync(PAGE_3))
         .thenReturn(CompletableFuture.completedFuture(page3));
 
     // When
-    List<String> result = directorService.getDirectorsByThreshold(10);
+    List<String> result = directorService.getDirectorsByThreshold(10).join();
 
     // Then
     assertThat(result).isEmpty();
-    verify(cachePort, times(1)).get(CACHE_KEY_PREFIX + PAGE_1, MoviesResponse.class);
-    verify(moviesPort, times(1)).getMoviesByPage(PAGE_1);
+    verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_1);
     verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_2);
     verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_3);
   }
@@ -170,23 +182,217 @@ class DirectorServiceTest {
     MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
     MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
 
-    when(cachePort.get(CACHE_KEY_PREFIX + PAGE_1, MoviesResponse.class))
-        .thenReturn(Optional.empty());
-    when(moviesPort.getMoviesByPage(PAGE_1)).thenReturn(page1);
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_1))
+        .thenReturn(CompletableFuture.completedFuture(page1));
     when(asyncMoviesService.getMoviesByPageAsync(PAGE_2))
         .thenReturn(CompletableFuture.failedFuture(new RuntimeException("API error")));
     when(asyncMoviesService.getMoviesByPageAsync(PAGE_3))
         .thenReturn(CompletableFuture.completedFuture(page3));
 
     // When / Then
-    assertThatThrownBy(() -> directorService.getDirectorsByThreshold(THRESHOLD_4))
+    assertThatThrownBy(() -> directorService.getDirectorsByThreshold(THRESHOLD_4).join())
+        .isInstanceOf(CompletionException.class)
+        .cause()
         .isInstanceOf(MoviesFetchException.class)
         .hasMessage("Failed to fetch all movies")
         .hasCauseInstanceOf(RuntimeException.class);
 
-    verify(cachePort, times(1)).get(CACHE_KEY_PREFIX + PAGE_1, MoviesResponse.class);
-    verify(moviesPort, times(1)).getMoviesByPage(PAGE_1);
+    verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_1);
     verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_2);
     verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_3);
   }
+
+  @Test
+  void returnAllPagesCoverageWhenPartialFetchCompletesWithinBudget() {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(cachePort.get(CACHE_KEY_PREFIX + PAGE_1, MoviesResponse.class))
+        .thenReturn(Optional.of(page1));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_2))
+        .thenReturn(CompletableFuture.completedFuture(page2));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_3))
+        .thenReturn(CompletableFuture.completedFuture(page3));
+
+    // When
+    PartialDirectorsResult result =
+        directorService.getDirectorsByThresholdWithinBudget(THRESHOLD_4);
+
+    // Then
+    assertThat(result.directors()).containsExactly("Martin Scorsese", "Woody Allen");
+    assertThat(result.pagesFetched()).isEqualTo(3);
+    assertThat(result.totalPages()).isEqualTo(3);
+    assertThat(result.moviesCounted()).isEqualTo(27);
+    assertThat(result.complete()).isTrue();
+  }
+
+  @Test
+  void answerBudgetedRequestFromWarmSnapshot() {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_1))
+        .thenReturn(CompletableFuture.completedFuture(page1));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_2))
+        .thenReturn(CompletableFuture.completedFuture(page2));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_3))
+        .thenReturn(CompletableFuture.completedFuture(page3));
+    List<String> warm = directorService.getDirectorsByThreshold(THRESHOLD_4).join();
+
+    // When
+    PartialDirectorsResult result =
+        directorService.getDirectorsByThresholdWithinBudget(THRESHOLD_4);
+
+    // Then
+    assertThat(result.directors()).isEqualTo(warm);
+    assertThat(result.moviesCounted()).isEqualTo(27);
+    assertThat(result.complete()).isTrue();
+    verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_1);
+  }
+
+  @Test
+  void skipFailedAndSlowPagesWhenPartialFetchExceedsBudget() {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+
+    when(cachePort.get(CACHE_KEY_PREFIX + PAGE_1, MoviesResponse.class))
+        .thenReturn(Optional.of(page1));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_2))
+        .thenReturn(CompletableFuture.failedFuture(new RuntimeException("API error")));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_3)).thenReturn(new CompletableFuture<>());
+
+    // When
+    PartialDirectorsResult result =
+        directorService.getDirectorsByThresholdWithinBudget(THRESHOLD_0);
+
+    // Then
+    assertThat(result.pagesFetched()).isEqualTo(1);
+    assertThat(result.totalPages()).isEqualTo(3);
+    assertThat(result.moviesCounted()).isEqualTo(page1.data().size());
+    assertThat(result.complete()).isFalse();
+    assertThat(result.directors()).isNotEmpty().isSorted();
+  }
+
+  @Test
+  void returnDirectorsForEachThresholdFromOneCatalogPass() {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_1))
+        .thenReturn(CompletableFuture.completedFuture(page1));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_2))
+        .thenReturn(CompletableFuture.completedFuture(page2));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_3))
+        .thenReturn(CompletableFuture.completedFuture(page3));
+
+    // When
+    Map<Integer, List<String>> result =
+        directorService.getDirectorsByThresholds(new TreeSet<>(List.of(10, THRESHOLD_4, 0))).join();
+
+    // Then
+    assertThat(result).containsOnlyKeys(0, THRESHOLD_4, 10);
+    assertThat(result.keySet()).containsExactly(0, THRESHOLD_4, 10);
+    assertThat(result.get(0)).isEqualTo(directorService.getDirectorsByThreshold(0).join());
+    assertThat(result.get(THRESHOLD_4)).containsExactly("Martin Scorsese", "Woody Allen");
+    assertThat(result.get(10)).isEmpty();
+    verify(asyncMoviesService, times(1)).getMoviesByPageAsync(PAGE_1);
+  }
+
+  @Test
+  void returnDirectorStatsSortedByCountWithNameAsTieBreaker() {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_1))
+        .thenReturn(CompletableFuture.completedFuture(page1));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_2))
+        .thenReturn(CompletableFuture.completedFuture(page2));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_3))
+        .thenReturn(CompletableFuture.completedFuture(page3));
+
+    // When
+    DirectorStatsPage firstPage =
+        directorService.getDirectorStats(DirectorSort.MOVIE_COUNT, true, 0, 4).join();
+    DirectorStatsPage lastPage =
+        directorService.getDirectorStats(DirectorSort.MOVIE_COUNT, true, 1, 4).join();
+
+    // Then
+    assertThat(firstPage.directors())
+        .containsExactly(
+            new DirectorStats("Woody Allen", 8, 2010, 2016),
+            new DirectorStats("Martin Scorsese", 5, 2010, 2019),
+            new DirectorStats("M. Night Shyamalan", 4, 2010, 2016),
+            new DirectorStats("Pedro Almodóvar", 4, 2011, 2019));
+    assertThat(lastPage.directors())
+        .extracting(DirectorStats::name)
+        .containsExactly("Clint Eastwood", "Quentin Tarantino", "Juan José Campanella");
+    assertThat(firstPage.totalElements()).isEqualTo(7);
+    assertThat(firstPage.totalPages()).isEqualTo(2);
+  }
+
+  @Test
+  void returnTopDirectorsByMovieCount() {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_1))
+        .thenReturn(CompletableFuture.completedFuture(page1));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_2))
+        .thenReturn(CompletableFuture.completedFuture(page2));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_3))
+        .thenReturn(CompletableFuture.completedFuture(page3));
+
+    // When
+    List<DirectorStats> top3 = directorService.getTopDirectors(3).join();
+    List<DirectorStats> all = directorService.getTopDirectors(100).join();
+    List<DirectorStats> byCount =
+        directorService.getDirectorStats(DirectorSort.MOVIE_COUNT, true, 0, 100).join().directors();
+
+    // Then
+    assertThat(top3)
+        .extracting(DirectorStats::name)
+        .containsExactly("Woody Allen", "Martin Scorsese", "M. Night Shyamalan");
+    assertThat(all).isEqualTo(byCount);
+    for (int k = 1; k <= byCount.size(); k++) {
+      assertThat(directorService.getTopDirectors(k).join()).isEqualTo(byCount.subList(0, k));
+    }
+    assertThat(directorService.getTopDirectors(0).join()).isEmpty();
+  }
+
+  @Test
+  void returnSameDirectorsAndStatsWhenAggregatedOnForkJoinPool() {
+    // Given
+    ReflectionTestUtils.setField(directorService, "parallelThresholdRows", 0);
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_1))
+        .thenReturn(CompletableFuture.completedFuture(page1));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_2))
+        .thenReturn(CompletableFuture.completedFuture(page2));
+    when(asyncMoviesService.getMoviesByPageAsync(PAGE_3))
+        .thenReturn(CompletableFuture.completedFuture(page3));
+
+    // When
+    List<String> directors = directorService.getDirectorsByThreshold(THRESHOLD_4).join();
+    DirectorStatsPage byCount =
+        directorService.getDirectorStats(DirectorSort.MOVIE_COUNT, true, 0, 4).join();
+
+    // Then
+    assertThat(directors).containsExactly("Martin Scorsese", "Woody Allen");
+    assertThat(byCount.directors())
+        .extracting(DirectorStats::name)
+        .containsExactly("Woody Allen", "Martin Scorsese", "M. Night Shyamalan", "Pedro Almodóvar");
+  }
 }
@@ -0,0 +1,83 @@
+package com.challenge.movies.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.model.MoviesResponse;
+import com.challenge.movies.domain.port.SnapshotStorePort;
+import com.challenge.movies.utils.DummyData;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotPersistenceServiceTest {
+
+  @Mock private CatalogService catalogService;
+
+  @Mock private SnapshotStorePort snapshotStorePort;
+
+  @Captor private ArgumentCaptor<Consumer<CatalogSnapshot>> listener;
+
+  private final Queue<Runnable> writeTasks = new ArrayDeque<>();
+
+  @BeforeEach
+  void setUp() {
+    when(snapshotStorePort.load()).thenReturn(Optional.empty());
+    new SnapshotPersistenceService(catalogService, snapshotStorePort, writeTasks::add, 1440);
+    verify(catalogService).addSnapshotListener(listener.capture());
+  }
+
+  @Test
+  void writeOnlyLatestSnapshotPublishedWhileWriteIsQueued() {
+    // Given
+    List<CatalogSnapshot> published =
+        List.of(snapshotOf(DummyData.MOVIES_PAGE_1), snapshotOf(DummyData.MOVIES_PAGE_2));
+
+    // When
+    published.forEach(listener.getValue());
+
+    // Then
+    verify(snapshotStorePort, never()).save(published.get(0));
+    assertThat(writeTasks).hasSize(1);
+    writeTasks.poll().run();
+    verify(snapshotStorePort).save(published.get(1));
+    verify(snapshotStorePort, never()).save(published.get(0));
+  }
+
+  @Test
+  void scheduleNewWriteForSnapshotPublishedAfterPreviousWriteStarted() {
+    // Given
+    CatalogSnapshot first = snapshotOf(DummyData.MOVIES_PAGE_1);
+    CatalogSnapshot second = snapshotOf(DummyData.MOVIES_PAGE_2);
+    listener.getValue().accept(first);
+    writeTasks.poll().run();
+
+    // When
+    listener.getValue().accept(second);
+
+    // Then
+    assertThat(writeTasks).hasSize(1);
+    writeTasks.poll().run();
+    verify(snapshotStorePort).save(first);
+    verify(snapshotStorePort).save(second);
+  }
+
+  private static CatalogSnapshot snapshotOf(String page) {
+    return CatalogSnapshot.of(1, DummyData.deserialize(page, MoviesResponse.class).data());
+  }
+}
@@ -0,0 +1,132 @@
+package com.challenge.movies.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CatalogQueryEngineTest {
+
+  private static final ColumnarCatalog CATALOG =
+      ColumnarCatalog.of(
+          List.of(
+              movie("A", 2010, "R", "Drama, Crime", "Ann", "Joe, Kim"),
+              movie("B", 2012, "PG", "Comedy", "Ann", "Kim"),
+              movie("C", 2012, "R", "Crime,Drama", "Bob", "Joe"),
+              movie("D", null, null, null, "Bob", null),
+              movie("E", 2015, "R", "Drama", null, "Lee, Joe")));
+
+  @Test
+  void countEachElementOfMultiValuedField() {
+    // When
+    QueryResult result = run(CatalogField.GENRE, 0, List.of(), QuerySort.VALUE);
+
+    // Then
+    assertThat(result.groups())
+        .containsExactly(
+            new GroupCount("Comedy", 1), new GroupCount("Crime", 2), new GroupCount("Drama", 3));
+    assertThat(result.matchedMovies()).isEqualTo(5);
+  }
+
+  @Test
+  void applyEveryFilterBeforeGrouping() {
+    // When
+    QueryResult result =
+        run(
+            CatalogField.WRITER,
+            0,
+            List.of(
+                new QueryFilter(CatalogField.GENRE, QueryFilter.Operator.EQ, "Drama"),
+                new QueryFilter(CatalogField.RATED, QueryFilter.Operator.EQ, "R"),
+                new QueryFilter(CatalogField.YEAR, QueryFilter.Operator.LT, "2015")),
+            QuerySort.COUNT);
+
+    // Then
+    assertThat(result.groups()).containsExactly(new GroupCount("Joe", 2), new GroupCount("Kim", 1));
+    assertThat(result.matchedMovies()).isEqualTo(2);
+  }
+
+  @Test
+  void keepGroupsAboveThresholdAndCountThoseCutByLimit() {
+    // When
+    QueryResult result =
+        CatalogQueryEngine.run(
+            CATALOG, new CatalogQuery(CatalogField.YEAR, 0, List.of(), QuerySort.COUNT, 1));
+    QueryResult aboveOne = run(CatalogField.DIRECTOR, 1, List.of(), QuerySort.VALUE);
+
+    // Then
+    assertThat(result.groups()).containsExactly(new GroupCount("2012", 2));
+    assertThat(result.totalGroups()).isEqualTo(3);
+    assertThat(aboveOne.groups())
+        .containsExactly(new GroupCount("Ann", 2), new GroupCount("Bob", 2));
+  }
+
+  @Test
+  void groupExtremeYearsWithoutSpanningEveryYearBetweenThem() {
+    // Given: the span from the first to the last year overflows an int
+    ColumnarCatalog catalog =
+        ColumnarCatalog.of(
+            List.of(
+                movie("A", Integer.MIN_VALUE + 1, null, null, null, null),
+                movie("B", 1995, null, null, null, null),
+                movie("C", 1995, null, null, null, null),
+                movie("D", Integer.MAX_VALUE, null, null, null, null)));
+
+    // When
+    QueryResult result =
+        CatalogQueryEngine.run(
+            catalog,
+            new CatalogQuery(CatalogField.YEAR, 0, List.of(), QuerySort.VALUE, Integer.MAX_VALUE));
+
+    // Then
+    assertThat(result.groups())
+        .containsExactly(
+            new GroupCount(String.valueOf(Integer.MIN_VALUE + 1), 1),
+            new GroupCount("1995", 2),
+            new GroupCount(String.valueOf(Integer.MAX_VALUE), 1));
+  }
+
+  @Test
+  void matchNothingWhenFilterValueIsUnknown() {
+    // When
+    QueryResult result =
+        run(
+            CatalogField.DIRECTOR,
+            0,
+            List.of(new QueryFilter(CatalogField.ACTORS, QueryFilter.Operator.EQ, "Nobody")),
+            QuerySort.VALUE);
+
+    // Then
+    assertThat(result.groups()).isEmpty();
+    assertThat(result.matchedMovies()).isZero();
+  }
+
+  @Test
+  void rejectRangeFilterOnStringField() {
+    // Given
+    CatalogQuery query =
+        new CatalogQuery(
+            CatalogField.DIRECTOR,
+            0,
+            List.of(new QueryFilter(CatalogField.GENRE, QueryFilter.Operator.GT, "Drama")),
+            QuerySort.VALUE,
+            10);
+
+    // When / Then
+    assertThatThrownBy(() -> CatalogQueryEngine.run(CATALOG, query))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static QueryResult run(
+      CatalogField groupBy, int threshold, List<QueryFilter> filters, QuerySort sort) {
+    return CatalogQueryEngine.run(
+        CATALOG, new CatalogQuery(groupBy, threshold, filters, sort, Integer.MAX_VALUE));
+  }
+
+  private static Movie movie(
+      String title, Integer year, String rated, String genre, String director, String actors) {
+    return new Movie(title, year, rated, null, null, genre, director, actors, actors);
+  }
+}
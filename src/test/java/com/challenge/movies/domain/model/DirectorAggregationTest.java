@@ -0,0 +1,69 @@
+package com.challenge.movies.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+class DirectorAggregationTest {
+
+  @Test
+  void mergeDenseChunksIntoSameTotalsAsSequentialPass() {
+    assertParallelMatchesSequential(5003, Long.MAX_VALUE);
+  }
+
+  @Test
+  void mergeSparseChunksIntoSameTotalsAsSequentialPass() {
+    // No memory for dense leaves and more directors than rows per leaf: open-addressing tables
+    assertParallelMatchesSequential(150_001, 0L);
+  }
+
+  @Test
+  void keepCountsAcrossTallyResizes() {
+    // Given
+    DirectorTally tally = DirectorTally.sparse(1);
+    int[] counts = new int[10_000];
+    int[] firstYears = new int[10_000];
+    int[] lastYears = new int[10_000];
+
+    // When
+    for (int director = 0; director < counts.length; director++) {
+      for (int movie = 0; movie <= director % 3; movie++) {
+        tally.add(director, 2000 + movie);
+      }
+    }
+    tally.drainInto(counts, firstYears, lastYears);
+
+    // Then
+    assertThat(tally.size()).isEqualTo(10_000);
+    assertThat(counts[0]).isEqualTo(1);
+    assertThat(counts[9_998]).isEqualTo(3);
+    assertThat(lastYears[9_998]).isEqualTo(2002);
+  }
+
+  private static void assertParallelMatchesSequential(int directors, long denseLeavesMaxBytes) {
+    // Given
+    List<Movie> movies = new ArrayList<>();
+    for (int i = 0; i < DirectorAggregation.CHUNK_ROWS * 3 + 17; i++) {
+      String director = i % 11 == 0 ? null : "Director " + (i * 7919L % directors);
+      Integer year = i % 13 == 0 ? null : 1950 + i % 70;
+      movies.add(new Movie("Movie " + i, year, null, null, null, null, director, null, null));
+    }
+    ColumnarCatalog catalog = ColumnarCatalog.of(movies);
+    ForkJoinPool pool = new ForkJoinPool(4);
+
+    // When
+    DirectorAggregation sequential = DirectorAggregation.sequential(catalog);
+    DirectorAggregation parallel = DirectorAggregation.parallel(catalog, pool, denseLeavesMaxBytes);
+    pool.shutdown();
+
+    // Then
+    assertThat(parallel.size()).isEqualTo(sequential.size()).isGreaterThan(directors / 2);
+    assertThat(parallel.counts()).isEqualTo(sequential.counts());
+    assertThat(parallel.firstYears()).isEqualTo(sequential.firstYears());
+    assertThat(parallel.lastYears()).isEqualTo(sequential.lastYears());
+  }
+}
@@ -0,0 +1,99 @@
+package com.challenge.movies.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class FacetIndexTest {
+
+  // 130 rows, so the bitmaps span three words with a partial last word
+  private static final FacetIndex INDEX = FacetIndex.of(snapshot());
+
+  @Test
+  void countEveryFacetWhenNothingIsFiltered() {
+    // When
+    FacetCounts facets = INDEX.facets(new FacetFilter(List.of(), null, null, null), 2);
+
+    // Then
+    assertThat(facets.matchedMovies()).isEqualTo(130);
+    assertThat(facets.genres())
+        .containsExactly(new GroupCount("Drama", 130), new GroupCount("Comedy", 65));
+    assertThat(facets.directors())
+        .containsExactly(new GroupCount("Director 0", 44), new GroupCount("Director 1", 43));
+    assertThat(facets.decades())
+        .containsExactly(
+            new GroupCount("1990s", 50), new GroupCount("2000s", 50), new GroupCount("2010s", 29));
+  }
+
+  @Test
+  void intersectGenreRatingAndYearRange() {
+    // When
+    FacetCounts facets =
+        INDEX.facets(new FacetFilter(List.of("Comedy", "Drama"), "R", 2000, 2009), 10);
+
+    // Then: even rows are comedies, multiples of 4 are rated R, rows 50-99 are the 2000s
+    assertThat(facets.matchedMovies()).isEqualTo(12);
+    assertThat(facets.genres())
+        .containsExactly(new GroupCount("Comedy", 12), new GroupCount("Drama", 12));
+    assertThat(facets.decades()).containsExactly(new GroupCount("2000s", 12));
+    assertThat(facets.directors()).extracting(GroupCount::count).containsExactly(4, 4, 4);
+  }
+
+  @Test
+  void matchNothingWhenGenreIsUnknown() {
+    // When
+    FacetCounts facets = INDEX.facets(new FacetFilter(List.of("Western"), null, null, null), 10);
+
+    // Then
+    assertThat(facets.matchedMovies()).isZero();
+    assertThat(facets.genres()).isEmpty();
+    assertThat(facets.directors()).isEmpty();
+    assertThat(facets.decades()).isEmpty();
+  }
+
+  @Test
+  void keepOutlierYearsWithoutSpanningEveryYearBetweenThem() {
+    // Given
+    List<Movie> movies = new ArrayList<>();
+    for (int year : new int[] {0, 1995, 1995, 9999}) {
+      movies.add(new Movie("Movie " + year, year, null, null, null, "Drama", null, null, null));
+    }
+    FacetIndex index =
+        FacetIndex.of(new CatalogSnapshot(2L, Instant.now(), 1, ColumnarCatalog.of(movies)));
+
+    // When
+    FacetCounts all = index.facets(new FacetFilter(List.of(), null, null, null), 10);
+    FacetCounts range = index.facets(new FacetFilter(List.of(), null, 1000, 9999), 10);
+    FacetCounts gap = index.facets(new FacetFilter(List.of(), null, 2000, 9000), 10);
+
+    // Then
+    assertThat(all.decades())
+        .containsExactly(
+            new GroupCount("0s", 1), new GroupCount("1990s", 2), new GroupCount("9990s", 1));
+    assertThat(range.matchedMovies()).isEqualTo(3);
+    assertThat(gap.matchedMovies()).isZero();
+  }
+
+  private static CatalogSnapshot snapshot() {
+    List<Movie> movies = new ArrayList<>();
+    for (int row = 0; row < 130; row++) {
+      Integer year = row == 129 ? null : 1990 + row / 5;
+      movies.add(
+          new Movie(
+              "Movie " + row,
+              year,
+              row % 4 == 0 ? "R" : "PG",
+              null,
+              null,
+              row % 2 == 0 ? "Comedy, Drama" : "Drama",
+              "Director " + row % 3,
+              null,
+              null));
+    }
+    return new CatalogSnapshot(1L, Instant.now(), 1, ColumnarCatalog.of(movies));
+  }
+}
@@ -0,0 +1,69 @@
+package com.challenge.movies.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class PersonIndexTest {
+
+  private static final CatalogSnapshot SNAPSHOT =
+      new CatalogSnapshot(
+          7L,
+          Instant.now(),
+          1,
+          ColumnarCatalog.of(
+              List.of(
+                  movie("A", "Ann, Bob", "Wes"),
+                  movie("B", "Bob", "Wes, Zoe"),
+                  movie("C", "Cid,Ann , Bob", null),
+                  movie("D", null, "Zoe"))));
+
+  @Test
+  void listPeopleAboveThresholdAlphabetically() {
+    // When
+    PersonIndex actors = PersonIndex.of(SNAPSHOT, CatalogField.ACTORS);
+
+    // Then
+    assertThat(actors.peopleAbove(0)).containsExactly("Ann", "Bob", "Cid");
+    assertThat(actors.peopleAbove(1)).containsExactly("Ann", "Bob");
+    assertThat(actors.peopleAbove(2)).containsExactly("Bob");
+    assertThat(actors.peopleAbove(3)).isEmpty();
+    assertThat(actors.movieCount("Bob")).isEqualTo(3);
+    assertThat(actors.movieCount("Nobody")).isZero();
+    assertThat(actors.catalogVersion()).isEqualTo(7L);
+  }
+
+  @Test
+  void intersectPostingListsForSeveralPeople() {
+    // When
+    PersonIndex actors = PersonIndex.of(SNAPSHOT, CatalogField.ACTORS);
+    PersonIndex writers = PersonIndex.of(SNAPSHOT, CatalogField.WRITER);
+
+    // Then
+    assertThat(actors.moviesWithAll(List.of("Bob")))
+        .extracting(Movie::title)
+        .containsExactly("A", "B", "C");
+    assertThat(actors.moviesWithAll(List.of("Ann", "Bob")))
+        .extracting(Movie::title)
+        .containsExactly("A", "C");
+    assertThat(actors.moviesWithAll(List.of("Ann", "Nobody"))).isEmpty();
+    assertThat(writers.moviesWithAll(List.of("Zoe")))
+        .extracting(Movie::title)
+        .containsExactly("B", "D");
+  }
+
+  @Test
+  void rejectFieldThatDoesNotHoldPeople() {
+    // When / Then
+    assertThatThrownBy(() -> PersonIndex.of(SNAPSHOT, CatalogField.GENRE))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static Movie movie(String title, String actors, String writer) {
+    return new Movie(title, 2020, null, null, null, null, null, writer, actors);
+  }
+}
@@ -0,0 +1,63 @@
+package com.challenge.movies.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class PrefixIndexTest {
+
+  private static final PrefixIndex INDEX =
+      PrefixIndex.of(
+          new String[] {
+            "Pedro Almodóvar", "Woody Allen", "Agustín Almodóvar", "Alan Alda", "M. Night Shyamalan"
+          },
+          new int[] {4, 8, 1, 2, 4});
+
+  @Test
+  void matchAnyWordStartIgnoringCaseAndAccents() {
+    // When / Then
+    assertThat(INDEX.complete("ALMODO", 10))
+        .containsExactly(
+            new Suggestion("Pedro Almodóvar", 4), new Suggestion("Agustín Almodóvar", 1));
+    assertThat(INDEX.complete("agusti", 10))
+        .containsExactly(new Suggestion("Agustín Almodóvar", 1));
+    assertThat(INDEX.complete("shya", 10))
+        .extracting(Suggestion::value)
+        .containsExactly("M. Night Shyamalan");
+    assertThat(INDEX.complete("lmo", 10)).isEmpty();
+  }
+
+  @Test
+  void rankByWeightAndListEachValueOnce() {
+    // When: "Alan Alda" matches "al" twice
+    var suggestions = INDEX.complete("al", 10);
+
+    // Then
+    assertThat(suggestions)
+        .extracting(Suggestion::value)
+        .containsExactly("Woody Allen", "Pedro Almodóvar", "Alan Alda", "Agustín Almodóvar");
+    assertThat(INDEX.complete("al", 2))
+        .extracting(Suggestion::value)
+        .containsExactly("Woody Allen", "Pedro Almodóvar");
+  }
+
+  @Test
+  void returnTopWeightsOfLargeRange() {
+    // Given
+    String[] names =
+        IntStream.range(0, 10_000).mapToObj(i -> "Director " + i).toArray(String[]::new);
+    int[] weights = IntStream.range(0, 10_000).map(i -> i % 997).toArray();
+
+    // When
+    PrefixIndex index = PrefixIndex.of(names, weights);
+
+    // Then
+    assertThat(index.entries()).isEqualTo(20_000);
+    assertThat(index.complete("d", 3)).extracting(Suggestion::score).containsExactly(996, 996, 996);
+    assertThat(index.complete("director 99", 1))
+        .containsExactly(new Suggestion("Director 996", 996));
+    assertThat(index.complete("   ", 3)).isEmpty();
+  }
+}
@@ -0,0 +1,72 @@
+package com.challenge.movies.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class TrigramIndexTest {
+
+  private static final TrigramIndex INDEX =
+      TrigramIndex.of(
+          SearchTarget.DIRECTOR,
+          StringDictionary.of(
+              new String[] {
+                "Agustín Almodóvar",
+                "Martin Scorsese",
+                "Pedro Almodóvar",
+                "Quentin Tarantino",
+                "Woody Allen"
+              }));
+
+  @Test
+  void findMisspelledNamesByClosestWords() {
+    // When / Then
+    assertThat(INDEX.search("almodobar", 2, 10))
+        .containsExactly(
+            new SearchHit(SearchTarget.DIRECTOR, "Agustín Almodóvar", 1),
+            new SearchHit(SearchTarget.DIRECTOR, "Pedro Almodóvar", 1));
+    assertThat(INDEX.search("Tarantno", 2, 10))
+        .containsExactly(new SearchHit(SearchTarget.DIRECTOR, "Quentin Tarantino", 1));
+    assertThat(INDEX.search("pedro almodovar", 2, 10))
+        .first()
+        .isEqualTo(new SearchHit(SearchTarget.DIRECTOR, "Pedro Almodóvar", 0));
+  }
+
+  @Test
+  void dropHitsFartherThanMaxDistance() {
+    // When / Then
+    assertThat(INDEX.search("tarantno", 0, 10)).isEmpty();
+    assertThat(INDEX.search("scorsese", 0, 10))
+        .containsExactly(new SearchHit(SearchTarget.DIRECTOR, "Martin Scorsese", 0));
+    assertThat(INDEX.search("xyzzy", 3, 10)).isEmpty();
+  }
+
+  @Test
+  void stopCountingOnceDistanceExceedsBound() {
+    // When / Then
+    assertThat(EditDistance.bounded("kitten", "sitting", 5)).isEqualTo(3);
+    assertThat(EditDistance.bounded("kitten", "sitting", 2)).isEqualTo(3);
+    assertThat(EditDistance.bounded("abc", "abcdefgh", 2)).isEqualTo(3);
+    assertThat(EditDistance.closestWords("alen", "woody allen", 2)).isEqualTo(1);
+  }
+
+  @Test
+  void keepOnePostingPerValueAndTrigram() {
+    // Given: every value shares " na", "nam", "ame" and "me " with every other
+    String[] names =
+        IntStream.range(0, 1_000)
+            .mapToObj(i -> String.format("name %04d", i))
+            .toArray(String[]::new);
+
+    // When
+    TrigramIndex index = TrigramIndex.of(SearchTarget.TITLE, StringDictionary.of(names));
+
+    // Then
+    assertThat(index.search("name 0042", 1, 3))
+        .extracting(SearchHit::value)
+        .containsExactly("name 0042", "name 0040", "name 0041");
+    assertThat(index.sizeInBytes()).isLessThan(1_000 * 9 * Integer.BYTES + 64 * 1024);
+  }
+}
@@ -0,0 +1,75 @@
+package com.challenge.movies.infrastructure.adapter.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.challenge.movies.domain.exception.UpstreamRateLimitException;
+import com.challenge.movies.infrastructure.config.RateLimitProperties;
+import com.challenge.movies.infrastructure.config.UpstreamRateLimitProperties;
+import com.challenge.movies.infrastructure.interceptor.LocalBucketProvider;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UpstreamRateLimitAdapterTest {
+
+  private static final int CAPACITY = 3;
+
+  private SimpleMeterRegistry meterRegistry;
+  private UpstreamRateLimitAdapter upstreamRateLimitAdapter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    LocalBucketProvider bucketProvider =
+        new LocalBucketProvider(new RateLimitProperties(10, 1, 100, 10, Map.of(), Map.of()));
+    upstreamRateLimitAdapter =
+        new UpstreamRateLimitAdapter(
+            bucketProvider, new UpstreamRateLimitProperties(CAPACITY, 1, 0), meterRegistry);
+  }
+
+  @Test
+  void grantFetchesUpToCapacity() {
+    // When
+    for (int i = 0; i < CAPACITY; i++) {
+      upstreamRateLimitAdapter.acquire();
+    }
+
+    // Then
+    assertThat(meterRegistry.get("movies.upstream.rate-limit.capacity").gauge().value())
+        .isEqualTo(CAPACITY);
+    assertThat(meterRegistry.get("movies.upstream.rate-limit.remaining").gauge().value()).isZero();
+    assertThat(
+            meterRegistry
+                .get("movies.upstream.fetches")
+                .tag("outcome", "granted")
+                .counter()
+                .count())
+        .isEqualTo(CAPACITY);
+  }
+
+  @Test
+  void throwWithRetryAfterWhenBudgetExhausted() {
+    // Given
+    for (int i = 0; i < CAPACITY; i++) {
+      upstreamRateLimitAdapter.acquire();
+    }
+
+    // When / Then
+    assertThatThrownBy(() -> upstreamRateLimitAdapter.acquire())
+        .isInstanceOf(UpstreamRateLimitException.class)
+        .extracting("retryAfterSeconds")
+        .isEqualTo(60L);
+    assertThat(
+            meterRegistry
+                .get("movies.upstream.fetches")
+                .tag("outcome", "throttled")
+                .counter()
+                .count())
+        .isEqualTo(1);
+  }
+}
@@ -0,0 +1,96 @@
+package com.challenge.movies.infrastructure.adapter.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.model.DirectorIndex;
+import com.challenge.movies.domain.model.Movie;
+import com.challenge.movies.domain.model.MoviesResponse;
+import com.challenge.movies.utils.DummyData;
+
+class FileSnapshotStoreAdapterTest {
+
+  private static final int TOTAL_PAGES = 3;
+
+  @TempDir private Path directory;
+
+  private Path file;
+  private FileSnapshotStoreAdapter store;
+  private List<Movie> movies;
+
+  @BeforeEach
+  void setUp() {
+    file = directory.resolve("nested/catalog.snapshot");
+    store = new FileSnapshotStoreAdapter(true, file.toString());
+    movies = new ArrayList<>();
+    for (String page :
+        List.of(DummyData.MOVIES_PAGE_1, DummyData.MOVIES_PAGE_2, DummyData.MOVIES_PAGE_3)) {
+      movies.addAll(DummyData.deserialize(page, MoviesResponse.class).data());
+    }
+    movies.add(new Movie(null, null, null, null, null, null, null, null, null));
+  }
+
+  @Test
+  void restoreSavedSnapshotFromMappedFile() {
+    // Given
+    CatalogSnapshot saved = CatalogSnapshot.of(TOTAL_PAGES, movies);
+    store.save(saved);
+
+    // When
+    Optional<CatalogSnapshot> loaded = store.load();
+
+    // Then
+    assertThat(loaded).isPresent();
+    CatalogSnapshot restored = loaded.get();
+    assertThat(restored.version()).isEqualTo(saved.version());
+    assertThat(restored.createdAt().toEpochMilli()).isEqualTo(saved.createdAt().toEpochMilli());
+    assertThat(restored.totalPages()).isEqualTo(TOTAL_PAGES);
+    assertThat(restored.movies()).containsExactlyElementsOf(movies);
+    assertThat(restored.catalog().directors().code("Pedro Almodóvar")).isNotNegative();
+    assertThat(DirectorIndex.of(restored).directorsAbove(4))
+        .containsExactly("Martin Scorsese", "Woody Allen");
+    assertThat(file.resolveSibling("catalog.snapshot.tmp")).doesNotExist();
+  }
+
+  @Test
+  void ignoreCorruptedOrTruncatedFile() throws IOException {
+    // Given
+    store.save(CatalogSnapshot.of(TOTAL_PAGES, movies));
+    byte[] bytes = Files.readAllBytes(file);
+    bytes[bytes.length / 2] ^= 1;
+    Files.write(file, bytes);
+
+    // When
+    Optional<CatalogSnapshot> corrupted = store.load();
+    Files.write(file, new byte[] {1, 2, 3});
+    Optional<CatalogSnapshot> truncated = store.load();
+
+    // Then
+    assertThat(corrupted).isEmpty();
+    assertThat(truncated).isEmpty();
+  }
+
+  @Test
+  void neitherReadNorWriteWhenDisabled() {
+    // Given
+    FileSnapshotStoreAdapter disabled = new FileSnapshotStoreAdapter(false, file.toString());
+
+    // When
+    disabled.save(CatalogSnapshot.of(TOTAL_PAGES, movies));
+
+    // Then
+    assertThat(file).doesNotExist();
+    assertThat(disabled.load()).isEmpty();
+  }
+}
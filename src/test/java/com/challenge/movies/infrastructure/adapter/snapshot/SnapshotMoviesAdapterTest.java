@@ -0,0 +1,59 @@
+package com.challenge.movies.infrastructure.adapter.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.model.Movie;
+import com.challenge.movies.domain.model.MoviesResponse;
+import com.challenge.movies.utils.DummyData;
+
+class SnapshotMoviesAdapterTest {
+
+  private static final int PAGE_SIZE = 10;
+
+  @TempDir private Path directory;
+
+  private List<Movie> movies;
+  private SnapshotMoviesAdapter adapter;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    movies = new ArrayList<>();
+    for (String page :
+        List.of(DummyData.MOVIES_PAGE_1, DummyData.MOVIES_PAGE_2, DummyData.MOVIES_PAGE_3)) {
+      movies.addAll(DummyData.deserialize(page, MoviesResponse.class).data());
+    }
+    Path file = directory.resolve("catalog.snapshot");
+    SnapshotFiles.write(CatalogSnapshot.of(3, movies), file);
+    adapter = new SnapshotMoviesAdapter(file.toString(), PAGE_SIZE);
+  }
+
+  @Test
+  void servePagesCutFromSnapshotInCatalogOrder() {
+    // When
+    MoviesResponse first = adapter.getMoviesByPage(1);
+    MoviesResponse last = adapter.getMoviesByPage(3);
+
+    // Then
+    assertThat(first.totalPages()).isEqualTo(3);
+    assertThat(first.total()).isEqualTo(27);
+    assertThat(first.perPage()).isEqualTo(PAGE_SIZE);
+    assertThat(first.data()).containsExactlyElementsOf(movies.subList(0, 10));
+    assertThat(last.data()).containsExactlyElementsOf(movies.subList(20, 27));
+  }
+
+  @Test
+  void returnEmptyPageOutsideSnapshot() {
+    assertThat(adapter.getMoviesByPage(4).data()).isEmpty();
+    assertThat(adapter.getMoviesByPage(0).data()).isEmpty();
+  }
+}
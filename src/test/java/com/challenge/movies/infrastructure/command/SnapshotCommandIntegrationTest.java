@@ -0,0 +1,29 @@
+package com.challenge.movies.infrastructure.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.annotation.ScheduledAnnotationBeanPostProcessor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.challenge.movies.application.service.SnapshotPersistenceService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles({"test", SnapshotCommandRunner.PROFILE})
+class SnapshotCommandIntegrationTest {
+
+  @Autowired private ApplicationContext context;
+
+  @Test
+  void bootWithoutWebServerSchedulingOrWarmStartFile() {
+    // Then
+    assertThat(context).isNotInstanceOf(WebApplicationContext.class);
+    assertThat(context.getBeansOfType(SnapshotPersistenceService.class)).isEmpty();
+    assertThat(context.getBeansOfType(ScheduledAnnotationBeanPostProcessor.class)).isEmpty();
+    assertThat(context.getBean(SnapshotCommandRunner.class)).isNotNull();
+  }
+}
@@ -0,0 +1,136 @@
+package com.challenge.movies.infrastructure.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.challenge.movies.application.service.AsyncMoviesService;
+import com.challenge.movies.application.service.CatalogService;
+import com.challenge.movies.application.service.SnapshotPersistenceService;
+import com.challenge.movies.domain.exception.SnapshotFormatException;
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.model.MoviesResponse;
+import com.challenge.movies.domain.port.CachePort;
+import com.challenge.movies.domain.port.MoviesPort;
+import com.challenge.movies.domain.port.UpstreamRateLimitPort;
+import com.challenge.movies.infrastructure.adapter.snapshot.FileSnapshotStoreAdapter;
+import com.challenge.movies.infrastructure.adapter.snapshot.SnapshotFiles;
+import com.challenge.movies.utils.DummyData;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotCommandRunnerTest {
+
+  @TempDir private Path directory;
+
+  @Mock private CatalogService catalogService;
+
+  @Mock private ConfigurableApplicationContext context;
+
+  @InjectMocks private SnapshotCommandRunner runner;
+
+  @Test
+  void exportLiveCatalogAndImportItAsLocalSource() throws IOException {
+    // Given
+    CatalogSnapshot live =
+        CatalogSnapshot.of(
+            1, DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class).data());
+    when(catalogService.fetchFresh()).thenReturn(live);
+    Path exported = directory.resolve("export/catalog.snapshot");
+    Path source = directory.resolve("data/catalog.snapshot");
+
+    // When
+    runner.exportSnapshot(exported);
+    CatalogSnapshot imported = runner.importSnapshot(exported, source);
+
+    // Then
+    assertThat(imported.version()).isEqualTo(live.version());
+    assertThat(SnapshotFiles.map(source).movies()).containsExactlyElementsOf(live.movies());
+  }
+
+  @Test
+  void exportFromUpstreamWhenWarmStartFileWasRestored() throws IOException {
+    // Given
+    Path warmFile = directory.resolve("data/catalog.snapshot");
+    CatalogSnapshot warm =
+        CatalogSnapshot.of(
+            1, DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class).data());
+    SnapshotFiles.write(warm, warmFile);
+    CatalogService liveCatalog = catalogServiceWithUpstreamPages();
+    new SnapshotPersistenceService(
+        liveCatalog, new FileSnapshotStoreAdapter(true, warmFile.toString()), Runnable::run, 1440);
+    assertThat(liveCatalog.getWarmSnapshot())
+        .map(CatalogSnapshot::version)
+        .contains(warm.version());
+    Path exported = directory.resolve("export/catalog.snapshot");
+
+    // When
+    new SnapshotCommandRunner(liveCatalog, context).exportSnapshot(exported);
+
+    // Then
+    CatalogSnapshot written = SnapshotFiles.map(exported);
+    assertThat(written.version()).isNotEqualTo(warm.version());
+    assertThat(written.movies()).hasSize(27);
+    assertThat(written.totalPages()).isEqualTo(3);
+  }
+
+  @Test
+  void recognizeSnapshotCommandArguments() {
+    // When / Then
+    assertThat(SnapshotCommandRunner.isCommand("--movies.snapshot.export=catalog.snapshot"))
+        .isTrue();
+    assertThat(
+            SnapshotCommandRunner.isCommand(
+                "--spring.profiles.active=local", "--movies.snapshot.import=catalog.snapshot"))
+        .isTrue();
+    assertThat(SnapshotCommandRunner.isCommand("--spring.profiles.active=local")).isFalse();
+    assertThat(SnapshotCommandRunner.isCommand()).isFalse();
+  }
+
+  @Test
+  void refuseToImportFileThatIsNotSnapshot() throws IOException {
+    // Given
+    Path bogus = Files.writeString(directory.resolve("movies.json"), DummyData.MOVIES_PAGE_1);
+    Path source = directory.resolve("data/catalog.snapshot");
+
+    // When / Then
+    assertThatThrownBy(() -> runner.importSnapshot(bogus, source))
+        .isInstanceOf(SnapshotFormatException.class);
+    assertThat(source).doesNotExist();
+  }
+
+  private CatalogService catalogServiceWithUpstreamPages() {
+    AsyncMoviesService asyncMoviesService = mock(AsyncMoviesService.class);
+    for (int page = 1; page <= 3; page++) {
+      String json =
+          List.of(DummyData.MOVIES_PAGE_1, DummyData.MOVIES_PAGE_2, DummyData.MOVIES_PAGE_3)
+              .get(page - 1);
+      when(asyncMoviesService.getMoviesByPageAsync(page))
+          .thenReturn(
+              CompletableFuture.completedFuture(DummyData.deserialize(json, MoviesResponse.class)));
+    }
+    CatalogService service =
+        new CatalogService(
+            mock(MoviesPort.class),
+            asyncMoviesService,
+            mock(CachePort.class),
+            mock(UpstreamRateLimitPort.class));
+    ReflectionTestUtils.setField(service, "snapshotTtlSeconds", 60L);
+    return service;
+  }
+}
@@ -0,0 +1,48 @@
+package com.challenge.movies.infrastructure.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+
+class AutocompleteControllerIntegrationTest extends DummyCatalogIntegrationTest {
+
+  @Test
+  void completeDirectorsRankedByMovieCount() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(get("/api/autocomplete/directors").param("q", "m"))
+        .andExpect(status().isOk())
+        .andExpect(
+            jsonPath("$.suggestions[*].value", contains("Martin Scorsese", "M. Night Shyamalan")))
+        .andExpect(jsonPath("$.suggestions[0].score", is(5)));
+    mockMvc
+        .perform(get("/api/autocomplete/directors").param("q", "ALMODOVAR"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.suggestions[*].value", contains("Pedro Almodóvar")));
+  }
+
+  @Test
+  void completeTitlesOnAnyWord() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(get("/api/autocomplete/titles").param("q", "pari"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.suggestions[*].value", contains("Midnight in Paris")))
+        .andExpect(jsonPath("$.suggestions[0].score", is(2011)));
+  }
+
+  @Test
+  void returnBadRequestWhenQueryIsBlank() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(get("/api/autocomplete/directors").param("q", " "))
+        .andExpect(status().isBadRequest());
+    mockMvc
+        .perform(get("/api/autocomplete/titles").param("q", "a").param("limit", "0"))
+        .andExpect(status().isBadRequest());
+  }
+}
@@ -0,0 +1,106 @@
+package com.challenge.movies.infrastructure.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+
+class CatalogQueryControllerIntegrationTest extends DummyCatalogIntegrationTest {
+
+  private static final String API_GROUPS_PATH = "/api/catalog/groups";
+  private static final String API_FACETS_PATH = "/api/catalog/facets";
+
+  @Test
+  void returnWritersAboveThresholdSortedByCount() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(
+            get(API_GROUPS_PATH)
+                .param("by", "writer")
+                .param("threshold", "2")
+                .param("sort", "count"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.groupBy", is("writer")))
+        .andExpect(
+            jsonPath(
+                "$.groups[*].value",
+                contains("Woody Allen", "M. Night Shyamalan", "Pedro Almodóvar")))
+        .andExpect(jsonPath("$.groups[0].count", is(8)))
+        .andExpect(jsonPath("$.totalGroups", is(3)))
+        .andExpect(jsonPath("$.matchedMovies", is(27)));
+  }
+
+  @Test
+  void returnDirectorsOfFilteredMovies() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(
+            get(API_GROUPS_PATH)
+                .param("by", "director")
+                .param("threshold", "1")
+                .param("filter", "genre:Drama", "year>=2015"))
+        .andExpect(status().isOk())
+        .andExpect(
+            jsonPath(
+                "$.groups[*].value", contains("Martin Scorsese", "Pedro Almodóvar", "Woody Allen")))
+        .andExpect(jsonPath("$.matchedMovies", is(8)));
+  }
+
+  @Test
+  void returnBadRequestWhenFilterIsMalformed() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(get(API_GROUPS_PATH).param("by", "genre").param("filter", "director>Woody"))
+        .andExpect(status().isBadRequest());
+    mockMvc
+        .perform(get(API_GROUPS_PATH).param("by", "budget"))
+        .andExpect(status().isBadRequest())
+        .andExpect(
+            jsonPath(
+                "$.message",
+                is("Field must be one of director, writer, actors, genre, rated, year")));
+  }
+
+  @Test
+  void returnYearsInAscendingOrder() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(get(API_GROUPS_PATH).param("by", "year").param("limit", "3"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.groups", hasSize(3)))
+        .andExpect(jsonPath("$.groups[*].value", contains("2010", "2011", "2012")))
+        .andExpect(jsonPath("$.totalGroups", is(8)));
+  }
+
+  @Test
+  void returnFacetCountsForFilteredMovies() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(
+            get(API_FACETS_PATH)
+                .param("genre", "Drama")
+                .param("rated", "R")
+                .param("yearFrom", "2013")
+                .param("directors", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.matchedMovies", is(7)))
+        .andExpect(jsonPath("$.genres[0].value", is("Drama")))
+        .andExpect(jsonPath("$.genres[0].count", is(7)))
+        .andExpect(jsonPath("$.genres[1].value", is("Crime")))
+        .andExpect(jsonPath("$.directors[*].value", contains("Martin Scorsese", "Pedro Almodóvar")))
+        .andExpect(jsonPath("$.decades[0].value", is("2010s")))
+        .andExpect(jsonPath("$.decades[0].count", is(7)));
+  }
+
+  @Test
+  void returnBadRequestWhenFacetYearRangeIsReversed() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(get(API_FACETS_PATH).param("yearFrom", "2015").param("yearTo", "2010"))
+        .andExpect(status().isBadRequest());
+  }
+}
@@ -0,0 +1,163 @@
+package com.challenge.movies.infrastructure.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.challenge.movies.application.service.CatalogService;
+import com.challenge.movies.domain.model.Movie;
+import com.challenge.movies.domain.model.MoviesResponse;
+import com.challenge.movies.domain.port.CachePort;
+import com.challenge.movies.infrastructure.client.MoviesClient;
+import com.challenge.movies.infrastructure.client.mapper.MoviesMapper;
+import com.challenge.movies.utils.DummyData;
+
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class DirectorChangesControllerIntegrationTest {
+
+  private static final String API_CHANGES_PATH = "/api/directors/changes";
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockitoBean private MoviesClient moviesClient;
+
+  @Autowired private MoviesMapper moviesMapper;
+
+  @Autowired private CachePort cachePort;
+
+  @Autowired private CatalogService catalogService;
+
+  @AfterEach
+  void tearDown() {
+    cachePort.clear();
+    catalogService.invalidate();
+  }
+
+  @Test
+  void sendDiffWhenNewSnapshotChangesThresholdResult() throws Exception {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(moviesClient.getMovies(1)).thenReturn(moviesMapper.toMoviesResponseDto(page1));
+    when(moviesClient.getMovies(2)).thenReturn(moviesMapper.toMoviesResponseDto(page2));
+    when(moviesClient.getMovies(3)).thenReturn(moviesMapper.toMoviesResponseDto(page3));
+    catalogService.getSnapshot();
+
+    MockHttpServletResponse stream =
+        mockMvc
+            .perform(
+                get(API_CHANGES_PATH).param("threshold", "4").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn()
+            .getResponse();
+    assertThat(stream.getContentAsString()).contains("event:subscribed");
+
+    // When: five more Clint Eastwood movies lift him from 3 to 8
+    List<Movie> grownPage3 = new ArrayList<>(page3.data());
+    IntStream.range(0, 5)
+        .mapToObj(
+            i ->
+                new Movie(
+                    "Sequel " + i,
+                    2020,
+                    "R",
+                    "01 Jan 2020",
+                    "120 min",
+                    "Drama",
+                    "Clint Eastwood",
+                    "Writer",
+                    "Actor"))
+        .forEach(grownPage3::add);
+    when(moviesClient.getMovies(3))
+        .thenReturn(
+            moviesMapper.toMoviesResponseDto(
+                new MoviesResponse(
+                    page3.page(), page3.perPage(), page3.total(), page3.totalPages(), grownPage3)));
+    cachePort.clear();
+    catalogService.invalidate();
+    catalogService.getSnapshot();
+
+    // Then
+    String events = awaitEvent(stream, "event:directors-changed");
+    assertThat(events)
+        .contains("\"threshold\":4")
+        .contains("\"added\":[\"Clint Eastwood\"]")
+        .contains("\"removed\":[]");
+  }
+
+  @Test
+  void sendFullListWhenSubscribedBeforeCatalogIsLoaded() throws Exception {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(moviesClient.getMovies(1)).thenReturn(moviesMapper.toMoviesResponseDto(page1));
+    when(moviesClient.getMovies(2)).thenReturn(moviesMapper.toMoviesResponseDto(page2));
+    when(moviesClient.getMovies(3)).thenReturn(moviesMapper.toMoviesResponseDto(page3));
+
+    // When: nothing has fetched the catalog yet
+    MockHttpServletResponse stream =
+        mockMvc
+            .perform(
+                get(API_CHANGES_PATH).param("threshold", "5").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn()
+            .getResponse();
+
+    // Then
+    String events = awaitEvent(stream, "event:directors-changed");
+    assertThat(events)
+        .contains("\"threshold\":5")
+        .contains("\"added\":[\"Woody Allen\"]")
+        .contains("\"removed\":[]");
+    assertThat(events.indexOf("event:subscribed"))
+        .isNotNegative()
+        .isLessThan(events.indexOf("event:directors-changed"));
+  }
+
+  @Test
+  void returnBadRequestWhenThresholdIsNegative() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(get(API_CHANGES_PATH).param("threshold", "-1"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", is("Threshold must be a non-negative integer")));
+  }
+
+  // Events are published on the streaming executor, so they reach the response asynchronously
+  private static String awaitEvent(MockHttpServletResponse stream, String event) throws Exception {
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (System.currentTimeMillis() < deadline) {
+      String content = stream.getContentAsString();
+      if (content.contains(event)) {
+        return content;
+      }
+      Thread.sleep(20);
+    }
+    return stream.getContentAsString();
+  }
+}
@@ -1,30 +1,54 @@
 package com.challenge.movies.infrastructure.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import com.challenge.movies.application.service.CatalogService;
 import com.challenge.movies.domain.model.MoviesResponse;
 import com.challenge.movies.domain.port.CachePort;
 import com.challenge.movies.infrastructure.client.MoviesClient;
 import com.challenge.movies.infrastructure.client.dto.MoviesResponseDto;
 import com.challenge.movies.infrastructure.client.mapper.MoviesMapper;
+import com.challenge.movies.infrastructure.controller.dto.DirectorsResponseDto;
+import com.challenge.movies.infrastructure.controller.pagination.DirectorCursor;
 import com.challenge.movies.utils.DummyData;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.jayway.jsonpath.JsonPath;
 
 @SpringBootTest
 @AutoConfigureMockMvc(addFilters = false)
@@ -32,6 +56,9 @@ import com.challenge.movies.utils.DummyData;
 class DirectorControllerIntegrationTest {
 
   private static final String API_DIRECTORS_PATH = "/api/directors";
+  private static final MediaType APPLICATION_CBOR = new MediaType("application", "cbor");
+  private static final MediaType APPLICATION_SMILE =
+      new MediaType("application", "x-jackson-smile");
 
   @Autowired private MockMvc mockMvc;
 
@@ -41,9 +68,12 @@ class DirectorControllerIntegrationTest {
 
   @Autowired private CachePort cachePort;
 
+  @Autowired private CatalogService catalogService;
+
   @AfterEach
   void tearDown() {
     cachePort.clear();
+    catalogService.invalidate();
   }
 
   @Test
@@ -62,8 +92,7 @@ class DirectorControllerIntegrationTest {
     when(moviesClient.getMovies(3)).thenReturn(dto3);
 
     // When / Then
-    mockMvc
-        .perform(
+    performAsync(
             get(API_DIRECTORS_PATH).param("threshold", "4").contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.directors", hasSize(2)))
@@ -87,8 +116,7 @@ class DirectorControllerIntegrationTest {
     when(moviesClient.getMovies(3)).thenReturn(dto3);
 
     // When / Then
-    mockMvc
-        .perform(
+    performAsync(
             get(API_DIRECTORS_PATH).param("threshold", "0").contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.directors", hasSize(7)))
@@ -121,8 +149,7 @@ class DirectorControllerIntegrationTest {
     when(moviesClient.getMovies(3)).thenReturn(dto3);
 
     // When / Then
-    mockMvc
-        .perform(
+    performAsync(
             get(API_DIRECTORS_PATH)
                 .param("threshold", "10")
                 .contentType(MediaType.APPLICATION_JSON))
@@ -176,8 +203,7 @@ class DirectorControllerIntegrationTest {
     when(moviesClient.getMovies(anyInt())).thenThrow(new RuntimeException("External API error"));
 
     // When / Then
-    mockMvc
-        .perform(
+    performAsync(
             get(API_DIRECTORS_PATH).param("threshold", "4").contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isInternalServerError())
         .andExpect(jsonPath("$.status", is(500)))
@@ -203,19 +229,401 @@ class DirectorControllerIntegrationTest {
     when(moviesClient.getMovies(3)).thenReturn(dto3);
 
     // First request - cache miss
-    mockMvc
-        .perform(
+    performAsync(
             get(API_DIRECTORS_PATH).param("threshold", "4").contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.directors", hasSize(2)));
 
     // Second request - should use cache for page 1
-    mockMvc
-        .perform(
+    performAsync(
             get(API_DIRECTORS_PATH).param("threshold", "4").contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.directors", hasSize(2)))
         .andExpect(jsonPath("$.directors[0]", is("Martin Scorsese")))
         .andExpect(jsonPath("$.directors[1]", is("Woody Allen")));
   }
+
+  @Test
+  void returnPartialDirectorsWithCoverageWhenPageFails() throws Exception {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    MoviesResponseDto dto1 = moviesMapper.toMoviesResponseDto(page1);
+    MoviesResponseDto dto3 = moviesMapper.toMoviesResponseDto(page3);
+
+    when(moviesClient.getMovies(1)).thenReturn(dto1);
+    when(moviesClient.getMovies(2)).thenThrow(new RuntimeException("External API error"));
+    when(moviesClient.getMovies(3)).thenReturn(dto3);
+
+    // When / Then
+    performAsync(
+            get(API_DIRECTORS_PATH)
+                .param("threshold", "0")
+                .param("partial", "true")
+                .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.coverage.pagesFetched", is(2)))
+        .andExpect(jsonPath("$.coverage.totalPages", is(3)))
+        .andExpect(
+            jsonPath("$.coverage.moviesCounted", is(page1.data().size() + page3.data().size())))
+        .andExpect(jsonPath("$.coverage.complete", is(false)));
+  }
+
+  @Test
+  void returnNotModifiedWhenEtagMatchesCatalogVersion() throws Exception {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(moviesClient.getMovies(1)).thenReturn(moviesMapper.toMoviesResponseDto(page1));
+    when(moviesClient.getMovies(2)).thenReturn(moviesMapper.toMoviesResponseDto(page2));
+    when(moviesClient.getMovies(3)).thenReturn(moviesMapper.toMoviesResponseDto(page3));
+
+    String etag =
+        performAsync(get(API_DIRECTORS_PATH).param("threshold", "4"))
+            .andExpect(status().isOk())
+            .andExpect(header().stringValues(HttpHeaders.CACHE_CONTROL, "no-cache"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    // When / Then
+    performAsync(
+            get(API_DIRECTORS_PATH).param("threshold", "4").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().stringValues(HttpHeaders.ETAG, etag))
+        .andExpect(header().stringValues(HttpHeaders.CACHE_CONTROL, "no-cache"))
+        .andExpect(content().string(""));
+
+    performAsync(
+            get(API_DIRECTORS_PATH).param("threshold", "3").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+
+    verify(moviesClient, times(1)).getMovies(1);
+  }
+
+  @Test
+  void returnNotModifiedForWeakEtagListWhileCatalogIsCold() throws Exception {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(moviesClient.getMovies(1)).thenReturn(moviesMapper.toMoviesResponseDto(page1));
+    when(moviesClient.getMovies(2)).thenReturn(moviesMapper.toMoviesResponseDto(page2));
+    when(moviesClient.getMovies(3)).thenReturn(moviesMapper.toMoviesResponseDto(page3));
+
+    String etag =
+        performAsync(get(API_DIRECTORS_PATH).param("threshold", "4"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+    catalogService.invalidate();
+
+    // When / Then: validated once the refetched snapshot arrives
+    performAsync(
+            get(API_DIRECTORS_PATH)
+                .param("threshold", "4")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().stringValues(HttpHeaders.ETAG, etag))
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void returnGzippedBodyWhenClientAcceptsGzip() throws Exception {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(moviesClient.getMovies(1)).thenReturn(moviesMapper.toMoviesResponseDto(page1));
+    when(moviesClient.getMovies(2)).thenReturn(moviesMapper.toMoviesResponseDto(page2));
+    when(moviesClient.getMovies(3)).thenReturn(moviesMapper.toMoviesResponseDto(page3));
+
+    // When
+    byte[] body =
+        performAsync(
+                get(API_DIRECTORS_PATH)
+                    .param("threshold", "4")
+                    .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"))
+            .andExpect(header().string(HttpHeaders.ETAG, endsWith("-gzip\"")))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    // Then
+    try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+      assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8))
+          .isEqualTo("{\"directors\":[\"Martin Scorsese\",\"Woody Allen\"]}");
+    }
+  }
+
+  @Test
+  void returnCborBodyWhenClientAcceptsCbor() throws Exception {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(moviesClient.getMovies(1)).thenReturn(moviesMapper.toMoviesResponseDto(page1));
+    when(moviesClient.getMovies(2)).thenReturn(moviesMapper.toMoviesResponseDto(page2));
+    when(moviesClient.getMovies(3)).thenReturn(moviesMapper.toMoviesResponseDto(page3));
+
+    // When
+    byte[] body =
+        performAsync(get(API_DIRECTORS_PATH).param("threshold", "4").accept(APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(APPLICATION_CBOR))
+            .andExpect(header().string(HttpHeaders.ETAG, endsWith("-cbor\"")))
+            .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    // Then
+    assertThat(new CBORMapper().readValue(body, DirectorsResponseDto.class).directors())
+        .containsExactly("Martin Scorsese", "Woody Allen");
+  }
+
+  @Test
+  void returnSmileFromQueryEndpointsAndJsonOtherwise() throws Exception {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(moviesClient.getMovies(1)).thenReturn(moviesMapper.toMoviesResponseDto(page1));
+    when(moviesClient.getMovies(2)).thenReturn(moviesMapper.toMoviesResponseDto(page2));
+    when(moviesClient.getMovies(3)).thenReturn(moviesMapper.toMoviesResponseDto(page3));
+
+    // When
+    byte[] body =
+        performAsync(get(API_DIRECTORS_PATH + "/top").param("k", "1").accept(APPLICATION_SMILE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(APPLICATION_SMILE))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    // Then
+    assertThat(new SmileMapper().readTree(body).at("/directors/0/name").asText())
+        .isEqualTo("Woody Allen");
+    performAsync(get(API_DIRECTORS_PATH + "/top").param("k", "1").accept(MediaType.ALL))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+  }
+
+  @Test
+  void returnDirectorsForEachThresholdInBatch() throws Exception {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(moviesClient.getMovies(1)).thenReturn(moviesMapper.toMoviesResponseDto(page1));
+    when(moviesClient.getMovies(2)).thenReturn(moviesMapper.toMoviesResponseDto(page2));
+    when(moviesClient.getMovies(3)).thenReturn(moviesMapper.toMoviesResponseDto(page3));
+
+    // When / Then
+    performAsync(get(API_DIRECTORS_PATH + "/batch").param("thresholds", "10,4"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.results", hasSize(2)))
+        .andExpect(jsonPath("$.results[0].threshold", is(4)))
+        .andExpect(jsonPath("$.results[0].directors", hasSize(2)))
+        .andExpect(jsonPath("$.results[0].directors[0]", is("Martin Scorsese")))
+        .andExpect(jsonPath("$.results[1].threshold", is(10)))
+        .andExpect(jsonPath("$.results[1].directors", hasSize(0)));
+
+    performAsync(get(API_DIRECTORS_PATH + "/batch").param("from", "3").param("to", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.results[*].threshold", contains(3, 4, 5)));
+  }
+
+  @Test
+  void returnBadRequestWhenBatchMixesListAndRange() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(
+            get(API_DIRECTORS_PATH + "/batch")
+                .param("thresholds", "1,2")
+                .param("from", "0")
+                .param("to", "3"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", is("Provide either thresholds or a from/to range")));
+
+    mockMvc
+        .perform(get(API_DIRECTORS_PATH + "/batch").param("from", "0").param("to", "100"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", is("At most 100 thresholds per request")));
+  }
+
+  @Test
+  void returnDirectorStatsPage() throws Exception {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(moviesClient.getMovies(1)).thenReturn(moviesMapper.toMoviesResponseDto(page1));
+    when(moviesClient.getMovies(2)).thenReturn(moviesMapper.toMoviesResponseDto(page2));
+    when(moviesClient.getMovies(3)).thenReturn(moviesMapper.toMoviesResponseDto(page3));
+
+    // When / Then
+    performAsync(
+            get(API_DIRECTORS_PATH + "/stats")
+                .param("sort", "lastYear")
+                .param("order", "desc")
+                .param("size", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.directors", hasSize(2)))
+        .andExpect(jsonPath("$.directors[0].name", is("Martin Scorsese")))
+        .andExpect(jsonPath("$.directors[0].movieCount", is(5)))
+        .andExpect(jsonPath("$.directors[0].firstYear", is(2010)))
+        .andExpect(jsonPath("$.directors[0].lastYear", is(2019)))
+        .andExpect(jsonPath("$.directors[1].name", is("Pedro Almodóvar")))
+        .andExpect(jsonPath("$.totalElements", is(7)))
+        .andExpect(jsonPath("$.totalPages", is(4)));
+  }
+
+  @Test
+  void returnBadRequestWhenStatsSortIsUnknown() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(get(API_DIRECTORS_PATH + "/stats").param("sort", "title"))
+        .andExpect(status().isBadRequest())
+        .andExpect(
+            jsonPath("$.message", is("Sort must be one of name, count, firstYear, lastYear")));
+  }
+
+  @Test
+  void returnTopDirectors() throws Exception {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(moviesClient.getMovies(1)).thenReturn(moviesMapper.toMoviesResponseDto(page1));
+    when(moviesClient.getMovies(2)).thenReturn(moviesMapper.toMoviesResponseDto(page2));
+    when(moviesClient.getMovies(3)).thenReturn(moviesMapper.toMoviesResponseDto(page3));
+
+    // When / Then
+    performAsync(get(API_DIRECTORS_PATH + "/top").param("k", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.directors", hasSize(2)))
+        .andExpect(jsonPath("$.directors[0].name", is("Woody Allen")))
+        .andExpect(jsonPath("$.directors[0].movieCount", is(8)))
+        .andExpect(jsonPath("$.directors[1].name", is("Martin Scorsese")));
+
+    mockMvc
+        .perform(get(API_DIRECTORS_PATH + "/top").param("k", "0"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", is("k must be between 1 and 1000")));
+  }
+
+  @Test
+  void pageThroughDirectorsWithCursor() throws Exception {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(moviesClient.getMovies(1)).thenReturn(moviesMapper.toMoviesResponseDto(page1));
+    when(moviesClient.getMovies(2)).thenReturn(moviesMapper.toMoviesResponseDto(page2));
+    when(moviesClient.getMovies(3)).thenReturn(moviesMapper.toMoviesResponseDto(page3));
+
+    // When
+    String cursor =
+        JsonPath.read(
+            performAsync(get(API_DIRECTORS_PATH).param("threshold", "2").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(
+                    jsonPath(
+                        "$.directors",
+                        contains("Clint Eastwood", "M. Night Shyamalan", "Martin Scorsese")))
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            "$.nextCursor");
+
+    // Then
+    performAsync(
+            get(API_DIRECTORS_PATH)
+                .param("threshold", "2")
+                .param("limit", "3")
+                .param("cursor", cursor))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.directors", contains("Pedro Almodóvar", "Woody Allen")))
+        .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+    mockMvc
+        .perform(get(API_DIRECTORS_PATH).param("threshold", "3").param("cursor", cursor))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", is("Cursor was issued for a different threshold")));
+  }
+
+  @Test
+  void returnGoneWhenCursorBelongsToAnotherCatalogVersion() throws Exception {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(moviesClient.getMovies(1)).thenReturn(moviesMapper.toMoviesResponseDto(page1));
+    when(moviesClient.getMovies(2)).thenReturn(moviesMapper.toMoviesResponseDto(page2));
+    when(moviesClient.getMovies(3)).thenReturn(moviesMapper.toMoviesResponseDto(page3));
+    String staleCursor = new DirectorCursor(12345L, 0, 2).encode();
+
+    // When / Then
+    performAsync(get(API_DIRECTORS_PATH).param("threshold", "0").param("cursor", staleCursor))
+        .andExpect(status().isGone())
+        .andExpect(jsonPath("$.status", is(410)));
+  }
+
+  @Test
+  void streamDirectorsAsNdjsonWhenRequested() throws Exception {
+    // Given
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(moviesClient.getMovies(1)).thenReturn(moviesMapper.toMoviesResponseDto(page1));
+    when(moviesClient.getMovies(2)).thenReturn(moviesMapper.toMoviesResponseDto(page2));
+    when(moviesClient.getMovies(3)).thenReturn(moviesMapper.toMoviesResponseDto(page3));
+
+    // When
+    MvcResult result =
+        mockMvc
+            .perform(
+                get(API_DIRECTORS_PATH)
+                    .param("threshold", "4")
+                    .accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    // Then: the snapshot arrives on one async dispatch and the streamed body on the next
+    MvcResult streaming =
+        mockMvc.perform(asyncDispatch(result)).andExpect(request().asyncStarted()).andReturn();
+    mockMvc
+        .perform(asyncDispatch(streaming))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andExpect(
+            content().string("{\"name\":\"Martin Scorsese\"}\n{\"name\":\"Woody Allen\"}\n"));
+  }
+
+  // The listing completes through a CompletableFuture, so its result arrives on an async dispatch
+  private ResultActions performAsync(MockHttpServletRequestBuilder requestBuilder)
+      throws Exception {
+    MvcResult result =
+        mockMvc.perform(requestBuilder).andExpect(request().asyncStarted()).andReturn();
+    return mockMvc.perform(asyncDispatch(result));
+  }
 }
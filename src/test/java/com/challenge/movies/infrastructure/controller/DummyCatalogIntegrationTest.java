@@ -0,0 +1,53 @@
+package com.challenge.movies.infrastructure.controller;
+
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.challenge.movies.application.service.CatalogService;
+import com.challenge.movies.domain.model.MoviesResponse;
+import com.challenge.movies.domain.port.CachePort;
+import com.challenge.movies.infrastructure.client.MoviesClient;
+import com.challenge.movies.infrastructure.client.mapper.MoviesMapper;
+import com.challenge.movies.utils.DummyData;
+
+// Upstream serves the three DummyData pages, and every test starts from a cold catalog
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+abstract class DummyCatalogIntegrationTest {
+
+  @Autowired protected MockMvc mockMvc;
+
+  @MockitoBean private MoviesClient moviesClient;
+
+  @Autowired private MoviesMapper moviesMapper;
+
+  @Autowired private CachePort cachePort;
+
+  @Autowired private CatalogService catalogService;
+
+  @BeforeEach
+  void stubMoviePages() {
+    MoviesResponse page1 = DummyData.deserialize(DummyData.MOVIES_PAGE_1, MoviesResponse.class);
+    MoviesResponse page2 = DummyData.deserialize(DummyData.MOVIES_PAGE_2, MoviesResponse.class);
+    MoviesResponse page3 = DummyData.deserialize(DummyData.MOVIES_PAGE_3, MoviesResponse.class);
+
+    when(moviesClient.getMovies(1)).thenReturn(moviesMapper.toMoviesResponseDto(page1));
+    when(moviesClient.getMovies(2)).thenReturn(moviesMapper.toMoviesResponseDto(page2));
+    when(moviesClient.getMovies(3)).thenReturn(moviesMapper.toMoviesResponseDto(page3));
+  }
+
+  @AfterEach
+  void resetCatalog() {
+    cachePort.clear();
+    catalogService.invalidate();
+  }
+}
@@ -0,0 +1,64 @@
+package com.challenge.movies.infrastructure.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+
+class PersonControllerIntegrationTest extends DummyCatalogIntegrationTest {
+
+  @Test
+  void returnActorsAboveThreshold() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(get("/api/actors").param("threshold", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.names", contains("Leonardo DiCaprio")));
+    mockMvc
+        .perform(get("/api/actors").param("threshold", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.names", hasSize(8)));
+  }
+
+  @Test
+  void returnWritersAboveThreshold() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(get("/api/writers").param("threshold", "3"))
+        .andExpect(status().isOk())
+        .andExpect(
+            jsonPath("$.names", contains("M. Night Shyamalan", "Pedro Almodóvar", "Woody Allen")));
+  }
+
+  @Test
+  void returnMoviesSharedByEveryActor() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(get("/api/actors/movies").param("name", "Leonardo DiCaprio"))
+        .andExpect(status().isOk())
+        .andExpect(
+            jsonPath(
+                "$.movies[*].title",
+                containsInAnyOrder("J. Edgar", "The Wolf of Wall Street", "Shutter Island")));
+    mockMvc
+        .perform(get("/api/actors/movies").param("name", "Owen Wilson", "Leonardo DiCaprio"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.names", hasSize(2)))
+        .andExpect(jsonPath("$.movies", hasSize(0)));
+  }
+
+  @Test
+  void returnBadRequestWhenThresholdIsNegative() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(get("/api/writers").param("threshold", "-1"))
+        .andExpect(status().isBadRequest());
+    mockMvc
+        .perform(get("/api/actors/movies").param("name", " "))
+        .andExpect(status().isBadRequest());
+  }
+}
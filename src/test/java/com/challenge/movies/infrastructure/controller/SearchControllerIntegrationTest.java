@@ -0,0 +1,54 @@
+package com.challenge.movies.infrastructure.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+
+class SearchControllerIntegrationTest extends DummyCatalogIntegrationTest {
+
+  private static final String API_SEARCH_PATH = "/api/search";
+
+  @Test
+  void findMisspelledDirector() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(get(API_SEARCH_PATH).param("q", "Almodobar"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.hits[0].type", is("director")))
+        .andExpect(jsonPath("$.hits[0].value", is("Pedro Almodóvar")))
+        .andExpect(jsonPath("$.hits[0].distance", is(1)));
+  }
+
+  @Test
+  void searchOnlyRequestedTypes() throws Exception {
+    // When / Then
+    mockMvc
+        .perform(get(API_SEARCH_PATH).param("q", "tarantno").param("type", "director"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.hits[*].value", contains("Quentin Tarantino")));
+    mockMvc
+        .perform(get(API_SEARCH_PATH).param("q", "leonardo dicapro").param("type", "actor"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.hits[*].value", contains("Leonardo DiCaprio")));
+    mockMvc
+        .perform(get(API_SEARCH_PATH).param("q", "midnigth").param("type", "title"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.hits[*].value", contains("Midnight in Paris")));
+  }
+
+  @Test
+  void returnBadRequestWhenQueryOrTypeIsInvalid() throws Exception {
+    // When / Then
+    mockMvc.perform(get(API_SEARCH_PATH).param("q", "a")).andExpect(status().isBadRequest());
+    mockMvc
+        .perform(get(API_SEARCH_PATH).param("q", "allen").param("type", "composer"))
+        .andExpect(status().isBadRequest());
+    mockMvc
+        .perform(get(API_SEARCH_PATH).param("q", "allen").param("maxDistance", "4"))
+        .andExpect(status().isBadRequest());
+  }
+}
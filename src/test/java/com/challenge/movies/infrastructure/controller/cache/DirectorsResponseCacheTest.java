@@ -0,0 +1,114 @@
+package com.challenge.movies.infrastructure.controller.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.challenge.movies.infrastructure.controller.cache.DirectorsResponseCache.EncodedResponse;
+import com.challenge.movies.infrastructure.controller.dto.DirectorsResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+class DirectorsResponseCacheTest {
+
+  private static final long VERSION = 42L;
+  private static final int THRESHOLD = 4;
+  private static final DirectorsResponseDto RESPONSE =
+      new DirectorsResponseDto(List.of("Martin Scorsese", "Woody Allen"), null, null);
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private DirectorsResponseCache directorsResponseCache;
+
+  @BeforeEach
+  void setUp() {
+    directorsResponseCache = new DirectorsResponseCache(objectMapper, 10);
+  }
+
+  @Test
+  void encodeOncePerVersionAndThreshold() {
+    // Given
+    AtomicInteger computations = new AtomicInteger();
+
+    // When
+    EncodedResponse first =
+        directorsResponseCache.get(
+            VERSION,
+            THRESHOLD,
+            () -> {
+              computations.incrementAndGet();
+              return RESPONSE;
+            });
+    EncodedResponse second =
+        directorsResponseCache.get(
+            VERSION,
+            THRESHOLD,
+            () -> {
+              computations.incrementAndGet();
+              return RESPONSE;
+            });
+
+    // Then
+    assertThat(second).isSameAs(first);
+    assertThat(computations).hasValue(1);
+  }
+
+  @Test
+  void encodeAgainWhenCatalogVersionChanges() {
+    // When
+    EncodedResponse first = directorsResponseCache.get(VERSION, THRESHOLD, () -> RESPONSE);
+    EncodedResponse second = directorsResponseCache.get(VERSION + 1, THRESHOLD, () -> RESPONSE);
+
+    // Then
+    assertThat(second).isNotSameAs(first);
+  }
+
+  @Test
+  void storeJsonAndGzipOfTheSameBody() throws IOException {
+    // When
+    EncodedResponse encoded = directorsResponseCache.get(VERSION, THRESHOLD, () -> RESPONSE);
+
+    // Then
+    assertThat(encoded.body()).isEqualTo(objectMapper.writeValueAsBytes(RESPONSE));
+    try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(encoded.gzip()))) {
+      assertThat(gzip.readAllBytes()).isEqualTo(encoded.body());
+    }
+  }
+
+  @Test
+  void encodeEachFormatOnceAndSeparately() throws IOException {
+    // When
+    EncodedResponse json = directorsResponseCache.get(VERSION, THRESHOLD, () -> RESPONSE);
+    EncodedResponse cbor =
+        directorsResponseCache.get(VERSION, THRESHOLD, ResponseFormat.CBOR, () -> RESPONSE);
+    EncodedResponse smile =
+        directorsResponseCache.get(VERSION, THRESHOLD, ResponseFormat.SMILE, () -> RESPONSE);
+
+    // Then
+    assertThat(cbor.body()).isNotEqualTo(json.body()).hasSizeLessThan(json.body().length);
+    assertThat(new CBORMapper().readValue(cbor.body(), DirectorsResponseDto.class))
+        .isEqualTo(RESPONSE);
+    assertThat(new SmileMapper().readValue(smile.body(), DirectorsResponseDto.class))
+        .isEqualTo(RESPONSE);
+    assertThat(directorsResponseCache.get(VERSION, THRESHOLD, ResponseFormat.CBOR, () -> null))
+        .isSameAs(cbor);
+  }
+
+  @Test
+  void detectGzipInAcceptEncoding() {
+    assertThat(DirectorsResponseCache.acceptsGzip("gzip, deflate, br")).isTrue();
+    assertThat(DirectorsResponseCache.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+    assertThat(DirectorsResponseCache.acceptsGzip("*")).isTrue();
+    assertThat(DirectorsResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+    assertThat(DirectorsResponseCache.acceptsGzip("identity")).isFalse();
+    assertThat(DirectorsResponseCache.acceptsGzip(null)).isFalse();
+  }
+}
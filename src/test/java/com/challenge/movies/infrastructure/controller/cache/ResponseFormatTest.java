@@ -0,0 +1,30 @@
+package com.challenge.movies.infrastructure.controller.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ResponseFormatTest {
+
+  @Test
+  void pickBinaryFormatWhenClientAsksForIt() {
+    assertThat(ResponseFormat.negotiate("application/cbor")).isEqualTo(ResponseFormat.CBOR);
+    assertThat(ResponseFormat.negotiate("application/x-jackson-smile"))
+        .isEqualTo(ResponseFormat.SMILE);
+    assertThat(ResponseFormat.negotiate("application/json;q=0.5, application/cbor"))
+        .isEqualTo(ResponseFormat.CBOR);
+    assertThat(ResponseFormat.negotiate("application/x-jackson-smile, application/cbor"))
+        .isEqualTo(ResponseFormat.SMILE);
+  }
+
+  @Test
+  void fallBackToJson() {
+    assertThat(ResponseFormat.negotiate(null)).isEqualTo(ResponseFormat.JSON);
+    assertThat(ResponseFormat.negotiate("*/*")).isEqualTo(ResponseFormat.JSON);
+    assertThat(ResponseFormat.negotiate("application/*")).isEqualTo(ResponseFormat.JSON);
+    assertThat(ResponseFormat.negotiate("application/xml")).isEqualTo(ResponseFormat.JSON);
+    assertThat(ResponseFormat.negotiate("not a media type")).isEqualTo(ResponseFormat.JSON);
+    assertThat(ResponseFormat.negotiate("application/cbor;q=0.2, application/json"))
+        .isEqualTo(ResponseFormat.JSON);
+  }
+}
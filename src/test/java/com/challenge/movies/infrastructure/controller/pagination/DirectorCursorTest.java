@@ -0,0 +1,35 @@
+package com.challenge.movies.infrastructure.controller.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.challenge.movies.domain.exception.InvalidParameterException;
+
+class DirectorCursorTest {
+
+  @Test
+  void roundTripThroughOpaqueToken() {
+    // Given
+    DirectorCursor cursor = new DirectorCursor(-6_917_529_027_641_081_856L, 4, 1234);
+
+    // When
+    String token = cursor.encode();
+
+    // Then
+    assertThat(token).doesNotContain(":", "=", "+", "/");
+    assertThat(DirectorCursor.decode(token)).isEqualTo(cursor);
+  }
+
+  @Test
+  void rejectTamperedOrMalformedTokens() {
+    assertThatThrownBy(() -> DirectorCursor.decode("not base64!"))
+        .isInstanceOf(InvalidParameterException.class)
+        .hasMessage("Invalid cursor");
+    assertThatThrownBy(() -> DirectorCursor.decode("ZDE6YWJjOjQ"))
+        .isInstanceOf(InvalidParameterException.class);
+    assertThatThrownBy(() -> DirectorCursor.decode(new DirectorCursor(1L, 4, -1).encode()))
+        .isInstanceOf(InvalidParameterException.class);
+  }
+}
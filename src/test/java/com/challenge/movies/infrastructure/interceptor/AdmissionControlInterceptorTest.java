@@ -0,0 +1,205 @@
+package com.challenge.movies.infrastructure.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.challenge.movies.application.service.CatalogService;
+import com.challenge.movies.domain.model.CatalogSnapshot;
+import com.challenge.movies.domain.model.ColumnarCatalog;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionControlInterceptorTest {
+
+  private static final double QUEUE_HIGH_WATERMARK = 0.8;
+  private static final long LATENCY_THRESHOLD_MS = 5000L;
+  private static final long RETRY_AFTER_SECONDS = 5L;
+  private static final int MAX_POOL_SIZE = 10;
+  private static final int QUEUE_CAPACITY = 50;
+  private static final String REQUEST_URI = "/api/directors";
+
+  @Mock private ThreadPoolTaskExecutor moviesTaskExecutor;
+
+  @Mock private CatalogService catalogService;
+
+  private AdmissionControlInterceptor admissionControlInterceptor;
+  private HttpServletRequest request;
+  private HttpServletResponse response;
+  private Object handler;
+
+  @BeforeEach
+  void setUp() {
+    admissionControlInterceptor =
+        new AdmissionControlInterceptor(
+            moviesTaskExecutor,
+            catalogService,
+            QUEUE_HIGH_WATERMARK,
+            LATENCY_THRESHOLD_MS,
+            RETRY_AFTER_SECONDS);
+    request = mock(HttpServletRequest.class);
+    response = mock(HttpServletResponse.class);
+    handler = mock(Object.class);
+  }
+
+  @Test
+  void admitRequestWhenExecutorHasIdleWorkers() throws Exception {
+    // Given
+    when(catalogService.getWarmSnapshot()).thenReturn(Optional.empty());
+    when(moviesTaskExecutor.getActiveCount()).thenReturn(MAX_POOL_SIZE - 1);
+    when(moviesTaskExecutor.getMaxPoolSize()).thenReturn(MAX_POOL_SIZE);
+
+    // When
+    boolean result = admissionControlInterceptor.preHandle(request, response, handler);
+
+    // Then
+    assertThat(result).isTrue();
+  }
+
+  @Test
+  void admitRequestWhenWarmSnapshotIsAvailableEvenIfSaturated() throws Exception {
+    // Given
+    when(catalogService.getWarmSnapshot())
+        .thenReturn(
+            Optional.of(new CatalogSnapshot(1L, Instant.now(), 1, ColumnarCatalog.of(List.of()))));
+
+    // When
+    boolean result = admissionControlInterceptor.preHandle(request, response, handler);
+
+    // Then
+    assertThat(result).isTrue();
+  }
+
+  @Test
+  void shedRequestWithRetryAfterWhenQueueIsNearlyFull() throws Exception {
+    // Given
+    givenSaturatedExecutor();
+    when(moviesTaskExecutor.getQueueSize()).thenReturn(QUEUE_CAPACITY);
+
+    StringWriter stringWriter = new StringWriter();
+    when(request.getRequestURI()).thenReturn(REQUEST_URI);
+    when(response.getWriter()).thenReturn(new PrintWriter(stringWriter));
+
+    // When
+    boolean result = admissionControlInterceptor.preHandle(request, response, handler);
+
+    // Then
+    assertThat(result).isFalse();
+    verify(response, times(1)).setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+    verify(response, times(1))
+        .setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS));
+    assertThat(stringWriter.toString())
+        .contains("\"status\":503")
+        .contains("\"error\":\"Service Unavailable\"");
+  }
+
+  @Test
+  void admitRequestWhenWorkersBusyButQueueShortAndLatencyLow() throws Exception {
+    // Given
+    givenSaturatedExecutor();
+    when(moviesTaskExecutor.getQueueSize()).thenReturn(1);
+
+    // When
+    boolean result = admissionControlInterceptor.preHandle(request, response, handler);
+
+    // Then
+    assertThat(result).isTrue();
+  }
+
+  @Test
+  void recordLatencyOfAdmittedColdRequests() throws Exception {
+    // Given
+    when(request.getAttribute(AdmissionControlInterceptor.class.getName() + ".startNanos"))
+        .thenReturn(System.nanoTime() - 1_000_000_000L);
+
+    // When
+    admissionControlInterceptor.afterCompletion(request, response, handler, null);
+
+    // Then
+    assertThat(admissionControlInterceptor.getRecentLatencyMs()).isGreaterThan(0);
+  }
+
+  @Test
+  void skipAsyncDispatchOfAlreadyAdmittedRequest() throws Exception {
+    // Given
+    when(request.getDispatcherType()).thenReturn(DispatcherType.ASYNC);
+
+    // When
+    boolean result = admissionControlInterceptor.preHandle(request, response, handler);
+
+    // Then
+    assertThat(result).isTrue();
+    verify(catalogService, times(0)).getWarmSnapshot();
+  }
+
+  @Test
+  void leaveStreamingHandlersOutOfLatencyAverage() throws Exception {
+    // Given
+    when(catalogService.getWarmSnapshot()).thenReturn(Optional.empty());
+    when(moviesTaskExecutor.getActiveCount()).thenReturn(0);
+    when(moviesTaskExecutor.getMaxPoolSize()).thenReturn(MAX_POOL_SIZE);
+    Object sse = new HandlerMethod(new StreamingHandlers(), "changes");
+    Object ndjson = new HandlerMethod(new StreamingHandlers(), "ndjson");
+    Object json = new HandlerMethod(new StreamingHandlers(), "json");
+
+    // When
+    boolean sseAdmitted = admissionControlInterceptor.preHandle(request, response, sse);
+    boolean ndjsonAdmitted = admissionControlInterceptor.preHandle(request, response, ndjson);
+
+    // Then
+    assertThat(sseAdmitted).isTrue();
+    assertThat(ndjsonAdmitted).isTrue();
+    verify(request, never()).setAttribute(anyString(), any());
+    assertThat(AdmissionControlInterceptor.isStreaming(json)).isFalse();
+  }
+
+  private void givenSaturatedExecutor() {
+    when(catalogService.getWarmSnapshot()).thenReturn(Optional.empty());
+    when(moviesTaskExecutor.getActiveCount()).thenReturn(MAX_POOL_SIZE);
+    when(moviesTaskExecutor.getMaxPoolSize()).thenReturn(MAX_POOL_SIZE);
+    when(moviesTaskExecutor.getQueueCapacity()).thenReturn(QUEUE_CAPACITY);
+  }
+
+  static class StreamingHandlers {
+
+    public SseEmitter changes() {
+      return new SseEmitter();
+    }
+
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> ndjson() {
+      return CompletableFuture.completedFuture(ResponseEntity.ok(output -> {}));
+    }
+
+    public CompletableFuture<ResponseEntity<?>> json() {
+      return CompletableFuture.completedFuture(ResponseEntity.ok().build());
+    }
+  }
+}
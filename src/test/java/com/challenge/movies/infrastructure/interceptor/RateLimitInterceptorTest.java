@@ -1,6 +1,8 @@
 package com.challenge.movies.infrastructure.interceptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -8,16 +10,25 @@ import static org.mockito.Mockito.when;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.test.util.ReflectionTestUtils;
+
+import com.challenge.movies.domain.port.SecurityPort;
+import com.challenge.movies.infrastructure.config.RateLimitProperties;
+import com.challenge.movies.infrastructure.config.RateLimitProperties.Limit;
 
 import io.github.bucket4j.Bucket;
 
@@ -26,7 +37,13 @@ class RateLimitInterceptorTest {
 
   private static final int CAPACITY = 10;
   private static final int DURATION_MINUTES = 1;
+  private static final long MAX_CLIENTS = 100L;
+  private static final long IDLE_EXPIRY_MINUTES = 10L;
   private static final String REQUEST_URI = "/api/directors";
+  private static final String CLIENT_ID = "reporting-client";
+  private static final String OTHER_CLIENT_ID = "dashboard-client";
+
+  @Mock private SecurityPort securityPort;
 
   private RateLimitInterceptor rateLimitInterceptor;
   private HttpServletRequest request;
@@ -35,7 +52,7 @@ class RateLimitInterceptorTest {
 
   @BeforeEach
   void setUp() {
-    rateLimitInterceptor = new RateLimitInterceptor(CAPACITY, DURATION_MINUTES);
+    rateLimitInterceptor = newInterceptor(properties(Map.of(), Map.of()));
     request = mock(HttpServletRequest.class);
     response = mock(HttpServletResponse.class);
     handler = mock(Object.class);
@@ -53,7 +70,7 @@ class RateLimitInterceptorTest {
   @Test
   void returnFalseWhenRateLimitExceeded() throws Exception {
     // Given
-    Bucket bucket = (Bucket) ReflectionTestUtils.getField(rateLimitInterceptor, "bucket");
+    Bucket bucket = rateLimitInterceptor.bucketFor(request);
     bucket.tryConsume(CAPACITY);
 
     StringWriter stringWriter = new StringWriter();
@@ -81,7 +98,7 @@ class RateLimitInterceptorTest {
   @Test
   void consumeTokenWhenRequestIsAllowed() throws Exception {
     // Given
-    Bucket bucket = (Bucket) ReflectionTestUtils.getField(rateLimitInterceptor, "bucket");
+    Bucket bucket = rateLimitInterceptor.bucketFor(request);
     long availableTokensBefore = bucket.getAvailableTokens();
 
     // When
@@ -91,6 +108,8 @@ class RateLimitInterceptorTest {
     assertThat(result).isTrue();
     long availableTokensAfter = bucket.getAvailableTokens();
     assertThat(availableTokensAfter).isEqualTo(availableTokensBefore - 1);
+    verify(response, times(1))
+        .setHeader("X-Rate-Limit-Remaining", String.valueOf(availableTokensAfter));
   }
 
   @Test
@@ -131,17 +150,24 @@ class RateLimitInterceptorTest {
 
     // When
     RateLimitInterceptor customInterceptor =
-        new RateLimitInterceptor(customCapacity, customDuration);
+        newInterceptor(
+            new RateLimitProperties(
+                customCapacity,
+                customDuration,
+                MAX_CLIENTS,
+                IDLE_EXPIRY_MINUTES,
+                Map.of(),
+                Map.of()));
 
     // Then
-    Bucket bucket = (Bucket) ReflectionTestUtils.getField(customInterceptor, "bucket");
+    Bucket bucket = customInterceptor.bucketFor(request);
     assertThat(bucket.getAvailableTokens()).isEqualTo(customCapacity);
   }
 
   @Test
   void setCorrectHttpStatusAndContentTypeWhenRateLimitExceeded() throws Exception {
     // Given
-    Bucket bucket = (Bucket) ReflectionTestUtils.getField(rateLimitInterceptor, "bucket");
+    Bucket bucket = rateLimitInterceptor.bucketFor(request);
     bucket.tryConsume(CAPACITY);
 
     StringWriter stringWriter = new StringWriter();
@@ -156,5 +182,109 @@ class RateLimitInterceptorTest {
     // Then
     verify(response, times(1)).setStatus(429);
     verify(response, times(1)).setContentType("application/json");
+    verify(response, times(1)).setHeader(HttpHeaders.RETRY_AFTER, "60");
+  }
+
+  @Test
+  void keepSeparateBucketsPerClient() throws Exception {
+    // Given
+    when(securityPort.getCurrentClientId()).thenReturn(Optional.of(CLIENT_ID));
+    rateLimitInterceptor.bucketFor(request).tryConsume(CAPACITY);
+
+    // When
+    when(securityPort.getCurrentClientId()).thenReturn(Optional.of(OTHER_CLIENT_ID));
+    boolean result = rateLimitInterceptor.preHandle(request, response, handler);
+
+    // Then
+    assertThat(result).isTrue();
+  }
+
+  @Test
+  void keepSeparateBucketsPerIpWhenUnauthenticated() throws Exception {
+    // Given
+    when(request.getRemoteAddr()).thenReturn("10.0.0.1");
+    rateLimitInterceptor.bucketFor(request).tryConsume(CAPACITY);
+
+    // When
+    when(request.getRemoteAddr()).thenReturn("10.0.0.2");
+    boolean result = rateLimitInterceptor.preHandle(request, response, handler);
+
+    // Then
+    assertThat(result).isTrue();
+  }
+
+  @Test
+  void applyClientOverrideLimit() {
+    // Given
+    RateLimitInterceptor customInterceptor =
+        newInterceptor(properties(Map.of(CLIENT_ID, new Limit(100, DURATION_MINUTES)), Map.of()));
+    when(securityPort.getCurrentClientId()).thenReturn(Optional.of(CLIENT_ID));
+
+    // When
+    Bucket bucket = customInterceptor.bucketFor(request);
+
+    // Then
+    assertThat(bucket.getAvailableTokens()).isEqualTo(100);
+  }
+
+  @Test
+  void applyMostGenerousScopeLimitWhenNoClientOverride() {
+    // Given
+    RateLimitInterceptor customInterceptor =
+        newInterceptor(
+            properties(
+                Map.of(),
+                Map.of(
+                    "movies:read", new Limit(20, DURATION_MINUTES),
+                    "movies:batch", new Limit(50, DURATION_MINUTES))));
+    when(securityPort.getCurrentClientId()).thenReturn(Optional.of(CLIENT_ID));
+    when(securityPort.getCurrentScopes()).thenReturn(List.of("movies:read", "movies:batch"));
+
+    // When
+    Bucket bucket = customInterceptor.bucketFor(request);
+
+    // Then
+    assertThat(bucket.getAvailableTokens()).isEqualTo(50);
+  }
+
+  @Test
+  void chargeNothingForAsyncDispatch() throws Exception {
+    // Given
+    Bucket bucket = rateLimitInterceptor.bucketFor(request);
+    long available = bucket.getAvailableTokens();
+    when(request.getDispatcherType()).thenReturn(DispatcherType.ASYNC);
+
+    // When
+    boolean result = rateLimitInterceptor.preHandle(request, response, handler);
+
+    // Then
+    assertThat(result).isTrue();
+    assertThat(bucket.getAvailableTokens()).isEqualTo(available);
+  }
+
+  @Test
+  void allowRequestWhenBucketStoreFails() throws Exception {
+    // Given
+    BucketProvider failingProvider = mock(BucketProvider.class);
+    when(failingProvider.resolve(anyString(), any()))
+        .thenThrow(new IllegalStateException("Redis unavailable"));
+    RateLimitInterceptor failOpenInterceptor =
+        new RateLimitInterceptor(properties(Map.of(), Map.of()), securityPort, failingProvider);
+
+    // When
+    boolean result = failOpenInterceptor.preHandle(request, response, handler);
+
+    // Then
+    assertThat(result).isTrue();
+  }
+
+  private RateLimitInterceptor newInterceptor(RateLimitProperties properties) {
+    return new RateLimitInterceptor(properties, securityPort, new LocalBucketProvider(properties));
+  }
+
+  private static RateLimitProperties properties(
+      Map<String, Limit> clients, Map<String, Limit> scopes) {
+    return new RateLimitProperties(
+        CAPACITY, DURATION_MINUTES, MAX_CLIENTS, IDLE_EXPIRY_MINUTES, clients, scopes);
   }
 }
@@ -0,0 +1,88 @@
+package com.challenge.movies.infrastructure.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.challenge.movies.infrastructure.config.DistributedRateLimitProperties;
+import com.challenge.movies.infrastructure.config.RateLimitProperties;
+import com.challenge.movies.infrastructure.config.RateLimitProperties.Limit;
+
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class RedisBucketProviderTest {
+
+  private static final String KEY_PREFIX = "rate-limit:";
+  private static final String CLIENT_KEY = "client:reporting-client";
+
+  @Mock private ProxyManager<String> proxyManager;
+
+  @Mock private RemoteBucketBuilder<String> remoteBucketBuilder;
+
+  private RedisBucketProvider redisBucketProvider;
+
+  @BeforeEach
+  void setUp() {
+    RateLimitProperties properties = new RateLimitProperties(10, 1, 100, 10, Map.of(), Map.of());
+    DistributedRateLimitProperties distributedProperties =
+        new DistributedRateLimitProperties(true, KEY_PREFIX, 5, 500);
+    redisBucketProvider = new RedisBucketProvider(proxyManager, properties, distributedProperties);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void buildPrefixedProxyWithConfiguredLimit() {
+    // Given
+    BucketProxy proxy = mock(BucketProxy.class);
+    when(proxyManager.builder()).thenReturn(remoteBucketBuilder);
+    when(remoteBucketBuilder.withOptimization(any())).thenReturn(remoteBucketBuilder);
+    when(remoteBucketBuilder.build(eq(KEY_PREFIX + CLIENT_KEY), any(Supplier.class)))
+        .thenReturn(proxy);
+
+    // When
+    var bucket = redisBucketProvider.resolve(CLIENT_KEY, () -> new Limit(42, 1));
+
+    // Then
+    assertThat(bucket).isSameAs(proxy);
+    ArgumentCaptor<Supplier<BucketConfiguration>> configuration =
+        ArgumentCaptor.forClass(Supplier.class);
+    verify(remoteBucketBuilder).build(eq(KEY_PREFIX + CLIENT_KEY), configuration.capture());
+    assertThat(configuration.getValue().get().getBandwidths()[0].getCapacity()).isEqualTo(42);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void reuseProxySoPrefetchedTokensStayLocal() {
+    // Given
+    BucketProxy proxy = mock(BucketProxy.class);
+    when(proxyManager.builder()).thenReturn(remoteBucketBuilder);
+    when(remoteBucketBuilder.withOptimization(any())).thenReturn(remoteBucketBuilder);
+    when(remoteBucketBuilder.build(eq(KEY_PREFIX + CLIENT_KEY), any(Supplier.class)))
+        .thenReturn(proxy);
+
+    // When
+    redisBucketProvider.resolve(CLIENT_KEY, () -> new Limit(10, 1));
+    redisBucketProvider.resolve(CLIENT_KEY, () -> new Limit(10, 1));
+
+    // Then
+    verify(proxyManager, times(1)).builder();
+  }
+}